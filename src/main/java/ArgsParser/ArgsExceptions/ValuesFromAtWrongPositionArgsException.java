@@ -0,0 +1,13 @@
+package ArgsParser.ArgsExceptions;
+
+import ArgsParser.ArgsException;
+
+/**
+ * Exception to be thrown if --values-from is not placed directly behind the flag of a parameter
+ * that can read its values from a file.
+ */
+public class ValuesFromAtWrongPositionArgsException extends ArgsException {
+    public ValuesFromAtWrongPositionArgsException() {
+        super("use --values-from directly behind the flag of a numeric array parameter!", true);
+    }
+}
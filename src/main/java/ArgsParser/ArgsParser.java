@@ -9,7 +9,9 @@ For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
 
 import ArgsParser.ArgsExceptions.*;
 
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Class, to parse arguments given in the command line, the tool checks for several conditions:
@@ -61,13 +63,28 @@ import java.util.*;
  */
 public class ArgsParser {
 
+    private static final String VALUES_FROM_FLAG = "--values-from";
+    private static final String EXPLAIN_PARSE_FLAG = "--explain-parse";
+    private static final int DEFAULT_TRACE_CAPACITY = 256;
+
+    // definitions, only changed while holding the lock of this parser and read by parses through a Specification
     private final Map<String, Parameter<?>> parameterMap = new HashMap<>();
     private final Map<String, Command> commandMap = new HashMap<>();
     private final Set<Parameter<?>> mandatoryParameters = new HashSet<>();
-    private final Set<String> arrayParameters = new HashSet<>();
-    private final LinkedList<Command[]> toggleList = new LinkedList<>();
+    private final List<Command[]> toggleList = new ArrayList<>();
     private final LinkedList<String> commandsInDefinitionOrder = new LinkedList<>();
     private final LinkedList<String> flagsInDefinitionOrder = new LinkedList<>();
+    private ParseResult result = null; // created for the specification of the first parse
+    private ConversionMemo conversionMemo = null;
+    private ConversionMemo activeMemo = null; // only set while parseIncremental runs
+    private volatile ParserMetrics metrics = null;
+    private ParseTrace trace = null;
+    private ParseTrace explanation = null; // trace of the last parse started with --explain-parse
+    private LongAdder countedParses = null; // only set while usage counters are enabled
+    private FlagIndex flagIndex = new FlagIndex();
+    private volatile Specification specification = null; // snapshot of the definitions, null after every change
+    private Specification parsedSpecification = null; // only read by the running parse
+    private volatile Map<String, LazyProvider> pendingProviders = Map.of(); // by declared name, copied on change
     private String programDescription = "";
     protected boolean parseArgsWasCalled = false;
     private int longestFullFlagSize = 0;
@@ -131,8 +148,10 @@ public class ArgsParser {
      * @return flag in the correct format (e.g. --flag or -f)
      */
     protected static String makeFlag(String flag, boolean isShortName) {
-        flag = flag.replaceFirst("^-+", "");
-        return isShortName ? "-" + flag : "--" + flag;
+        int start = 0;
+        while (start < flag.length() && flag.charAt(start) == '-') start++;
+        if (start == (isShortName ? 1 : 2)) return flag; // already in the right form
+        return (isShortName ? "-" : "--").concat(flag.substring(start));
     }
 
     /**
@@ -142,8 +161,9 @@ public class ArgsParser {
      * </p>
      * <ul>
      *     <li><b>Are not empty:</b> Both full and short flag names must be non-empty strings.</li>
-     *     <li><b>Are unique:</b> Neither flag name must already exist in the {@code parameterMap}.</li>
-     *     <li><b>Are not reserved:</b> Reserved flag names such as `--help`, `--h`, `-h`, and `-help` cannot be used.</li>
+     *     <li><b>Are unique:</b> Neither flag name must already exist in the {@code parameterMap} or be declared by a
+     *     {@link ParameterProvider} that did not contribute yet.</li>
+     *     <li><b>Are not reserved:</b> Reserved flag names such as `--help`, `--h`, `-h`, `-help`, `--values-from` and `--explain-parse` cannot be used.</li>
      * </ul>
      * <p>
      * If any of these conditions are violated, an {@link IllegalArgumentException} will be thrown.
@@ -160,8 +180,8 @@ public class ArgsParser {
      * @throws IllegalArgumentException if:
      *         <ul>
      *             <li>Either flag name is empty.</li>
-     *             <li>Either flag name already exists in {@code parameterMap}.</li>
-     *             <li>Either flag name matches a reserved flag (`--help`, `--h`, `-h`, `-help`).</li>
+     *             <li>Either flag name already exists in {@code parameterMap} or is declared by a provider.</li>
+     *             <li>Either flag name matches a reserved flag (`--help`, `--h`, `-h`, `-help`, `--values-from`, `--explain-parse`).</li>
      *         </ul>
      */
     protected void checkReservedFlags(String fullVersion, String shortVersion) {
@@ -174,10 +194,20 @@ public class ArgsParser {
         if (parameterMap.containsKey(shortVersion)) {
             throw new IllegalArgumentException("Flag already exists: " + shortVersion);
         }
+        if (pendingProviders.containsKey(fullVersion) || pendingProviders.containsKey(shortVersion)) {
+            throw new IllegalArgumentException("Flag is declared by a provider: " +
+                                               (pendingProviders.containsKey(fullVersion) ? fullVersion : shortVersion));
+        }
         if (fullVersion.equals("--help") || fullVersion.equals("--h") ||
                 shortVersion.equals("-h") || shortVersion.equals("-help")) {
             throw new IllegalArgumentException("--help/-h is reserved!");
         }
+        if (fullVersion.equals(VALUES_FROM_FLAG) || shortVersion.equals(VALUES_FROM_FLAG)) {
+            throw new IllegalArgumentException(VALUES_FROM_FLAG + " is reserved!");
+        }
+        if (fullVersion.equals(EXPLAIN_PARSE_FLAG) || shortVersion.equals(EXPLAIN_PARSE_FLAG)) {
+            throw new IllegalArgumentException(EXPLAIN_PARSE_FLAG + " is reserved!");
+        }
     }
 
     /**
@@ -223,13 +253,17 @@ public class ArgsParser {
      *     <li>Keeps track of the flag's length for consistent help text formatting.</li>
      *     <li>Registers the parameter in mandatory or array-specific sets if applicable.</li>
      * </ul>
+     * <p>
+     * Parameters can be added while another thread parses, e.g. by plugins loaded at runtime. A running parse does
+     * not see the new parameter, the next parse does.
+     * </p>
      *
      * @param <T> The type of the parameter being added, extending {@link Parameter}.
      * @param parameter The parameter object to be added to the parser.
      * @return The same parameter instance that was added.
      * @throws IllegalArgumentException If the flag names are empty, duplicate, or reserved.
      */
-    public <T extends Parameter<?>> T addParameter(T parameter) {
+    public synchronized <T extends Parameter<?>> T addParameter(T parameter) {
 
         // check if the flag names are already used / empty or reserved
         checkReservedFlags(parameter.getFullFlag(), parameter.getShortFlag());
@@ -240,6 +274,8 @@ public class ArgsParser {
         // add parameter to parameterMap
         parameterMap.put(parameter.getFullFlag(), parameter);
         parameterMap.put(parameter.getShortFlag(), parameter);
+        flagIndex.put(parameter.getFullFlag(), parameter);
+        flagIndex.put(parameter.getShortFlag(), parameter);
 
         // add fullFlag to definition order
         flagsInDefinitionOrder.add(parameter.getFullFlag());
@@ -247,15 +283,20 @@ public class ArgsParser {
         // add this parser to the parameter for .parseWasCalled() check
         parameter.setParser(this);
 
-        // add parameter to arrayParameters if isArray
-        if (parameter.isArray()) {
-            arrayParameters.add(parameter.getFullFlag());
-            arrayParameters.add(parameter.getShortFlag());
-        }
+        // assign the ordinal of the parameter, it is bound to a result by the first parse that knows it
+        parameter.bind(null, flagsInDefinitionOrder.size() - 1);
 
         // add to mandatory parameters if parameter is mandatory
         if (parameter.isMandatory()) mandatoryParameters.add(parameter);
 
+        // assign the abbreviation of custom types for the help now instead of while rendering it
+        TypeAbbreviations.of(parameter.getType());
+
+        if (countedParses != null) parameter.enableUsageCounter();
+
+        // the next parse takes a new snapshot of the definitions
+        specification = null;
+
         return parameter;
     }
 
@@ -268,7 +309,7 @@ public class ArgsParser {
      * @return The added {@link Command} object.
      * @throws IllegalArgumentException If the fullCommandName or shortCommandName are already defined, empty, or reserved (--help/-h)
      */
-    public Command addCommand(Command command) {
+    public synchronized Command addCommand(Command command) {
 
         // check for reserved flags
         checkReservedFlags(command.getFullCommandName(), command.getShortCommandName());
@@ -286,6 +327,14 @@ public class ArgsParser {
         // add this parser to the command for .parseWasCalled() check
         command.setArgsParser(this);
 
+        // assign the ordinal of the command, it is bound to a result by the first parse that knows it
+        command.bind(null, commandsInDefinitionOrder.size() - 1);
+
+        if (countedParses != null) command.enableUsageCounter();
+
+        // the next parse takes a new snapshot of the definitions
+        specification = null;
+
         return command;
     }
 
@@ -295,13 +344,14 @@ public class ArgsParser {
      * This means that this method prevents the combination of given commands!
      * @param commands commands that cannot be combined
      */
-    public void toggle(Command... commands) {
+    public synchronized void toggle(Command... commands) {
         if (commands.length <= 1) throw new IllegalArgumentException("Must specify at least two commands in one toggle!");
         if (!hasUniqueElements(commands)) throw new IllegalArgumentException("Commands have to be unique, no duplications allowed!");
         toggleList.add(commands);
         for (Command command : commands) {
             command.setToggle(commands);
         }
+        specification = null;
     }
 
     /**
@@ -320,6 +370,138 @@ public class ArgsParser {
     }
 
 
+    // providers
+
+
+    /**
+     * Discovers the {@link ParameterProvider}s of the context class loader of the current thread, see
+     * {@link #addProviders(ClassLoader)}.
+     *
+     * @return the number of discovered providers
+     * @throws IllegalArgumentException if a provider declares a flag or command that is already defined, reserved or
+     * declared by another provider
+     */
+    public int addProviders() throws IllegalArgumentException {
+        return addProviders(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Discovers the {@link ParameterProvider}s visible to the given class loader with {@link ServiceLoader}.
+     * <p>
+     * Providers annotated with {@link Provides} are not created yet: a provider is created and adds its parameters
+     * and commands at the first parse whose arguments contain one of its declared flags or commands (also as
+     * {@code --flag=value} or inside a short flag cluster), or ask for the help, which creates all providers.
+     * Until then, the declared names cannot be used by other parameters or commands. Providers without the
+     * annotation are created right away.
+     * </p>
+     *
+     * @param classLoader the class loader to find the providers with, or null for the system class loader
+     * @return the number of discovered providers
+     * @throws IllegalArgumentException if a provider declares a flag or command that is already defined, reserved or
+     * declared by another provider, no provider is added in that case
+     */
+    public synchronized int addProviders(ClassLoader classLoader) throws IllegalArgumentException {
+        Map<String, LazyProvider> pending = new LinkedHashMap<>(pendingProviders);
+        List<ServiceLoader.Provider<ParameterProvider>> eager = new ArrayList<>();
+        List<ServiceLoader.Provider<ParameterProvider>> providers =
+                ServiceLoader.load(ParameterProvider.class, classLoader).stream().toList();
+
+        for (ServiceLoader.Provider<ParameterProvider> provider : providers) {
+            Provides provides = provider.type().getAnnotation(Provides.class);
+            if (provides == null) {
+                eager.add(provider);
+                continue;
+            }
+            LazyProvider lazy = new LazyProvider(provider, provides);
+            for (String flag : lazy.flags()) claim(pending, flag, lazy);
+            for (String command : lazy.commands()) claim(pending, command, lazy);
+        }
+
+        pendingProviders = Collections.unmodifiableMap(pending);
+        for (ServiceLoader.Provider<ParameterProvider> provider : eager) provider.get().contribute(this);
+        return providers.size();
+    }
+
+    /**
+     * Reserves a declared flag or command name for a provider.
+     *
+     * @param pending the names reserved so far
+     * @param name the declared name
+     * @param provider the declaring provider
+     * @throws IllegalArgumentException if the name is already defined, reserved or declared by another provider
+     */
+    private void claim(Map<String, LazyProvider> pending, String name, LazyProvider provider) throws IllegalArgumentException {
+        checkReservedFlags(name, name);
+        if (commandMap.containsKey(name)) throw new IllegalArgumentException("Command already exists: " + name);
+        LazyProvider previous = pending.putIfAbsent(name, provider);
+        if (previous != null) {
+            throw new IllegalArgumentException(name + " is declared by " + previous + " and " + provider);
+        }
+    }
+
+    /**
+     * Lets all providers add their parameters and commands that are needed to parse the given arguments, which are
+     * the providers of the flags and commands in args or all providers if the help is requested.
+     * Without pending providers, only a single field is read.
+     *
+     * @param args the arguments of the next parse
+     */
+    private void provideFor(String[] args) {
+        Map<String, LazyProvider> pending = pendingProviders;
+        if (pending.isEmpty() || args == null) return;
+
+        Set<LazyProvider> needed = new HashSet<>();
+        for (String arg : args) {
+            if (isHelpFlag(arg)) {
+                needed.addAll(pending.values());
+                break;
+            }
+            LazyProvider provider = pending.get(arg);
+            if (provider != null) needed.add(provider);
+            if (!arg.startsWith("-")) continue;
+
+            int separator = arg.indexOf('=');
+            if (separator > 1) {
+                provider = pending.get(arg.substring(0, separator));
+                if (provider != null) needed.add(provider);
+            } else if (separator < 0 && arg.length() > 2 && arg.charAt(1) != '-') {
+                for (int i = 1; i < arg.length(); i++) {
+                    provider = pending.get("-" + arg.charAt(i));
+                    if (provider != null) needed.add(provider);
+                }
+            }
+        }
+        if (!needed.isEmpty()) contribute(needed);
+    }
+
+    /**
+     * Lets the given providers add their parameters and commands, in the order they were discovered.
+     *
+     * A provider that fails keeps its declared names, so every later parse that needs it fails as well.
+     *
+     * @param providers the providers to create
+     * @throws IllegalStateException if a provider did not add all declared flags and commands or failed before
+     */
+    private synchronized void contribute(Set<LazyProvider> providers) throws IllegalStateException {
+        for (LazyProvider provider : new LinkedHashSet<>(pendingProviders.values())) {
+            if (!providers.contains(provider)) continue;
+
+            // release the declared names, so the provider can add them
+            Map<String, LazyProvider> declared = new LinkedHashMap<>(pendingProviders);
+            Map<String, LazyProvider> pending = new LinkedHashMap<>(declared);
+            pending.values().removeIf(declaring -> declaring == provider);
+            pendingProviders = Collections.unmodifiableMap(pending);
+
+            try {
+                provider.contribute(this);
+            } catch (RuntimeException | ServiceConfigurationError e) {
+                pendingProviders = Collections.unmodifiableMap(declared);
+                throw e;
+            }
+        }
+    }
+
+
     // parsing functions
 
 
@@ -333,18 +515,25 @@ public class ArgsParser {
      *
      * If an ArgsException is thrown, its message is printed to the
      * standard output and the application exits with a status code of 1.
+     *
+     * If the first argument is {@code --explain-parse}, the {@link ParseTrace} of the remaining arguments is
+     * printed to the standard output before.
      * @throws IllegalArgumentException if args is null
      */
     public void parse(String[] args) throws IllegalArgumentException {
+        boolean explain = args != null && args.length > 0 && EXPLAIN_PARSE_FLAG.equals(args[0]);
 
         try {
             parseUnchecked(args);
+            if (explain) System.out.println(explanation.dump());
 
         } catch (CalledForHelpNotification help) {
+            if (explain) System.out.println(explanation.dump());
             System.out.println(help.getMessage());
             System.exit(0);
 
         } catch (ArgsException e) {
+            if (explain) System.out.println(explanation.dump());
             System.out.println(e.getMessage());
             System.exit(1);
         }
@@ -370,25 +559,375 @@ public class ArgsParser {
      * @throws HelpAtWrongPositionArgsException if the help argument is positioned incorrectly.
      * @throws IllegalArgumentException if args is null
      * @throws NotExistingPathArgsException if a PthParameter with pathCheck was handed a non-existing path
+     * @throws ValuesFromAtWrongPositionArgsException if --values-from does not directly follow a numeric array flag
      */
     public void parseUnchecked(String[] args) throws NoArgumentsProvidedArgsException, UnknownFlagArgsException,
             TooManyArgumentsArgsException, MissingArgArgsException, MandatoryArgNotProvidedArgsException,
             CalledForHelpNotification, InvalidArgTypeArgsException, IllegalStateException,
             FlagAlreadyProvidedArgsException, HelpAtWrongPositionArgsException,
-            IllegalArgumentException, ToggleArgsException, NotExistingPathArgsException {
+            IllegalArgumentException, ToggleArgsException, NotExistingPathArgsException,
+            ValuesFromAtWrongPositionArgsException {
 
         if (args == null) throw new IllegalArgumentException("Args cannot be null!");
         if(parseArgsWasCalled) throw new IllegalStateException(".parse() was already called!");
 
+        provideFor(args);
+        Specification spec = specification();
+        fitResult(spec);
+        parseUnchecked(spec, args);
+    }
+
+    /**
+     * Parses the arguments into the current result, reading only the given snapshot of the definitions.
+     *
+     * @param spec the snapshot the current result was created for
+     * @param args the arguments to parse
+     */
+    private void parseUnchecked(Specification spec, String[] args) throws NoArgumentsProvidedArgsException,
+            UnknownFlagArgsException, TooManyArgumentsArgsException, MissingArgArgsException,
+            MandatoryArgNotProvidedArgsException, CalledForHelpNotification, InvalidArgTypeArgsException,
+            FlagAlreadyProvidedArgsException, HelpAtWrongPositionArgsException, ToggleArgsException,
+            NotExistingPathArgsException, ValuesFromAtWrongPositionArgsException {
+
+        parsedSpecification = spec;
         parseArgsWasCalled = true;
+        publishResult();
+
+        ParseTrace enabledTrace = trace;
+        if (args.length > 0 && EXPLAIN_PARSE_FLAG.equals(args[0])) {
+            args = Arrays.copyOfRange(args, 1, args.length);
+            // a trace of its own, so the explanation holds only this parse and the following parses are not traced
+            trace = new ParseTrace(DEFAULT_TRACE_CAPACITY);
+            explanation = trace;
+        }
+        if (trace != null) trace.beginParse();
+
+        ParseEvent event = FlightRecording.isRunning() ? ParseEvent.startIfEnabled(args.length) : null;
+        ParserMetrics parseMetrics = metrics;
+        long start = parseMetrics != null ? System.nanoTime() : 0;
+        Exception failure = null;
+        try {
+            checkIfAnyArgumentsProvided(args);
+            if (args.length > 0) {
+                checkForHelpCall(args);
+                parseArguments(args);
+                checkMandatoryArguments();
+                checkToggles();
+            }
+            if (countedParses != null) {
+                countedParses.increment();
+                result.countUsage();
+            }
+        } catch (ArgsException | CalledForHelpNotification | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (parseMetrics != null) parseMetrics.recordParse(System.nanoTime() - start, failure);
+            if (event != null) commitParseEvent(event, failure == null ? "success" : failure.getClass().getSimpleName());
+            trace = enabledTrace;
+        }
+    }
+
+    private void commitParseEvent(ParseEvent event, String outcome) {
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.parameterCount = result.size();
+        for (int i = 0; i < result.size(); i++) {
+            if (result.parameterAt(i).isProvided()) event.providedCount++;
+        }
+        event.outcome = outcome;
+        event.commit();
+    }
+
+    /**
+     * Parses command-line arguments like {@link ArgsParser#parseUnchecked(String[] args)} but caches the result of a
+     * successful parse as compact binary snapshot inside the given directory.
+     * <p>
+     * Snapshots are keyed by a hash of this parsers specification and the provided args. If a matching snapshot
+     * exists, the already converted arguments are read back from it (memory-mapped), which skips all conversions
+     * and {@code pathCheck} I/O of a repeated launch with identical arguments.
+     * A snapshot is ignored and rewritten if the modification time of any path referenced by it changed.
+     * Parses that end in an {@link ArgsException} or {@link CalledForHelpNotification} are never cached.
+     * </p>
+     *
+     * @param args The main-methods String[] args array that holds the Strings coming from the command-line.
+     * @param cacheDirectory directory in which the snapshots are stored, it is created if it does not exist
+     * @throws NoArgumentsProvidedArgsException if no command-line arguments are provided.
+     * @throws UnknownFlagArgsException if an unknown flag is encountered in the arguments.
+     * @throws TooManyArgumentsArgsException if too many arguments are provided.
+     * @throws MissingArgArgsException if an expected argument is missing.
+     * @throws MandatoryArgNotProvidedArgsException if a mandatory argument is not provided.
+     * @throws CalledForHelpNotification if the argument for help (-help or --help) is included.
+     * @throws InvalidArgTypeArgsException if an argument is of invalid type.
+     * @throws IllegalStateException if the .parse() method is called more than once.
+     * @throws FlagAlreadyProvidedArgsException if a flag is provided more than once.
+     * @throws HelpAtWrongPositionArgsException if the help argument is positioned incorrectly.
+     * @throws IllegalArgumentException if args or cacheDirectory is null
+     * @throws NotExistingPathArgsException if a PthParameter with pathCheck was handed a non-existing path
+     * @throws ValuesFromAtWrongPositionArgsException if --values-from does not directly follow a numeric array flag
+     */
+    public void parseCached(String[] args, Path cacheDirectory) throws NoArgumentsProvidedArgsException,
+            UnknownFlagArgsException, TooManyArgumentsArgsException, MissingArgArgsException,
+            MandatoryArgNotProvidedArgsException, CalledForHelpNotification, InvalidArgTypeArgsException,
+            IllegalStateException, FlagAlreadyProvidedArgsException, HelpAtWrongPositionArgsException,
+            IllegalArgumentException, ToggleArgsException, NotExistingPathArgsException,
+            ValuesFromAtWrongPositionArgsException {
+
+        if (args == null) throw new IllegalArgumentException("Args cannot be null!");
+        if (cacheDirectory == null) throw new IllegalArgumentException("Cache directory cannot be null!");
+        if (parseArgsWasCalled) throw new IllegalStateException(".parse() was already called!");
+
+        provideFor(args);
+        Specification spec = specification();
+        fitResult(spec);
+        ParseSnapshot snapshot = new ParseSnapshot(spec.parameters, spec.commands, spec.toggles);
+        Path snapshotFile = cacheDirectory.resolve(snapshot.fileName(args));
+
+        if (snapshot.restore(snapshotFile, args)) {
+            parseArgsWasCalled = true;
+            publishResult();
+            return;
+        }
+
+        parseUnchecked(spec, args);
+        snapshot.write(snapshotFile, args);
+    }
+
+    /**
+     * Parses the given arguments into a new {@link ParseResult} and returns it. Unlike
+     * {@link ArgsParser#parseUnchecked(String[] args)} this method can be called any number of times on the same
+     * parser, so one specification can serve many command lines, e.g. inside a {@link Repl}.
+     * <p>
+     * Each call starts from a result that holds only the default values. Afterwards all parameter handles, commands
+     * and accessors of this parser read from the new result, while results returned by earlier calls keep their
+     * values.
+     * </p>
+     * Parsing is not thread safe, concurrent calls of this method have to be synchronized externally. Parameters and
+     * commands can be added from other threads at any time though, each call parses against the definitions that
+     * existed when it started.
+     *
+     * @param args the arguments to parse
+     * @return the result holding the parsed arguments
+     * @throws NoArgumentsProvidedArgsException if no command-line arguments are provided.
+     * @throws UnknownFlagArgsException if an unknown flag is encountered in the arguments.
+     * @throws TooManyArgumentsArgsException if too many arguments are provided.
+     * @throws MissingArgArgsException if an expected argument is missing.
+     * @throws MandatoryArgNotProvidedArgsException if a mandatory argument is not provided.
+     * @throws CalledForHelpNotification if the argument for help (-help or --help) is included.
+     * @throws InvalidArgTypeArgsException if an argument is of invalid type.
+     * @throws FlagAlreadyProvidedArgsException if a flag is provided more than once.
+     * @throws HelpAtWrongPositionArgsException if the help argument is positioned incorrectly.
+     * @throws IllegalArgumentException if args is null
+     * @throws NotExistingPathArgsException if a PthParameter with pathCheck was handed a non-existing path
+     * @throws ValuesFromAtWrongPositionArgsException if --values-from does not directly follow a numeric array flag
+     */
+    public ParseResult parseFresh(String[] args) throws NoArgumentsProvidedArgsException, UnknownFlagArgsException,
+            TooManyArgumentsArgsException, MissingArgArgsException, MandatoryArgNotProvidedArgsException,
+            CalledForHelpNotification, InvalidArgTypeArgsException, FlagAlreadyProvidedArgsException,
+            HelpAtWrongPositionArgsException, IllegalArgumentException, ToggleArgsException,
+            NotExistingPathArgsException, ValuesFromAtWrongPositionArgsException {
+
+        provideFor(args);
+        Specification spec = specification();
+        return parseInto(spec, spec.newResult(this), args);
+    }
+
+    /**
+     * Creates an empty result for the parameters and commands of this parser, holding only the default values.
+     * Results can be filled with {@link ArgsParser#parseInto(ParseResult, String[])}, e.g. to keep a pool of results.
+     * Parameters and commands added to this parser later are not part of the result.
+     *
+     * @return a new, empty result
+     */
+    public ParseResult newResult() {
+        return specification().newResult(this);
+    }
+
+    /**
+     * Parses the given arguments into the given result, which is {@link ParseResult#reset() reset} before. Like
+     * {@link ArgsParser#parseFresh(String[] args)} this can be called any number of times, but no new result is
+     * created: the arrays of the result keep their capacity and steady-state parsing of command lines without
+     * array parameters allocates nothing besides the converted arguments (e.g. boxed numbers outside of the
+     * JDK box caches or Paths).
+     * <p>
+     * Afterwards all parameter handles, commands and accessors of this parser read from the given result.
+     * </p>
+     *
+     * @param target a result created by {@link #newResult()} of this parser, or returned by one of its parse methods
+     * @param args the arguments to parse
+     * @return the given result holding the parsed arguments
+     * @throws NoArgumentsProvidedArgsException if no command-line arguments are provided.
+     * @throws UnknownFlagArgsException if an unknown flag is encountered in the arguments.
+     * @throws TooManyArgumentsArgsException if too many arguments are provided.
+     * @throws MissingArgArgsException if an expected argument is missing.
+     * @throws MandatoryArgNotProvidedArgsException if a mandatory argument is not provided.
+     * @throws CalledForHelpNotification if the argument for help (-help or --help) is included.
+     * @throws InvalidArgTypeArgsException if an argument is of invalid type.
+     * @throws FlagAlreadyProvidedArgsException if a flag is provided more than once.
+     * @throws HelpAtWrongPositionArgsException if the help argument is positioned incorrectly.
+     * @throws IllegalArgumentException if args is null or the result does not belong to this parser or is
+     * {@link ParseResult#isReadOnly() read-only}
+     * @throws NotExistingPathArgsException if a PthParameter with pathCheck was handed a non-existing path
+     * @throws ValuesFromAtWrongPositionArgsException if --values-from does not directly follow a numeric array flag
+     */
+    public ParseResult parseInto(ParseResult target, String[] args) throws NoArgumentsProvidedArgsException,
+            UnknownFlagArgsException, TooManyArgumentsArgsException, MissingArgArgsException,
+            MandatoryArgNotProvidedArgsException, CalledForHelpNotification, InvalidArgTypeArgsException,
+            FlagAlreadyProvidedArgsException, HelpAtWrongPositionArgsException, IllegalArgumentException,
+            ToggleArgsException, NotExistingPathArgsException, ValuesFromAtWrongPositionArgsException {
+
+        provideFor(args);
+        Specification spec = specification();
+        if (target == null || !target.belongsTo(this) || !spec.fits(target)) {
+            throw new IllegalArgumentException("The result was not created by this parser or misses parameters added later!");
+        }
+        if (target.isReadOnly()) throw new IllegalArgumentException("The result is read-only!");
+        return parseInto(spec, target, args);
+    }
+
+    /**
+     * Resets the given result, binds all parameters and commands to it and parses the arguments into it.
+     *
+     * @param spec the snapshot the result was created for
+     * @param target the result to fill
+     * @param args the arguments to parse
+     * @return the given result
+     */
+    private ParseResult parseInto(Specification spec, ParseResult target, String[] args)
+            throws NoArgumentsProvidedArgsException, UnknownFlagArgsException, TooManyArgumentsArgsException,
+            MissingArgArgsException, MandatoryArgNotProvidedArgsException, CalledForHelpNotification,
+            InvalidArgTypeArgsException, FlagAlreadyProvidedArgsException, HelpAtWrongPositionArgsException,
+            ToggleArgsException, NotExistingPathArgsException, ValuesFromAtWrongPositionArgsException {
+
+        if (args == null) throw new IllegalArgumentException("Args cannot be null!");
+
+        target.reset();
+        target.bindAll();
+        result = target;
+
+        parseArgsWasCalled = false;
+        parseUnchecked(spec, args);
+        return target;
+    }
+
+    /**
+     * Parses the given arguments into the result of the previous parse, see
+     * {@link ArgsParser#parseInto(ParseResult, String[])}. The values of the previous parse are lost. If parameters
+     * or commands were added since the previous parse or its result is {@link ParseResult#isReadOnly() read-only},
+     * a new result is used.
+     *
+     * @param args the arguments to parse
+     * @return the reused result holding the parsed arguments
+     * @throws NoArgumentsProvidedArgsException if no command-line arguments are provided.
+     * @throws UnknownFlagArgsException if an unknown flag is encountered in the arguments.
+     * @throws TooManyArgumentsArgsException if too many arguments are provided.
+     * @throws MissingArgArgsException if an expected argument is missing.
+     * @throws MandatoryArgNotProvidedArgsException if a mandatory argument is not provided.
+     * @throws CalledForHelpNotification if the argument for help (-help or --help) is included.
+     * @throws InvalidArgTypeArgsException if an argument is of invalid type.
+     * @throws FlagAlreadyProvidedArgsException if a flag is provided more than once.
+     * @throws HelpAtWrongPositionArgsException if the help argument is positioned incorrectly.
+     * @throws IllegalArgumentException if args is null
+     * @throws NotExistingPathArgsException if a PthParameter with pathCheck was handed a non-existing path
+     * @throws ValuesFromAtWrongPositionArgsException if --values-from does not directly follow a numeric array flag
+     */
+    public ParseResult parseReusing(String[] args) throws NoArgumentsProvidedArgsException, UnknownFlagArgsException,
+            TooManyArgumentsArgsException, MissingArgArgsException, MandatoryArgNotProvidedArgsException,
+            CalledForHelpNotification, InvalidArgTypeArgsException, FlagAlreadyProvidedArgsException,
+            HelpAtWrongPositionArgsException, IllegalArgumentException, ToggleArgsException,
+            NotExistingPathArgsException, ValuesFromAtWrongPositionArgsException {
+
+        provideFor(args);
+        Specification spec = specification();
+        boolean reusable = spec.fits(result) && !result.isReadOnly();
+        return parseInto(spec, reusable ? result : spec.newResult(this), args);
+    }
+
+    /**
+     * Parses the given arguments into a new {@link ParseResult} like {@link ArgsParser#parseFresh(String[] args)}, but
+     * carries over the converted arguments of the previous call of this method for all parameters whose value tokens
+     * did not change. Only parameters with new or changed values run {@code castArgument} and path checks again,
+     * the structure of the whole command line (unknown flags, missing arguments, mandatory parameters, toggles, ...)
+     * is validated on every call.
+     * <p>
+     * This is meant for interactive and watch modes, where consecutive command lines usually differ in a few tokens.
+     * Note that a carried over path is not checked against the file system again. Values read with
+     * {@code --values-from} are always read again. Only successful parses are remembered.
+     * </p>
+     *
+     * @param args the arguments to parse
+     * @return the result holding the parsed arguments
+     * @throws NoArgumentsProvidedArgsException if no command-line arguments are provided.
+     * @throws UnknownFlagArgsException if an unknown flag is encountered in the arguments.
+     * @throws TooManyArgumentsArgsException if too many arguments are provided.
+     * @throws MissingArgArgsException if an expected argument is missing.
+     * @throws MandatoryArgNotProvidedArgsException if a mandatory argument is not provided.
+     * @throws CalledForHelpNotification if the argument for help (-help or --help) is included.
+     * @throws InvalidArgTypeArgsException if an argument is of invalid type.
+     * @throws FlagAlreadyProvidedArgsException if a flag is provided more than once.
+     * @throws HelpAtWrongPositionArgsException if the help argument is positioned incorrectly.
+     * @throws IllegalArgumentException if args is null
+     * @throws NotExistingPathArgsException if a PthParameter with pathCheck was handed a non-existing path
+     * @throws ValuesFromAtWrongPositionArgsException if --values-from does not directly follow a numeric array flag
+     */
+    public ParseResult parseIncremental(String[] args) throws NoArgumentsProvidedArgsException, UnknownFlagArgsException,
+            TooManyArgumentsArgsException, MissingArgArgsException, MandatoryArgNotProvidedArgsException,
+            CalledForHelpNotification, InvalidArgTypeArgsException, FlagAlreadyProvidedArgsException,
+            HelpAtWrongPositionArgsException, IllegalArgumentException, ToggleArgsException,
+            NotExistingPathArgsException, ValuesFromAtWrongPositionArgsException {
+
+        provideFor(args);
+        Specification spec = specification();
+        if (conversionMemo == null) conversionMemo = new ConversionMemo();
+        conversionMemo.begin(spec.parameters.size());
+        activeMemo = conversionMemo;
+        try {
+            ParseResult parsed = parseInto(spec, spec.newResult(this), args);
+            conversionMemo.commit();
+            return parsed;
+        } finally {
+            activeMemo = null;
+        }
+    }
+
+    /**
+     * Returns the snapshot of the definitions of this parser. A new snapshot is only taken after a definition was
+     * added, reading an up-to-date snapshot does not lock.
+     *
+     * @return the current snapshot
+     */
+    private Specification specification() {
+        Specification current = specification;
+        return current != null ? current : takeSpecification();
+    }
 
-        checkIfAnyArgumentsProvided(args);
-        if (args.length > 0) {
-            checkForHelpCall(args);
-            Set<Parameter<?>> givenParameters = parseArguments(args);
-            checkMandatoryArguments(givenParameters);
-            checkToggles();
+    private synchronized Specification takeSpecification() {
+        if (specification == null) {
+            specification = new Specification(parameterMap, commandMap, flagsInDefinitionOrder,
+                                              commandsInDefinitionOrder, mandatoryParameters, toggleList, flagIndex,
+                                              longestFullFlagSize, longestShortFlagSize);
         }
+        return specification;
+    }
+
+    /**
+     * Replaces the current result by a new one if it was created for other definitions than the given snapshot or
+     * is read-only.
+     *
+     * @param spec the snapshot the next parse reads
+     */
+    private void fitResult(Specification spec) {
+        if (spec.fits(result) && !result.isReadOnly()) return;
+        result = spec.newResult(this);
+        result.bindAll();
+    }
+
+    /**
+     * Publishes the argument storage to all parameters, so that reading an argument only checks that the
+     * storage was published instead of asking this parser whether parse was called.
+     */
+    private void publishResult() {
+        for (int i = 0; i < result.size(); i++) result.parameterAt(i).publish();
     }
 
     /**
@@ -398,7 +937,7 @@ public class ArgsParser {
      * @throws NoArgumentsProvidedArgsException if no arguments were provided in args
      */
     private void checkIfAnyArgumentsProvided(String[] args) throws NoArgumentsProvidedArgsException {
-        if (args.length == 0 & !mandatoryParameters.isEmpty()) {
+        if (args.length == 0 & !parsedSpecification.mandatoryParameters.isEmpty()) {
             throw new NoArgumentsProvidedArgsException();
         }
     }
@@ -412,28 +951,32 @@ public class ArgsParser {
     private void checkForHelpCall(String[] args) throws UnknownFlagArgsException, CalledForHelpNotification {
         boolean oneArgProvided = args.length == 1;
         boolean twoArgsProvided = args.length == 2;
-        boolean firstArgumentIsParameter = parameterMap.get(args[0]) != null;
-        boolean firstArgumentIsCommand = commandMap.get(args[0]) != null;
+        boolean firstArgumentIsParameter = parsedSpecification.parameterMap.get(args[0]) != null;
+        boolean firstArgumentIsCommand = parsedSpecification.commandMap.get(args[0]) != null;
 
         if (oneArgProvided && (args[0].equals("--help") || args[0].equals("-h"))) { // if --help or -h was called, the help is printed
-            throw new CalledForHelpNotification(parameterMap, flagsInDefinitionOrder,
-                                                commandMap, commandsInDefinitionOrder,
-                                                longestFullFlagSize, longestShortFlagSize, programDescription);
+            trace(0, args[0], ParseTrace.Decision.HELP, null);
+            throw new CalledForHelpNotification(parsedSpecification.parameterMap, parsedSpecification.flagsInDefinitionOrder,
+                                                parsedSpecification.commandMap, parsedSpecification.commandsInDefinitionOrder,
+                                                parsedSpecification.longestFullFlagSize, parsedSpecification.longestShortFlagSize, programDescription);
 
         } else if (twoArgsProvided && (args[1].equals("--help") || args[1].equals("-h"))) {
             if (firstArgumentIsParameter) { // if the first argument is a parameter and --help follows,
-                throw new CalledForHelpNotification(parameterMap, Collections.singletonList(args[0]),
-                                                    commandMap, new LinkedList<>(),
-                                                    longestFullFlagSize, longestShortFlagSize, programDescription);
+                trace(1, args[1], ParseTrace.Decision.HELP, parsedSpecification.parameterMap.get(args[0]));
+                throw new CalledForHelpNotification(parsedSpecification.parameterMap, Collections.singletonList(args[0]),
+                                                    parsedSpecification.commandMap, new LinkedList<>(),
+                                                    parsedSpecification.longestFullFlagSize, parsedSpecification.longestShortFlagSize, programDescription);
 
             } else if (firstArgumentIsCommand) { // if the first argument is a command and --help follows
-                throw new CalledForHelpNotification(parameterMap, new LinkedList<>(),
-                                                    commandMap, Collections.singletonList(args[0]),
-                                                    longestFullFlagSize, longestShortFlagSize, programDescription);
+                trace(1, args[1], ParseTrace.Decision.HELP, parsedSpecification.commandMap.get(args[0]));
+                throw new CalledForHelpNotification(parsedSpecification.parameterMap, new LinkedList<>(),
+                                                    parsedSpecification.commandMap, Collections.singletonList(args[0]),
+                                                    parsedSpecification.longestFullFlagSize, parsedSpecification.longestShortFlagSize, programDescription);
 
             } else { // if the first argument is not a parameter but --help was called,
                 // the program notifies the user of an unknown parameter input
-                throw new UnknownFlagArgsException(args[0], parameterMap.keySet(), commandMap.keySet(), false);
+                trace(0, args[0], ParseTrace.Decision.UNKNOWN_FLAG, null);
+                throw new UnknownFlagArgsException(args[0], parsedSpecification.parameterMap.keySet(), parsedSpecification.commandMap.keySet(), false);
 
             }
         }
@@ -444,7 +987,6 @@ public class ArgsParser {
      * The method checks for various conditions such as unknown flags, duplicate flags,
      * missing arguments, and invalid argument types, and validates the correct placement of help flags.
      *
-     * @return A set of {@code Parameter<?>} objects representing the parsed arguments.
      * @throws UnknownFlagArgsException If an unrecognized flag is encountered.
      * @throws TooManyArgumentsArgsException If a flag receives more than one argument.
      * @throws MissingArgArgsException If a flag is missing its expected argument.
@@ -452,88 +994,148 @@ public class ArgsParser {
      * @throws FlagAlreadyProvidedArgsException If a flag is provided more than once.
      * @throws HelpAtWrongPositionArgsException If the help flag is not in the correct position.
      * @throws NotExistingPathArgsException if a PthParameter with pathCheck was handed a non-existing path
+     * @throws ValuesFromAtWrongPositionArgsException if --values-from does not directly follow a numeric array flag
      */
-    private Set<Parameter<?>> parseArguments(String[] args) throws UnknownFlagArgsException, TooManyArgumentsArgsException,
+    private void parseArguments(String[] args) throws UnknownFlagArgsException, TooManyArgumentsArgsException,
             MissingArgArgsException, InvalidArgTypeArgsException, FlagAlreadyProvidedArgsException,
-            HelpAtWrongPositionArgsException, NotExistingPathArgsException {
-
-        Set<Parameter<?>> givenParameters = new HashSet<>();
+            HelpAtWrongPositionArgsException, NotExistingPathArgsException, ValuesFromAtWrongPositionArgsException {
 
         validateInitialArg(args[0]);
 
         Parameter<?> currentParameter = null;
         boolean longFlagUsed = false;
+        boolean lastPositionWasFlag = false; // true if the previous token was a flag still waiting for its value
         for (int i = 0; i < args.length; i++) {
             String arg = args[i];
 
-            boolean currentPositionIsFlag = arg.startsWith("-");
+            boolean currentPositionIsValuesFrom = VALUES_FROM_FLAG.equals(arg);
+            boolean currentPositionIsFlag = arg.startsWith("-") && !currentPositionIsValuesFrom;
+            boolean flagExists = parsedSpecification.flagIndex.get(arg) != null;
+
+            if (currentPositionIsFlag && !flagExists && !isHelpFlag(arg)) {
+                // --> if the flag carries its value (--flag=value) or is a cluster of short flags (-abc)
+                Parameter<?> inlineParameter = inlineValueParameter(arg);
+                if (inlineParameter != null || isShortFlagCluster(arg)) {
+                    if (lastPositionWasFlag) {
+                        trace(i - 1, args[i - 1], ParseTrace.Decision.MISSING_ARGUMENT, currentParameter);
+                        throw new MissingArgArgsException(args[i - 1]);
+                    }
+                    if (inlineParameter != null) {
+                        i = trace != null ? tracedInlineArgument(inlineParameter, args, i)
+                                          : handleInlineArgument(inlineParameter, args, i);
+                        currentParameter = inlineParameter;
+                        longFlagUsed = arg.startsWith("--");
+                        lastPositionWasFlag = false;
+                    } else {
+                        currentParameter = handleShortFlagCluster(arg);
+                        trace(i, arg, ParseTrace.Decision.SHORT_FLAG_CLUSTER, currentParameter);
+                        longFlagUsed = false;
+                        // a trailing boolean flag without a following value is set to true
+                        boolean valueFollows = i + 1 < args.length && !args[i + 1].startsWith("-")
+                                               && !parsedSpecification.commandMap.containsKey(args[i + 1]);
+                        lastPositionWasFlag = valueFollows || !isBooleanSwitch(currentParameter);
+                        if (!lastPositionWasFlag) setSwitch(currentParameter);
+                        else if (i == args.length - 1) {
+                            trace(i, arg, ParseTrace.Decision.MISSING_ARGUMENT, currentParameter);
+                            throw new MissingArgArgsException(arg);
+                        }
+                    }
+                    continue;
+                }
+            }
+
             if (currentPositionIsFlag) {
-                currentParameter = parameterMap.get(arg);
+                currentParameter = parsedSpecification.flagIndex.get(arg);
                 longFlagUsed = arg.startsWith("--");
             }
-            boolean currentPositionIsCommand = commandMap.get(arg) != null;
-            boolean flagExists = parameterMap.get(arg) != null;
+            boolean currentPositionIsCommand = parsedSpecification.commandMap.get(arg) != null;
             boolean isLastEntry = i == args.length - 1;
             boolean currentParameterNotNull = currentParameter != null;
-            boolean argumentSet = currentParameterNotNull && currentParameter.readArgument() != null;
-            boolean lastPositionWasFlag = i >= 1 && args[i - 1].startsWith("-");
+            boolean argumentSet = currentParameterNotNull && currentParameter.isArgumentSet();
             boolean flagAlreadyProvided = false;
-            if (flagExists) flagAlreadyProvided = givenParameters.contains(currentParameter);
+            if (flagExists) flagAlreadyProvided = currentParameter.isProvided();
             boolean helpCallInWrongPosition = isHelpFlag(arg) && (i > 1 || (i == 0 && args.length == 2));
 
             if (helpCallInWrongPosition) {
                 // --> if a -h or --help is in a not allowed position
+                trace(i, arg, ParseTrace.Decision.HELP_AT_WRONG_POSITION, null);
                 throw new HelpAtWrongPositionArgsException();
 
+            } else if (currentPositionIsValuesFrom) {
+                // --> if the values of the current parameter are read from a file
+                if (!lastPositionWasFlag || !(currentParameter instanceof ValuesFromReader reader)) {
+                    throw new ValuesFromAtWrongPositionArgsException();
+                }
+                if (isLastEntry) {
+                    trace(i, arg, ParseTrace.Decision.MISSING_ARGUMENT, currentParameter);
+                    throw new MissingArgArgsException(arg);
+                }
+                trace(i, arg, ParseTrace.Decision.VALUES_FROM, currentParameter);
+                currentParameter.setArgumentsFrom(reader, Path.of(args[++i]));
+                currentParameter.setProvided();
+
             } else if (currentPositionIsFlag && !flagExists) {
                 // --> if flag is unknown
-                throw new UnknownFlagArgsException(arg, parameterMap.keySet(), commandMap.keySet(), false);
+                trace(i, arg, ParseTrace.Decision.UNKNOWN_FLAG, null);
+                throw new UnknownFlagArgsException(arg, parsedSpecification.parameterMap.keySet(), parsedSpecification.commandMap.keySet(), false);
 
             } else if (currentPositionIsFlag && flagAlreadyProvided) {
                 // --> if the flag already was set
+                trace(i, arg, ParseTrace.Decision.DUPLICATE_FLAG, currentParameter);
                 throw new FlagAlreadyProvidedArgsException(currentParameter.getFullFlag(),
                                                            currentParameter.getShortFlag());
 
             } else if (argumentSet && !currentPositionIsFlag && !currentPositionIsCommand) {
                 // --> if two arguments are provided to a single flag
+                trace(i, arg, ParseTrace.Decision.TOO_MANY_ARGUMENTS, currentParameter);
                 throw new TooManyArgumentsArgsException(longFlagUsed ?
                                                                 currentParameter.getFullFlag() :
                                                                 currentParameter.getShortFlag());
 
             } else if (currentPositionIsFlag && lastPositionWasFlag) {
                 // --> if a flag follows another flag
+                trace(i - 1, args[i - 1], ParseTrace.Decision.MISSING_ARGUMENT, parsedSpecification.parameterMap.get(args[i - 1]));
                 throw new MissingArgArgsException(args[i - 1]);
 
             } else if (isLastEntry && currentPositionIsFlag) {
                 // --> if last Flag has no argument
+                trace(i, arg, ParseTrace.Decision.MISSING_ARGUMENT, currentParameter);
                 throw new MissingArgArgsException(arg);
 
             } else if (currentPositionIsCommand) {
                 // --> if current position is a command
-                commandMap.get(arg).setCommand(); // set the command to true
+                parsedSpecification.commandMap.get(arg).setCommand(); // set the command to true
+                trace(i, arg, ParseTrace.Decision.COMMAND, parsedSpecification.commandMap.get(arg));
 
             } else if (lastPositionWasFlag && currentParameterNotNull) {
                 // --> if the current position is an argument
-                i = handleArgument(currentParameter, args, i);
-                givenParameters.add(currentParameter); // add parameter to the given Parameter Set
+                i = trace != null ? tracedArgument(currentParameter, args, i) : handleArgument(currentParameter, args, i);
+
+            } else if (currentPositionIsFlag) {
+                // --> if the current position is a flag waiting for its value
+                trace(i, arg, ParseTrace.Decision.FLAG, currentParameter);
             }
-        }
 
-        return givenParameters;
+            lastPositionWasFlag = currentPositionIsFlag;
+        }
     }
 
     /**
-     * Validates the very first argument: it must be either a flag, a command, or help.
+     * Validates the very first argument: it must be either a flag (optionally with its value or as short flag cluster),
+     * a command, or help.
      *
      * @param arg the first raw command-line arguments
      * @throws UnknownFlagArgsException if the first token is neither flag nor command nor help
      */
     private void validateInitialArg(String arg) throws UnknownFlagArgsException {
-        if (parameterMap.get(arg) == null
-            && commandMap  .get(arg) == null
-            && !isHelpFlag(arg)) {
+        if (parsedSpecification.parameterMap.get(arg) == null
+            && parsedSpecification.commandMap  .get(arg) == null
+            && !isHelpFlag(arg)
+            && inlineValueParameter(arg) == null
+            && !isShortFlagCluster(arg)) {
+                trace(0, arg, ParseTrace.Decision.UNKNOWN_FLAG, null);
                 throw new UnknownFlagArgsException(
-                        arg, parameterMap.keySet(), commandMap.keySet(), true
+                        arg, parsedSpecification.parameterMap.keySet(), parsedSpecification.commandMap.keySet(), true
                 );
         }
     }
@@ -550,19 +1152,22 @@ public class ArgsParser {
 
     /**
      * checks if all mandatory parameters were given in args!
-     * @param givenParameters a set of all Parameter instances created based on args
      * @throws MandatoryArgNotProvidedArgsException if not all mandatory parameters were given in args
      */
-    private void checkMandatoryArguments(Set<Parameter<?>> givenParameters) throws MandatoryArgNotProvidedArgsException {
-        if (!givenParameters.containsAll(mandatoryParameters)) {
-            mandatoryParameters.removeAll(givenParameters);
-            StringBuilder errorMessage = new StringBuilder();
-            errorMessage.append("Mandatory parameters are missing:");
-            for (Parameter<?> param : mandatoryParameters) {
-                errorMessage.append("\n").append(param.getFullFlag());
-            }
-            throw new MandatoryArgNotProvidedArgsException(errorMessage.toString());
+    private void checkMandatoryArguments() throws MandatoryArgNotProvidedArgsException {
+        // count by ordinal first, so that a successful parse does not create an iterator
+        int providedMandatory = 0;
+        for (int i = 0; i < result.size(); i++) {
+            Parameter<?> param = result.parameterAt(i);
+            if (param.isMandatory() && param.isProvided()) providedMandatory++;
+        }
+        if (providedMandatory == parsedSpecification.mandatoryParameters.size()) return;
+
+        StringBuilder errorMessage = new StringBuilder("Mandatory parameters are missing:");
+        for (Parameter<?> param : parsedSpecification.mandatoryParameters) {
+            if (!param.isProvided()) errorMessage.append("\n").append(param.getFullFlag());
         }
+        throw new MandatoryArgNotProvidedArgsException(errorMessage.toString());
     }
 
 
@@ -579,23 +1184,212 @@ public class ArgsParser {
     private int handleArgument(Parameter<?> currentParameter, String[] args, int i)
             throws NotExistingPathArgsException, InvalidArgTypeArgsException {
 
-        String arg = args[i];
-        boolean isArrayParam = arrayParameters.contains(args[i - 1]);
-        if (isArrayParam) { // if currentParameter is an array parameter
-            currentParameter.setArgument(arg);
-            // loop through all arguments and "collect" all following arguments until next flag or end
-            while(i + 1 < args.length && !args[i + 1].startsWith("-") && !commandMap.containsKey(args[i + 1])) {
-                currentParameter.setArgument(args[++i]);
-            }
+        int last = currentParameter.isArray() ? lastArrayValue(args, i) : i;
+        setArguments(currentParameter, args, i, 0, last);
+        currentParameter.setProvided();
+        return last;
+    }
 
-        } else {
-            currentParameter.setArgument(arg);
+    /**
+     * Like {@link #handleArgument(Parameter, String[], int)}, but records the values and their conversion time in
+     * the trace.
+     */
+    private int tracedArgument(Parameter<?> currentParameter, String[] args, int i)
+            throws NotExistingPathArgsException, InvalidArgTypeArgsException {
 
+        long start = System.nanoTime();
+        try {
+            int last = handleArgument(currentParameter, args, i);
+            trace.record(i, args[i], ParseTrace.Decision.ARGUMENT, currentParameter, last - i + 1, System.nanoTime() - start);
+            return last;
+        } catch (NotExistingPathArgsException | InvalidArgTypeArgsException e) {
+            trace.record(i, args[i], ParseTrace.Decision.INVALID_ARGUMENT, currentParameter, 0, System.nanoTime() - start);
+            throw e;
         }
-        currentParameter.setProvided();
+    }
+
+    /**
+     * Like {@link #handleInlineArgument(Parameter, String[], int)}, but records the values and their conversion time
+     * in the trace.
+     */
+    private int tracedInlineArgument(Parameter<?> parameter, String[] args, int i)
+            throws FlagAlreadyProvidedArgsException, NotExistingPathArgsException, InvalidArgTypeArgsException {
+
+        long start = System.nanoTime();
+        try {
+            int last = handleInlineArgument(parameter, args, i);
+            trace.record(i, args[i], ParseTrace.Decision.INLINE_ARGUMENT, parameter, last - i + 1, System.nanoTime() - start);
+            return last;
+        } catch (FlagAlreadyProvidedArgsException e) {
+            trace.record(i, args[i], ParseTrace.Decision.DUPLICATE_FLAG, parameter, 0, 0);
+            throw e;
+        } catch (NotExistingPathArgsException | InvalidArgTypeArgsException e) {
+            trace.record(i, args[i], ParseTrace.Decision.INVALID_ARGUMENT, parameter, 0, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Records the decision for a token if a trace is enabled.
+     *
+     * @param i index of the token
+     * @param token the token
+     * @param decision the branch taken
+     * @param target the matched parameter or command, or null
+     */
+    private void trace(int i, String token, ParseTrace.Decision decision, Object target) {
+        if (trace != null) trace.record(i, token, decision, target, 0, 0);
+    }
+
+    /**
+     * Finds the last of the arguments following position i that are "collected" by an array parameter,
+     * which are all arguments until the next flag, command or the end of args.
+     *
+     * @param args           the full args array
+     * @param i              the index of the last consumed token
+     * @return the index of the last collected value
+     */
+    private int lastArrayValue(String[] args, int i) {
+        while(i + 1 < args.length && !args[i + 1].startsWith("-") && !parsedSpecification.commandMap.containsKey(args[i + 1])) i++;
         return i;
     }
 
+    /**
+     * Sets the value tokens {@code args[first] (from valueOffset on), args[first + 1] .. args[last]} as arguments
+     * of the given parameter. During {@link #parseIncremental(String[])} the converted argument of the last parse is
+     * carried over instead, if the parameter got exactly the same value tokens.
+     *
+     * @param parameter   the parameter receiving the values
+     * @param args        the full args array
+     * @param first       the index of the first value token
+     * @param valueOffset the index of the value inside of the first token, greater than 0 for {@code --flag=value}
+     * @param last        the index of the last value token
+     * @throws NotExistingPathArgsException   if a path parameter points to a non-existent path
+     * @throws InvalidArgTypeArgsException    if a invalid argument type is set to the parameter
+     */
+    private void setArguments(Parameter<?> parameter, String[] args, int first, int valueOffset, int last)
+            throws NotExistingPathArgsException, InvalidArgTypeArgsException {
+
+        int ordinal = parameter.getOrdinal();
+        if (activeMemo != null && activeMemo.matches(ordinal, args, first, valueOffset, last)) {
+            parameter.carryOverArgument(activeMemo.value(ordinal));
+            activeMemo.keep(ordinal);
+            return;
+        }
+
+        if (last > first) parameter.expectValues(last - first + 1);
+        try {
+            if (valueOffset == 0) parameter.setArgument(args[first]);
+            else parameter.setArgument(args[first], valueOffset, args[first].length());
+        } catch (InvalidArgTypeArgsException | NotExistingPathArgsException e) {
+            // the first value never reached the array, the size hint must not leak into the next parse
+            parameter.expectValues(1);
+            throw e;
+        }
+        for (int i = first + 1; i <= last; i++) parameter.setArgument(args[i]);
+
+        if (activeMemo != null) activeMemo.remember(ordinal, args, first, valueOffset, last, parameter.readArgument());
+    }
+
+    /**
+     * Looks up the parameter of a token of the form {@code --flag=value} or {@code -f=value}.
+     * The flag part is looked up in place, no substring is created.
+     *
+     * @param arg the token to check
+     * @return the parameter of the flag before the first '=' or null if the token has no such form
+     */
+    private Parameter<?> inlineValueParameter(String arg) {
+        if (!arg.startsWith("-")) return null;
+        int separator = arg.indexOf('=');
+        return separator > 1 ? parsedSpecification.flagIndex.get(arg, 0, separator) : null;
+    }
+
+    /**
+     * Checks if the token is a POSIX like cluster of single character short flags, e.g. {@code -vqo} for
+     * {@code -v -q -o}. All flags but the last one have to belong to a {@link #isBooleanSwitch(Parameter) boolean switch}.
+     *
+     * @param arg the token to check
+     * @return true if the token is a valid short flag cluster
+     */
+    private boolean isShortFlagCluster(String arg) {
+        if (arg.length() < 3 || arg.charAt(0) != '-' || arg.charAt(1) == '-') return false;
+        for (int i = 1; i < arg.length(); i++) {
+            Parameter<?> parameter = parsedSpecification.flagIndex.getShort(arg.charAt(i));
+            if (parameter == null) return false;
+            if (i < arg.length() - 1 && !isBooleanSwitch(parameter)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param parameter the parameter to check
+     * @return true if the parameter takes a single Boolean, which can be switched on inside a short flag cluster
+     */
+    private static boolean isBooleanSwitch(Parameter<?> parameter) {
+        return parameter.getType() == Boolean.class && !parameter.isArray();
+    }
+
+    /**
+     * Sets the argument of the given boolean switch to true.
+     *
+     * @param parameter the boolean switch
+     * @throws FlagAlreadyProvidedArgsException if the switch was already provided
+     */
+    private void setSwitch(Parameter<?> parameter)
+            throws FlagAlreadyProvidedArgsException, InvalidArgTypeArgsException, NotExistingPathArgsException {
+
+        if (parameter.isProvided()) {
+            throw new FlagAlreadyProvidedArgsException(parameter.getFullFlag(), parameter.getShortFlag());
+        }
+        parameter.setArgument("true");
+        parameter.setProvided();
+    }
+
+    /**
+     * Switches on all flags of a short flag cluster but the last one, the last flag is returned and either receives
+     * the following value or is switched on as well by the caller.
+     *
+     * @param arg             the cluster token, validated by {@link #isShortFlagCluster(String)}
+     * @return the parameter of the last flag in the cluster
+     * @throws FlagAlreadyProvidedArgsException if a flag of the cluster was already provided
+     */
+    private Parameter<?> handleShortFlagCluster(String arg)
+            throws FlagAlreadyProvidedArgsException, InvalidArgTypeArgsException, NotExistingPathArgsException {
+
+        int last = arg.length() - 1;
+        for (int i = 1; i < last; i++) setSwitch(parsedSpecification.flagIndex.getShort(arg.charAt(i)));
+
+        Parameter<?> lastParameter = parsedSpecification.flagIndex.getShort(arg.charAt(last));
+        if (lastParameter.isProvided()) {
+            throw new FlagAlreadyProvidedArgsException(lastParameter.getFullFlag(), lastParameter.getShortFlag());
+        }
+        return lastParameter;
+    }
+
+    /**
+     * Consumes the value of a {@code --flag=value} token, array parameters also collect the following values.
+     * The value is handed to the parameter as range of the token, no substring is created.
+     *
+     * @param parameter       the parameter of the flag
+     * @param args            the full args array
+     * @param i               the index of the token
+     * @return the new index after consuming all relevant values
+     * @throws FlagAlreadyProvidedArgsException if the flag was already provided
+     * @throws NotExistingPathArgsException   if a path parameter points to a non-existent path
+     * @throws InvalidArgTypeArgsException    if a invalid argument type is set to the parameter
+     */
+    private int handleInlineArgument(Parameter<?> parameter, String[] args, int i)
+            throws FlagAlreadyProvidedArgsException, NotExistingPathArgsException, InvalidArgTypeArgsException {
+
+        if (parameter.isProvided()) {
+            throw new FlagAlreadyProvidedArgsException(parameter.getFullFlag(), parameter.getShortFlag());
+        }
+        int last = parameter.isArray() ? lastArrayValue(args, i) : i;
+        setArguments(parameter, args, i, args[i].indexOf('=') + 1, last);
+        parameter.setProvided();
+        return last;
+    }
+
 
     /**
      * Validates that no more than one command in each toggle group has been provided.
@@ -607,7 +1401,8 @@ public class ArgsParser {
      * @throws ToggleArgsException if multiple commands from the same toggle group are provided
      */
     private void checkToggles() throws ToggleArgsException{
-        for (Command[] toggle : toggleList) {
+        for (int t = 0; t < parsedSpecification.toggles.size(); t++) {
+            Command[] toggle = parsedSpecification.toggles.get(t);
 
             // if more than two commands in one toggle are provided, a ToggleArgsException is thrown
             int numberOfProvidedCommands = 0;
@@ -633,10 +1428,214 @@ public class ArgsParser {
      */
     @SuppressWarnings("unchecked")
     public <T> T getArgumentOf(String fullFlag) throws ClassCastException, IllegalArgumentException {
-        if (parameterMap.get(fullFlag) == null) {
+        Parameter<?> parameter = specification().parameterMap.get(fullFlag);
+        if (parameter == null) {
             throw new IllegalArgumentException("Parameter '" + fullFlag + "' not defined");
         }
-        return (T) parameterMap.get(makeFlag(fullFlag, false)).getArgument();
+        return (T) parameter.getArgument();
+    }
+
+    /**
+     * getter method for the argument of a parameter handle defined on this parser.
+     * <p>
+     * Returns the same value as {@link Parameter#getArgument()}, read directly from the flat argument storage
+     * of this parser by the ordinal of the parameter, without any flag lookup.
+     * </p>
+     * @param parameter the parameter instance returned by {@link #addParameter(Parameter)}
+     * @param <T> type of the parameter
+     * @return the argument of the parameter, its default value or null if neither exists
+     * @throws IllegalStateException if {@link ArgsParser#parse(String[] args)} was not called before
+     * @throws IllegalArgumentException if the parameter is not defined on this parser instance
+     */
+    public <T> T getArgument(Parameter<T> parameter) throws IllegalStateException, IllegalArgumentException {
+        if (!parseArgsWasCalled) throw new IllegalStateException("parse() was not called before trying to access the argument!");
+        return result.get(parameter);
+    }
+
+    /**
+     * Checks if the parameter handle defined on this parser was provided in the arguments.
+     *
+     * @param parameter the parameter instance returned by {@link #addParameter(Parameter)}
+     * @return true if the parameter was provided, false otherwise
+     * @throws IllegalStateException if {@link ArgsParser#parse(String[] args)} was not called before
+     * @throws IllegalArgumentException if the parameter is not defined on this parser instance
+     */
+    public boolean isProvided(Parameter<?> parameter) throws IllegalStateException, IllegalArgumentException {
+        if (!parseArgsWasCalled) throw new IllegalStateException("parse() was not called before trying to check the parameter!");
+        return result.isProvided(parameter);
+    }
+
+    /**
+     * Returns where the argument of the parameter handle defined on this parser came from.
+     *
+     * @param parameter the parameter instance returned by {@link #addParameter(Parameter)}
+     * @return the source of the argument
+     * @throws IllegalStateException if {@link ArgsParser#parse(String[] args)} was not called before
+     * @throws IllegalArgumentException if the parameter is not defined on this parser instance
+     */
+    public ArgumentSource getSourceOf(Parameter<?> parameter) throws IllegalStateException, IllegalArgumentException {
+        if (!parseArgsWasCalled) throw new IllegalStateException("parse() was not called before trying to check the parameter!");
+        return result.getSource(parameter);
+    }
+
+    /**
+     * Returns the flat argument storage of this parser. It can be handed to code that reads the arguments of
+     * many parameter handles, e.g. in a loop, without going through this parser.
+     *
+     * @return the parse result of this parser
+     * @throws IllegalStateException if {@link ArgsParser#parse(String[] args)} was not called before
+     */
+    public ParseResult getParseResult() throws IllegalStateException {
+        if (!parseArgsWasCalled) throw new IllegalStateException("parse() was not called before trying to access the result!");
+        return result;
+    }
+
+    /**
+     * Starts counting parses, errors and help calls of this parser and recording their latency. The metrics can be
+     * read directly or exposed through JMX with {@link ParserMetrics#register(String)}.
+     * Calling this method again returns the same metrics.
+     *
+     * @return the metrics of this parser
+     */
+    public synchronized ParserMetrics enableMetrics() {
+        if (metrics == null) metrics = new ParserMetrics(this);
+        return metrics;
+    }
+
+    /**
+     * Starts counting how often each parameter and command is provided in successful parses, e.g. to find flags that
+     * are never used or to {@link #reorderByUsage() reorder} the flag lookup. The counters are {@link LongAdder}s,
+     * so they can be read while parsing. Calling this method again keeps the counts.
+     */
+    public synchronized void enableUsageCounters() {
+        if (countedParses != null) return;
+        for (Parameter<?> parameter : parameterMap.values()) parameter.enableUsageCounter();
+        for (Command command : commandMap.values()) command.enableUsageCounter();
+        countedParses = new LongAdder();
+    }
+
+    /**
+     * Sets the counts of all parameters and commands and the number of counted parses back to 0.
+     */
+    public void resetUsageCounters() {
+        Specification spec = specification();
+        for (Parameter<?> parameter : spec.parameters) parameter.resetUsageCount();
+        for (Command command : spec.commands) command.resetUsageCount();
+        if (countedParses != null) countedParses.reset();
+    }
+
+    /**
+     * Takes a snapshot of the usage counts of all parameters and commands, in definition order.
+     *
+     * @return the usage counts
+     * @throws IllegalStateException if usage counters are not enabled
+     */
+    public UsageSnapshot getUsageSnapshot() throws IllegalStateException {
+        if (countedParses == null) throw new IllegalStateException("Usage counters are not enabled!");
+        Specification spec = specification();
+        Map<String, Long> parameterCounts = new LinkedHashMap<>();
+        for (Parameter<?> parameter : spec.parameters) parameterCounts.put(parameter.getFullFlag(), parameter.getUsageCount());
+        Map<String, Long> commandCounts = new LinkedHashMap<>();
+        for (Command command : spec.commands) commandCounts.put(command.getFullCommandName(), command.getUsageCount());
+        return new UsageSnapshot(countedParses.sum(), parameterCounts, commandCounts);
+    }
+
+    /**
+     * Rebuilds the index the parser looks up flags in, inserting the flags of the most provided parameters first.
+     * Flags inserted first occupy their home slot, so frequently used flags are resolved with a single comparison
+     * even in specifications with thousands of flags. Without usage counts the definition order is kept.
+     */
+    public synchronized void reorderByUsage() {
+        List<Parameter<?>> parameters = getParametersInDefinitionOrder();
+        parameters.sort(Comparator.comparingLong((Parameter<?> parameter) -> parameter.getUsageCount()).reversed());
+
+        flagIndex = FlagIndex.inOrder(parameters);
+        specification = null;
+    }
+
+    /**
+     * Starts recording the decision the parser takes for every token in a ring buffer, e.g. to find out why a
+     * command line is not parsed as expected. Passing {@code --explain-parse} as first argument records a separate
+     * trace for this single command line instead, which {@link #parse(String[])} prints. Without a trace, parsing
+     * does not record anything.
+     *
+     * @param capacity maximum number of kept entries, older entries are overwritten
+     * @return the new trace
+     * @throws IllegalArgumentException if capacity is smaller than 1
+     */
+    public ParseTrace enableTrace(int capacity) throws IllegalArgumentException {
+        trace = new ParseTrace(capacity);
+        return trace;
+    }
+
+    /**
+     * Stops recording the decisions of the parser, the trace keeps its entries.
+     */
+    public void disableTrace() {
+        trace = null;
+    }
+
+    /**
+     * @return the trace of this parser, or null if no trace is enabled
+     */
+    public ParseTrace getTrace() {
+        return trace;
+    }
+
+    /**
+     * Creates a new instance of the given class or record holding the arguments of this parser.
+     * Fields and record components annotated with {@link Bind} get the argument of the parameter with the given
+     * full flag assigned, see {@link Binder} for the binding rules.
+     *
+     * @param type class or record with {@link Bind} annotated members
+     * @param <T> the bound class
+     * @return the new instance
+     * @throws IllegalStateException if {@link ArgsParser#parse(String[] args)} was not called before
+     * @throws IllegalArgumentException if the class cannot be bound or a bound flag is not defined on this parser
+     */
+    public <T> T bind(Class<T> type) throws IllegalStateException, IllegalArgumentException {
+        return Binder.of(type).bind(this);
+    }
+
+    /**
+     * @return all parameters of this parser in the order they were added
+     */
+    List<Parameter<?>> getParametersInDefinitionOrder() {
+        return new ArrayList<>(specification().parameters);
+    }
+
+    /**
+     * @return all commands of this parser in the order they were added
+     */
+    List<Command> getCommandsInDefinitionOrder() {
+        return new ArrayList<>(specification().commands);
+    }
+
+    /**
+     * @return all toggles defined on this parser
+     */
+    List<Command[]> getToggles() {
+        return specification().toggles;
+    }
+
+    /**
+     * Looks up the parameter with the given flag.
+     *
+     * @param flag full or short flag of the parameter
+     * @return the parameter or null if no parameter with this flag is defined
+     */
+    Parameter<?> getParameter(String flag) {
+        return specification().parameterMap.get(flag);
+    }
+
+    /**
+     * Looks up the command with the given name.
+     *
+     * @param name full or short name of the command
+     * @return the command or null if no command with this name is defined
+     */
+    Command getCommand(String name) {
+        return specification().commandMap.get(name);
     }
 
     /**
@@ -647,9 +1646,10 @@ public class ArgsParser {
      * @throws IllegalArgumentException if the command is not defined on this parser instance
      */
     public boolean checkIfCommandIsProvided(String fullCommandName) {
-        if (commandMap.get(fullCommandName) == null) {
+        Command command = specification().commandMap.get(fullCommandName);
+        if (command == null) {
             throw new IllegalArgumentException("Command '" + fullCommandName + "' not defined");
         }
-        return commandMap.get(fullCommandName).isProvided();
+        return command.isProvided();
     }
 }
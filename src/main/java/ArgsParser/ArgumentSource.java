@@ -0,0 +1,44 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+/**
+ * Describes where the argument of a {@link Parameter} came from.
+ */
+public enum ArgumentSource {
+    /**
+     * The parameter was not provided and has no default value.
+     */
+    NONE,
+    /**
+     * The parameter was not provided, its default value is used.
+     */
+    DEFAULT,
+    /**
+     * The argument was provided on the command line.
+     */
+    COMMAND_LINE,
+    /**
+     * The argument was read from a file handed via {@code --values-from}.
+     */
+    VALUES_FILE,
+    /**
+     * The argument was restored from a cached parse snapshot.
+     */
+    SNAPSHOT;
+
+    private static final ArgumentSource[] VALUES = values();
+
+    /**
+     * @param ordinal ordinal of the source
+     * @return the source with the given ordinal, without copying the values array
+     */
+    static ArgumentSource of(byte ordinal) {
+        return VALUES[ordinal];
+    }
+}
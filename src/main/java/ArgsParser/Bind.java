@@ -0,0 +1,32 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field or record component that gets the argument of a parameter assigned by the {@link Binder}.
+ *
+ * <pre>
+ * record Options(@Bind("threads") int threads, @Bind("input") Path input) {}
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.RECORD_COMPONENT})
+public @interface Bind {
+    /**
+     * The full flag of the parameter whose argument is bound, leading dashes are optional.
+     * If empty, the name of the field or record component is used.
+     *
+     * @return the full flag of the bound parameter
+     */
+    String value() default "";
+}
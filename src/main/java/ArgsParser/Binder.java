@@ -0,0 +1,243 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binds the parsed arguments of an {@link ArgsParser} onto a user class or record.
+ *
+ * <p>
+ * Fields and record components annotated with {@link Bind} are linked to the parameter with the given full flag.
+ * The members of a class are inspected only once: the {@link MethodHandle}s to write the fields (or to call the
+ * canonical record constructor) are created on first use and cached per class. Each member also remembers the
+ * ordinal its parameter had on the last bound parser, so binding the results of parsers with the same
+ * specification only compares the flag at that ordinal instead of looking it up. Primitive members are written from
+ * the unboxed storage of the {@link ParseResult}.
+ * </p>
+ *
+ * <p>Binding rules:</p>
+ * <ul>
+ *     <li>The member type has to be the type of the parameter, or its primitive version (e.g. int for Integer).</li>
+ *     <li>Classes need a no-argument constructor, bound fields must not be final or static.</li>
+ *     <li>Members of parameters without argument and default keep their initial value,
+ *     record components of such parameters get null / 0 / false.</li>
+ * </ul>
+ *
+ * @param <T> the bound class
+ */
+public final class Binder<T> {
+
+    private static final ClassValue<Binder<?>> BINDERS = new ClassValue<>() {
+        @Override
+        protected Binder<?> computeValue(Class<?> type) {
+            return new Binder<>(type);
+        }
+    };
+
+    private static final MethodType OBJECT_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<T> type;
+    private final Member[] members;
+    private final MethodHandle constructor;
+    private final boolean isRecord;
+
+    /**
+     * Returns the binder of the given class, it is created once per class and cached.
+     *
+     * @param type class or record with {@link Bind} annotated members
+     * @param <T> the bound class
+     * @return the binder of the class
+     * @throws IllegalArgumentException if the class cannot be bound (see binding rules)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Binder<T> of(Class<T> type) {
+        return (Binder<T>) BINDERS.get(type);
+    }
+
+    private Binder(Class<T> type) {
+        this.type = type;
+        this.isRecord = type.isRecord();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            this.members = isRecord ? recordMembers(lookup) : fieldMembers(lookup);
+            if (isRecord) {
+                RecordComponent[] components = type.getRecordComponents();
+                Class<?>[] parameterTypes = new Class<?>[components.length];
+                for (int i = 0; i < components.length; i++) parameterTypes[i] = components[i].getType();
+                this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                                         .asSpreader(Object[].class, components.length)
+                                         .asType(MethodType.methodType(Object.class, Object[].class));
+            } else {
+                this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                                         .asType(MethodType.methodType(Object.class));
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot bind " + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private Member[] fieldMembers(MethodHandles.Lookup lookup) throws IllegalAccessException {
+        List<Member> members = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            MethodHandles.Lookup currentLookup = current == type ? lookup : MethodHandles.privateLookupIn(current, MethodHandles.lookup());
+            for (Field field : current.getDeclaredFields()) {
+                Bind bind = field.getAnnotation(Bind.class);
+                if (bind == null) continue;
+                if (Modifier.isFinal(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
+                    throw new IllegalArgumentException("Bound field " + field.getName() + " must not be final or static");
+                }
+                MethodHandle setter = currentLookup.unreflectSetter(field);
+                Class<?> fieldType = field.getType();
+                MethodType setterType = Member.isUnboxed(fieldType)
+                        ? MethodType.methodType(void.class, Object.class, fieldType)
+                        : OBJECT_SETTER;
+                members.add(new Member(flagOf(bind, field.getName()), fieldType, members.size(), setter.asType(setterType)));
+            }
+        }
+        return members.toArray(new Member[0]);
+    }
+
+    private Member[] recordMembers(MethodHandles.Lookup lookup) {
+        RecordComponent[] components = type.getRecordComponents();
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < components.length; i++) {
+            Bind bind = components[i].getAnnotation(Bind.class);
+            if (bind == null) continue;
+            members.add(new Member(flagOf(bind, components[i].getName()), components[i].getType(), i, null));
+        }
+        return members.toArray(new Member[0]);
+    }
+
+    private static String flagOf(Bind bind, String memberName) {
+        return ArgsParser.makeFlag(bind.value().isEmpty() ? memberName : bind.value(), false);
+    }
+
+    /**
+     * Creates a new instance of the bound class holding the arguments of the given parser.
+     *
+     * @param parser a parser on which parse was called
+     * @return the new instance
+     * @throws IllegalStateException if parse was not called on the parser
+     * @throws IllegalArgumentException if a bound flag is not defined on the parser or its type does not match
+     */
+    public T bind(ArgsParser parser) throws IllegalStateException, IllegalArgumentException {
+        ParseResult result = parser.getParseResult();
+        int[] ordinals = new int[members.length];
+        for (int i = 0; i < members.length; i++) ordinals[i] = members[i].link(parser, result);
+
+        try {
+            if (isRecord) return bindRecord(result, ordinals);
+            Object instance = constructor.invokeExact();
+            for (int i = 0; i < members.length; i++) members[i].write(instance, result, ordinals[i]);
+            return type.cast(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Binding " + type.getName() + " failed", t);
+        }
+    }
+
+    private T bindRecord(ParseResult result, int[] ordinals) throws Throwable {
+        RecordComponent[] components = type.getRecordComponents();
+        Object[] arguments = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            Class<?> componentType = components[i].getType();
+            if (componentType.isPrimitive()) arguments[i] = Member.zero(componentType);
+        }
+        for (int i = 0; i < members.length; i++) {
+            Object value = result.get(result.parameterAt(ordinals[i]));
+            if (value != null) arguments[members[i].position] = value;
+        }
+        return type.cast((Object) constructor.invokeExact(arguments));
+    }
+
+    /**
+     * A bound field or record component.
+     */
+    private static final class Member {
+        private final String flag;
+        private final Class<?> type;
+        private final Class<?> boxedType;
+        private final int position;
+        private final MethodHandle setter;
+        // ordinal of the parameter on the last bound parser, only a hint that is verified on every bind
+        private int lastOrdinal = -1;
+
+        private Member(String flag, Class<?> type, int position, MethodHandle setter) {
+            this.flag = flag;
+            this.type = type;
+            this.boxedType = MethodType.methodType(type).wrap().returnType();
+            this.position = position;
+            this.setter = setter;
+        }
+
+        /**
+         * Finds the parameter of this member on the given parser.
+         *
+         * @return the ordinal of the parameter
+         */
+        private int link(ArgsParser parser, ParseResult result) {
+            Parameter<?> parameter = result.parameterAt(lastOrdinal);
+            if (parameter == null || !flag.equals(parameter.getFullFlag())) {
+                parameter = parser.getParameter(flag);
+                if (parameter == null) throw new IllegalArgumentException("Bound parameter '" + flag + "' not defined");
+                lastOrdinal = parameter.getOrdinal();
+            }
+            if (parameter.getType() != boxedType) {
+                throw new IllegalArgumentException("Bound parameter '" + flag + "' is of type " + parameter.getTypeSimpleName()
+                                                   + " but the member is of type " + type.getSimpleName());
+            }
+            return parameter.getOrdinal();
+        }
+
+        private void write(Object instance, ParseResult result, int ordinal) throws Throwable {
+            if (type == int.class) {
+                if (result.isPresent(ordinal)) setter.invokeExact(instance, (int) result.primitive(ordinal));
+            } else if (type == double.class) {
+                if (result.isPresent(ordinal)) setter.invokeExact(instance, Double.longBitsToDouble(result.primitive(ordinal)));
+            } else if (type == float.class) {
+                if (result.isPresent(ordinal)) setter.invokeExact(instance, Float.intBitsToFloat((int) result.primitive(ordinal)));
+            } else if (type == boolean.class) {
+                if (result.isPresent(ordinal)) setter.invokeExact(instance, result.primitive(ordinal) != 0);
+            } else if (type == char.class) {
+                if (result.isPresent(ordinal)) setter.invokeExact(instance, (char) result.primitive(ordinal));
+            } else {
+                Object value = result.get(result.parameterAt(ordinal));
+                if (value != null) setter.invokeExact(instance, value);
+            }
+        }
+
+        /**
+         * @param type member type
+         * @return true if members of this type are written from the unboxed storage of the {@link ParseResult}
+         */
+        private static boolean isUnboxed(Class<?> type) {
+            return type == int.class || type == double.class || type == float.class
+                   || type == boolean.class || type == char.class;
+        }
+
+        private static Object zero(Class<?> primitiveType) {
+            if (primitiveType == int.class) return 0;
+            if (primitiveType == double.class) return 0.0;
+            if (primitiveType == float.class) return 0.0f;
+            if (primitiveType == boolean.class) return false;
+            if (primitiveType == char.class) return '\0';
+            if (primitiveType == long.class) return 0L;
+            if (primitiveType == short.class) return (short) 0;
+            return (byte) 0;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package ArgsParser;
 
-import java.nio.file.Path;
 import java.util.*;
 
 /**
@@ -13,25 +12,12 @@ import java.util.*;
 public class CalledForHelpNotification extends Exception {
 
     private static final int consoleWidth = 100;
-    private static int longestUsedTypeSize;
-    private static int longestFullSize;
-    private static int longestShortSize;
-    private static final Map<Class<?>, String> shortTypes = new HashMap<>(){{
-        put(String.class, "[s]");
-        put(Path.class, "[p]");
-        put(Integer.class, "[i]");
-        put(Float.class, "[f]");
-        put(Double.class, "[d]");
-        put(Boolean.class, "[b]");
-        put(Character.class, "[c]");
-        put(String[].class, "[s+]");
-        put(Path[].class, "[p+]");
-        put(Integer[].class, "[i+]");
-        put(Float[].class, "[f+]");
-        put(Double[].class, "[d+]");
-        put(Boolean[].class, "[b+]");
-        put(Character[].class, "[c+]");
-    }};
+
+    /**
+     * Column widths of one help message, every message computes its own so messages can be rendered concurrently.
+     */
+    private record Layout(int fullSize, int shortSize, int typeSize) {
+    }
 
     public CalledForHelpNotification(Map<String, Parameter<?>> parameterMap, List<String> flagsInDefinitionOrder,
                                      Map<String, Command> commandMap, List<String> commandsInDefinitionOrder,
@@ -54,15 +40,24 @@ public class CalledForHelpNotification extends Exception {
     private static String helpMessage(Map<String, Parameter<?>> parameterMap, List<String> flagsInDefinitionOrder,
                                       Map<String, Command> commandMap, List<String> commandsInDefinitionOrder,
                                       int longestFullFlagSize, int longestShortFlagSize, String programDescription) {
-        longestFullSize = longestFullFlagSize;
-        longestShortSize = longestShortFlagSize;
-        longestUsedTypeSize = 1;
+        HelpEvent event = FlightRecording.isRunning() ? HelpEvent.startIfEnabled() : null;
         StringBuilder helpMessage = new StringBuilder("\n");
         boolean printSingleParameter = flagsInDefinitionOrder.size() + commandsInDefinitionOrder.size() == 1;
 
 
+        // generate a list of the used types:
+        LinkedHashSet<Class<?>> usedTypes = new LinkedHashSet<>();
+        for (String flag : flagsInDefinitionOrder ) {
+            usedTypes.add(parameterMap.get(flag).getType());
+        }
+        int longestUsedTypeSize = 1;
+        for (Class<?> type : usedTypes) {
+            longestUsedTypeSize = Math.max(longestUsedTypeSize, TypeAbbreviations.of(type).length());
+        }
+        Layout layout = new Layout(longestFullFlagSize, longestShortFlagSize, longestUsedTypeSize);
+
         // Header
-        helpMessage.append(generateHead(parameterMap, flagsInDefinitionOrder));
+        helpMessage.append(generateHead(usedTypes));
 
         String dashLine = "# " + "-".repeat(consoleWidth - 4) + "\n";
         helpMessage.append(dashLine);
@@ -85,8 +80,8 @@ public class CalledForHelpNotification extends Exception {
 
         for (String flag : flagsInDefinitionOrder ) {
             Parameter<?> parameter = parameterMap.get(flag);
-            helpMessage.append(generateSingleHelpString(parameter.getFullFlag(), parameter.getShortFlag(),
-                                     shortTypes.get(parameter.getType()), formatMandatory(parameter.isMandatory()),
+            helpMessage.append(generateSingleHelpString(layout, parameter.getFullFlag(), parameter.getShortFlag(),
+                                     TypeAbbreviations.of(parameter.getType()), formatMandatory(parameter.isMandatory()),
                                      parameter.getDescription(), parameter.hasDefault(), "default:  ",
                                      parameter.getDefaultAsString()));
         }
@@ -99,7 +94,7 @@ public class CalledForHelpNotification extends Exception {
 
         for (String cmd : commandsInDefinitionOrder ) {
             Command command = commandMap.get(cmd);
-            helpMessage.append(generateSingleHelpString(command.getFullCommandName(), command.getShortCommandName(),
+            helpMessage.append(generateSingleHelpString(layout, command.getFullCommandName(), command.getShortCommandName(),
                                                         " ".repeat(longestUsedTypeSize), "(/)",
                                                         command.getDescription(), command.isPartOfToggle(),
                                                         "cannot be combined with:  ",
@@ -107,41 +102,45 @@ public class CalledForHelpNotification extends Exception {
         }
 
         helpMessage.append("#".repeat(consoleWidth));
+        helpMessage.append("\n");
 
+        if (event != null && event.shouldCommit()) {
+            if (printSingleParameter) {
+                event.flag = flagsInDefinitionOrder.isEmpty()
+                             ? commandMap.get(commandsInDefinitionOrder.get(0)).getFullCommandName()
+                             : parameterMap.get(flagsInDefinitionOrder.get(0)).getFullFlag();
+            }
+            event.parameterCount = flagsInDefinitionOrder.size();
+            event.commandCount = commandsInDefinitionOrder.size();
+            event.messageLength = helpMessage.length();
+            event.commit();
+        }
 
-        return helpMessage.append("\n").toString();
+        return helpMessage.toString();
     }
 
     /**
      * Generates the header section of the help message.
      * The header includes information about the available parameter types and their abbreviations.
      *
-     * @param parameterMap the map containing all parameters and their metadata
+     * @param usedTypes the types of all parameters in their definition order
      * @return the generated header as a string
      */
-    private static String generateHead(Map<String, Parameter<?>> parameterMap, List<String> flagsInDefinitionOrder) {
+    private static String generateHead(Set<Class<?>> usedTypes) {
         StringBuilder header = new StringBuilder();
         String headTitle = " HELP ";
         int numberOfHashes = consoleWidth / 2 - headTitle.length() / 2;
         String head = "#".repeat(numberOfHashes) + headTitle + "#".repeat(numberOfHashes);
         header.append(head).append("\n");
 
-        // generate a list of the used types:
-        LinkedHashSet<Class<?>> usedTypes = new LinkedHashSet<>();
-        for (String flag : flagsInDefinitionOrder ) {
-            usedTypes.add(parameterMap.get(flag).getType());
-        }
-
         // information about the abbreviation of types used:
         StringBuilder currentLine = new StringBuilder();
         boolean arrayParamUsed = false;
         // show each abbreviation for each type used
         for (Class<?> type : usedTypes) {
             if (type.isArray()) arrayParamUsed = true;
-            String shortType = getShortType(type);
-            String typeInformation = shortType + "=" +
+            String typeInformation = TypeAbbreviations.of(type) + "=" +
                     type.getSimpleName().replaceFirst("\\[]", "");
-            longestUsedTypeSize = Math.max(longestUsedTypeSize, shortType.length());
             if (currentLine.length() + typeInformation.length() > consoleWidth - 11) {
                 header.append(centerString(currentLine.toString())).append("\n");
                 currentLine.setLength(0);
@@ -178,30 +177,6 @@ public class CalledForHelpNotification extends Exception {
         return "#" + " ".repeat(freeSpace) + stringToCenter;
     }
 
-    /**
-     * Calculates the short version of the given parameter type.
-     * If no predefined abbreviation exists, it generates one based on the type name.
-     *
-     * @param type the class of the parameter type
-     * @return the short abbreviation of the type
-     */
-    private static String getShortType(Class<?> type) {
-        String simpleName = type.getSimpleName().toLowerCase();
-        String shortType = shortTypes.get(type);
-        if (shortType != null) return shortType;
-
-        for (int i = 1; i < simpleName.length(); i++) {
-            shortType = "[" + simpleName.substring(0, i);
-            shortType = type.isArray() ? shortType + "+]" : shortType + "]";
-            if (!shortTypes.containsValue(shortType)) {
-                shortTypes.put(type, shortType);
-                return shortType;
-            }
-        }
-
-        return simpleName.replaceFirst("\\[]", "");
-    }
-
     /**
      * Returns the corresponding symbol to indicate whether a parameter is mandatory or optional.
      *
@@ -216,6 +191,7 @@ public class CalledForHelpNotification extends Exception {
     /**
      * Generates the help string for a single parameter or command.
      *
+     * @param layout the column widths of the message
      * @param fullName the full name of the parameter or command
      * @param shortName the short name of the parameter or command
      * @param type the type of the parameter
@@ -226,19 +202,20 @@ public class CalledForHelpNotification extends Exception {
      * @param value the default value or toggle details
      * @return the generated help string for the parameter or command
      */
-    private static String generateSingleHelpString(String fullName, String shortName, String type, String mandatory,
-                                                   String description, boolean hasDefaultOrToggle, String defaultOrToggle, String value) {
+    private static String generateSingleHelpString(Layout layout, String fullName, String shortName, String type,
+                                                   String mandatory, String description, boolean hasDefaultOrToggle,
+                                                   String defaultOrToggle, String value) {
 
         StringBuilder helpMessage = new StringBuilder();
-        String informationLine = (generateInformationLine(fullName, shortName,
+        String informationLine = (generateInformationLine(layout, fullName, shortName,
                                                           type, mandatory));
 
         if (description == null || description.isEmpty()) {
             description = "No description available!";
         }
 
-        helpMessage.append(formatLastPartInLine(informationLine, description));
-        if (hasDefaultOrToggle) helpMessage.append(formatLastPartInLine(defaultOrToggle, value));
+        helpMessage.append(formatLastPartInLine(layout, informationLine, description));
+        if (hasDefaultOrToggle) helpMessage.append(formatLastPartInLine(layout, defaultOrToggle, value));
 
         return helpMessage.append("#\n").toString();
     }
@@ -247,16 +224,17 @@ public class CalledForHelpNotification extends Exception {
      * Generates the information line for a parameter.
      * This includes the full name, short name, type, and whether it is mandatory or optional.
      *
+     * @param layout the column widths of the message
      * @param fullName the full name of the parameter
      * @param shortName the short name of the parameter
      * @param type the type of the parameter
      * @param mandatory the string indicating whether the parameter is mandatory
      * @return the formatted information line as a string
      */
-    private static String generateInformationLine(String fullName, String shortName,
+    private static String generateInformationLine(Layout layout, String fullName, String shortName,
                                                   String type, String mandatory) {
         String preFormat = String.format("##  %%-%ds  %%-%ds  %%-%ds  ",
-                                         longestFullSize, longestShortSize, longestUsedTypeSize);
+                                         layout.fullSize(), layout.shortSize(), layout.typeSize());
         String informationLine = String.format(preFormat, fullName, shortName, type);
 
         return informationLine + mandatory + "  ";
@@ -266,13 +244,14 @@ public class CalledForHelpNotification extends Exception {
      * Formats the last part of a help message line, introducing line breaks
      * if the description or default value exceeds the available space.
      *
+     * @param layout the column widths of the message
      * @param informationLine the already formatted part of the line
      * @param lastPart the remaining part to be formatted
      * @return the complete line with line breaks as needed
      */
-    private static String formatLastPartInLine(String informationLine, String lastPart) {
+    private static String formatLastPartInLine(Layout layout, String informationLine, String lastPart) {
         lastPart = lastPart.trim();
-        int fillSpace = 15 + longestFullSize + longestShortSize + longestUsedTypeSize;
+        int fillSpace = 15 + layout.fullSize() + layout.shortSize() + layout.typeSize();
         String firstPart = String.format(String.format("#%%%ds", fillSpace), informationLine);
         String filler = "#" + " ".repeat(fillSpace);
         if (informationLine.length() + lastPart.length() <= consoleWidth) return firstPart + lastPart + "\n";
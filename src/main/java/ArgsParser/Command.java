@@ -1,12 +1,16 @@
 package ArgsParser;
 
+import java.util.concurrent.atomic.LongAdder;
+
 public class Command {
     private final String fullCommandName;
     private final String shortCommandName;
     private final String description;
     private Command[] toggle;
     private ArgsParser argsParser;
-    private boolean status = false;
+    private ParseResult result;
+    private int ordinal = -1;
+    private LongAdder usageCounter = null;
 
     /**
      * Constructs a Command object with specified full flag, short flag, description, and args parser.
@@ -25,6 +29,24 @@ public class Command {
         this.argsParser = argsParser;
     }
 
+    /**
+     * Binds this command to the flat parse state of its parser.
+     * @param result the storage of the parser this command was added to
+     * @param ordinal index of this command inside the storage
+     */
+    void bind(ParseResult result, int ordinal) {
+        this.result = result;
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * getter method for the ordinal, the index of this command in the {@link ParseResult} of its parser
+     * @return ordinal or -1 if this command was not added to any parser
+     */
+    int getOrdinal() {
+        return ordinal;
+    }
+
     /**
      * Sets the toggle of which this Command is part of!
      *
@@ -84,11 +106,42 @@ public class Command {
         return description;
     }
 
+    /**
+     * Starts counting how often this command is provided, see {@link ArgsParser#enableUsageCounters()}.
+     */
+    void enableUsageCounter() {
+        if (usageCounter == null) usageCounter = new LongAdder();
+    }
+
+    /**
+     * Counts one successful parse this command was provided in.
+     */
+    void countUsage() {
+        if (usageCounter != null) usageCounter.increment();
+    }
+
+    /**
+     * Returns how often this command was provided in successful parses since {@link ArgsParser#enableUsageCounters()}
+     * was called on its parser.
+     *
+     * @return the number of parses this command was provided in, 0 if usage counters are not enabled
+     */
+    public long getUsageCount() {
+        return usageCounter == null ? 0 : usageCounter.sum();
+    }
+
+    /**
+     * Sets the usage count back to 0.
+     */
+    void resetUsageCount() {
+        if (usageCounter != null) usageCounter.reset();
+    }
+
     /**
      * Sets the command status to true, indicating that the command has been activated.
      */
     protected void setCommand() {
-        this.status = true;
+        result.setCommandProvided(ordinal);
     }
 
     /**
@@ -101,7 +154,8 @@ public class Command {
     public boolean isProvided() throws IllegalStateException {
         if (argsParser == null) throw new IllegalStateException("Command: " + this + " is not assigned to any parser instance!");
         if (!argsParser.parseArgsWasCalled()) throw new IllegalStateException("parse() was not called before trying to check the command!");
-        return status;
+        // commands added after the last parse are not bound to a result yet
+        return result != null && result.isCommandProvided(ordinal);
     }
 
     /**
@@ -0,0 +1,222 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache from raw argument tokens to their converted values, for servers that parse the same values
+ * (paths, host names, ids, ...) over and over.
+ *
+ * <p>
+ * A cache is attached to parameters with {@link Parameter#setConversionCache(ConversionCache)} and can be shared by
+ * any number of parameters and parsers, as long as they convert tokens the same way (e.g. all IntParameters, or all
+ * PthParameters with pathCheck). Only parameter types with immutable arguments support a cache.
+ * </p>
+ * <p>
+ * The cache is split into segments by the hash of the token, each segment evicts its least recently used entry once
+ * it is full. All methods are safe for concurrent use. Entries can expire after a time to live, which is required
+ * for parameters that check the file system: a cached path was known to exist when it was cached, a time to live
+ * bounds how long this is trusted.
+ * </p>
+ *
+ * @param <T> type of the converted values
+ */
+public final class ConversionCache<T> {
+
+    private static final int MAX_SEGMENTS = 64;
+
+    private final Segment<T>[] segments;
+    private final int segmentMask;
+    private final long timeToLiveNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache whose entries never expire.
+     *
+     * @param maximumSize maximum number of cached values
+     * @throws IllegalArgumentException if maximumSize is smaller than 1
+     */
+    public ConversionCache(int maximumSize) {
+        this(maximumSize, Duration.ZERO);
+    }
+
+    /**
+     * Creates a cache whose entries expire after the given time.
+     *
+     * @param maximumSize maximum number of cached values
+     * @param timeToLive time after which an entry expires, {@link Duration#ZERO} for no expiry
+     * @throws IllegalArgumentException if maximumSize is smaller than 1 or timeToLive is null or negative
+     */
+    @SuppressWarnings("unchecked")
+    public ConversionCache(int maximumSize, Duration timeToLive) {
+        if (maximumSize < 1) throw new IllegalArgumentException("The maximum size of a cache must be at least 1!");
+        if (timeToLive == null || timeToLive.isNegative()) {
+            throw new IllegalArgumentException("The time to live must not be null or negative!");
+        }
+        this.timeToLiveNanos = timeToLive.isZero() ? 0 : Math.max(1, saturatedNanos(timeToLive));
+
+        // a few entries per segment, at most one segment per 8 entries
+        int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, Runtime.getRuntime().availableProcessors() * 2));
+        while (segmentCount > 1 && maximumSize / segmentCount < 8) segmentCount >>>= 1;
+        segments = (Segment<T>[]) new Segment<?>[segmentCount];
+        segmentMask = segmentCount - 1;
+        for (int i = 0; i < segmentCount; i++) {
+            int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>(capacity, evictions);
+        }
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * @return true if the entries of this cache expire
+     */
+    public boolean expires() {
+        return timeToLiveNanos > 0;
+    }
+
+    /**
+     * Returns the cached value of the token.
+     *
+     * @param token the raw token
+     * @return the converted value or null if the token is not cached or its entry expired
+     */
+    T get(String token) {
+        Segment<T> segment = segmentOf(token);
+        Entry<T> entry;
+        synchronized (segment) {
+            entry = segment.get(token);
+            if (entry != null && timeToLiveNanos > 0 && System.nanoTime() - entry.createdNanos >= timeToLiveNanos) {
+                segment.remove(token);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Caches the converted value of the token.
+     *
+     * @param token the raw token
+     * @param value the converted value, must not be null
+     */
+    void put(String token, T value) {
+        Entry<T> entry = new Entry<>(value, timeToLiveNanos > 0 ? System.nanoTime() : 0);
+        Segment<T> segment = segmentOf(token);
+        synchronized (segment) {
+            segment.put(token, entry);
+        }
+    }
+
+    private Segment<T> segmentOf(String token) {
+        int hash = token.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    /**
+     * @return number of lookups that found a value
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of lookups that did not find a value, including expired entries
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of entries that were evicted because their segment was full
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return hits divided by all lookups, 0 if there was no lookup yet
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * @return number of cached values, including expired values that were not looked up since they expired
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<T> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all cached values, the counters are kept.
+     */
+    public void clear() {
+        for (Segment<T> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConversionCache[size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+               + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    private record Entry<T>(T value, long createdNanos) {
+    }
+
+    /**
+     * Access ordered map that evicts its least recently used entry, guarded by its own monitor.
+     */
+    private static final class Segment<T> extends LinkedHashMap<String, Entry<T>> {
+        private static final long serialVersionUID = 1L;
+        private final int capacity;
+        private final LongAdder evictions;
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+            if (size() <= capacity) return false;
+            evictions.increment();
+            return true;
+        }
+    }
+}
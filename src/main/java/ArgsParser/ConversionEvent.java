@@ -0,0 +1,68 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import jdk.jfr.*;
+
+/**
+ * Flight Recorder event of the conversion of one argument token by {@link Parameter#setArgument(String)}.
+ * Recorded without stack traces, as there is one event per value token.
+ */
+@Name("ArgsParser.Conversion")
+@Label("Argument Conversion")
+@Category("ArgsParser")
+@Description("Conversion of one argument token to the type of its parameter")
+@StackTrace(false)
+final class ConversionEvent extends Event {
+
+    @Label("Flag")
+    String flag;
+
+    @Label("Type")
+    String type;
+
+    @Label("Token Length")
+    int tokenLength;
+
+    @Label("Cached")
+    @Description("True if the parameter has a conversion cache")
+    boolean cached;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Starts the event if it is enabled. Only called while {@link FlightRecording#isRunning() a recording runs}.
+     *
+     * @param parameter the converting parameter
+     * @param tokenLength number of characters of the converted token
+     * @param cached true if the parameter has a conversion cache
+     * @return the started event or null if it is not recorded
+     */
+    static ConversionEvent startIfEnabled(Parameter<?> parameter, int tokenLength, boolean cached) {
+        ConversionEvent event = new ConversionEvent();
+        if (!event.isEnabled()) return null;
+        event.flag = parameter.getFullFlag();
+        event.type = parameter.getType().getSimpleName();
+        event.tokenLength = tokenLength;
+        event.cached = cached;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits the event.
+     *
+     * @param event the started event
+     * @param success true if the token was converted
+     */
+    static void commit(ConversionEvent event, boolean success) {
+        event.success = success;
+        event.commit();
+    }
+}
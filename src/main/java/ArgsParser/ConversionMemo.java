@@ -0,0 +1,116 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.util.Arrays;
+
+/**
+ * Remembers the value tokens and the converted argument of every parameter of the last successful
+ * {@link ArgsParser#parseIncremental(String[])}, indexed by the ordinal of the parameter.
+ * If a parameter gets exactly the same value tokens again, its converted argument is carried over instead of
+ * running {@code castArgument} and path checks again.
+ *
+ * <p>Entries of a parse are collected separately and only replace the remembered ones once the parse succeeded.</p>
+ */
+final class ConversionMemo {
+
+    private String[][] tokens = new String[0][];
+    private Object[] values = new Object[0];
+    private String[][] pendingTokens = new String[0][];
+    private Object[] pendingValues = new Object[0];
+
+    /**
+     * Starts collecting the entries of a new parse.
+     * @param size number of parameters of the parser
+     */
+    void begin(int size) {
+        if (tokens.length < size) {
+            tokens = Arrays.copyOf(tokens, size);
+            values = Arrays.copyOf(values, size);
+        }
+        if (pendingTokens.length < size) {
+            pendingTokens = new String[size][];
+            pendingValues = new Object[size];
+        } else {
+            Arrays.fill(pendingTokens, null);
+            Arrays.fill(pendingValues, null);
+        }
+    }
+
+    /**
+     * Checks if the value tokens {@code args[first] (from valueOffset on), args[first + 1] .. args[last]} equal the
+     * value tokens the parameter with the given ordinal had in the last successful parse.
+     *
+     * @param ordinal ordinal of the parameter
+     * @param args the args of the current parse
+     * @param first index of the first value token
+     * @param valueOffset index of the value inside of the first token, greater than 0 for {@code --flag=value}
+     * @param last index of the last value token
+     * @return true if the converted argument of the last parse can be carried over
+     */
+    boolean matches(int ordinal, String[] args, int first, int valueOffset, int last) {
+        String[] previous = tokens[ordinal];
+        if (previous == null || previous.length != last - first + 1) return false;
+
+        String firstToken = args[first];
+        int firstLength = firstToken.length() - valueOffset;
+        if (previous[0].length() != firstLength || !firstToken.regionMatches(valueOffset, previous[0], 0, firstLength)) {
+            return false;
+        }
+        for (int i = 1; i < previous.length; i++) {
+            if (!previous[i].equals(args[first + i])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param ordinal ordinal of the parameter
+     * @return the converted argument of the last successful parse
+     */
+    Object value(int ordinal) {
+        return values[ordinal];
+    }
+
+    /**
+     * Keeps the entry of the last successful parse for the current parse, used after its value was carried over.
+     * @param ordinal ordinal of the parameter
+     */
+    void keep(int ordinal) {
+        pendingTokens[ordinal] = tokens[ordinal];
+        pendingValues[ordinal] = values[ordinal];
+    }
+
+    /**
+     * Remembers the value tokens and the converted argument of a parameter for the current parse.
+     *
+     * @param ordinal ordinal of the parameter
+     * @param args the args of the current parse
+     * @param first index of the first value token
+     * @param valueOffset index of the value inside of the first token
+     * @param last index of the last value token
+     * @param value the converted argument
+     */
+    void remember(int ordinal, String[] args, int first, int valueOffset, int last, Object value) {
+        String[] valueTokens = Arrays.copyOfRange(args, first, last + 1);
+        if (valueOffset > 0) valueTokens[0] = valueTokens[0].substring(valueOffset);
+        pendingTokens[ordinal] = valueTokens;
+        pendingValues[ordinal] = value;
+    }
+
+    /**
+     * Replaces the remembered entries by the entries of the current, successful parse.
+     */
+    void commit() {
+        String[][] swapTokens = tokens;
+        Object[] swapValues = values;
+        tokens = pendingTokens;
+        values = pendingValues;
+        pendingTokens = swapTokens;
+        pendingValues = swapValues;
+    }
+}
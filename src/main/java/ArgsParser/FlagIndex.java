@@ -0,0 +1,184 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.util.List;
+
+/**
+ * Open addressing hash index from flags to parameters that can be queried with a range of a token,
+ * so that the flag part of tokens like {@code --flag=value} or the single flags of a cluster like {@code -abc}
+ * are found without creating substrings.
+ *
+ * <p>The hash of a range is the {@link String#hashCode()} of the equivalent substring.</p>
+ *
+ * <p>
+ * Collisions are resolved by linear probing, so flags that are inserted first sit in their home slot and are found
+ * with a single comparison, as long as the index does not grow: growing inserts all flags again in slot order.
+ * {@link ArgsParser#reorderByUsage()} therefore rebuilds the index {@link #inOrder(List) sized for all flags}, with the
+ * most used flags first.
+ * </p>
+ */
+final class FlagIndex {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private String[] keys;
+    private Parameter<?>[] values;
+    private int size = 0;
+
+    FlagIndex() {
+        this(0);
+    }
+
+    /**
+     * @param expectedFlags number of flags the index holds without growing
+     */
+    private FlagIndex(int expectedFlags) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedFlags * 2) capacity <<= 1;
+        keys = new String[capacity];
+        values = new Parameter<?>[capacity];
+    }
+
+    /**
+     * Creates an index that holds the full and short flags of the given parameters without growing, so every flag
+     * is only moved out of its home slot by flags of parameters before it.
+     *
+     * @param parameters the parameters, the ones that should be found fastest first
+     * @return the new index
+     */
+    static FlagIndex inOrder(List<Parameter<?>> parameters) {
+        FlagIndex index = new FlagIndex(parameters.size() * 2);
+        for (Parameter<?> parameter : parameters) {
+            index.put(parameter.getFullFlag(), parameter);
+            index.put(parameter.getShortFlag(), parameter);
+        }
+        return index;
+    }
+
+    /**
+     * Adds a flag of the given parameter to the index.
+     *
+     * @param flag the full or short flag
+     * @param parameter the parameter of the flag
+     */
+    void put(String flag, Parameter<?> parameter) {
+        if ((size + 1) * 2 > keys.length) resize();
+        insert(flag, parameter);
+        size++;
+    }
+
+    /**
+     * @return an independent index holding the same flags in the same slots
+     */
+    FlagIndex copy() {
+        FlagIndex copy = new FlagIndex();
+        copy.keys = keys.clone();
+        copy.values = values.clone();
+        copy.size = size;
+        return copy;
+    }
+
+    private void insert(String flag, Parameter<?> parameter) {
+        int mask = keys.length - 1;
+        int slot = spread(flag.hashCode()) & mask;
+        while (keys[slot] != null) {
+            if (keys[slot].equals(flag)) {
+                values[slot] = parameter;
+                size--;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = flag;
+        values[slot] = parameter;
+    }
+
+    private void resize() {
+        String[] oldKeys = keys;
+        Parameter<?>[] oldValues = values;
+        keys = new String[oldKeys.length * 2];
+        values = new Parameter<?>[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) insert(oldKeys[i], oldValues[i]);
+        }
+    }
+
+    /**
+     * @param flag a flag of the index
+     * @return number of slots a lookup of the flag compares, 1 if the flag sits in its home slot
+     */
+    int probeLength(String flag) {
+        int mask = keys.length - 1;
+        int probes = 1;
+        for (int slot = spread(flag.hashCode()) & mask; !flag.equals(keys[slot]); slot = (slot + 1) & mask) probes++;
+        return probes;
+    }
+
+    /**
+     * Looks up a whole token, using its cached String hash.
+     *
+     * @param flag the token
+     * @return the parameter of the flag or null if the flag is unknown
+     */
+    Parameter<?> get(String flag) {
+        int mask = keys.length - 1;
+        for (int slot = spread(flag.hashCode()) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot].equals(flag)) return values[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Looks up the flag {@code token[from, to)}.
+     *
+     * @param token the token holding the flag
+     * @param from index of the first flag character (the first dash)
+     * @param to index after the last flag character
+     * @return the parameter of the flag or null if the flag is unknown
+     */
+    Parameter<?> get(CharSequence token, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) hash = 31 * hash + token.charAt(i);
+
+        int mask = keys.length - 1;
+        for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            String key = keys[slot];
+            if (key.length() == to - from && regionEquals(key, token, from)) return values[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Looks up the single character short flag {@code -c}.
+     *
+     * @param c the flag character
+     * @return the parameter of the flag or null if the flag is unknown
+     */
+    Parameter<?> getShort(char c) {
+        int hash = 31 * '-' + c;
+        int mask = keys.length - 1;
+        for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            String key = keys[slot];
+            if (key.length() == 2 && key.charAt(0) == '-' && key.charAt(1) == c) return values[slot];
+        }
+        return null;
+    }
+
+    private static boolean regionEquals(String key, CharSequence token, int from) {
+        if (token instanceof String string) return string.regionMatches(from, key, 0, key.length());
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != token.charAt(from + i)) return false;
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,65 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Tracks whether any Flight Recorder recording is running. The events of this library are only created while one
+ * is, so that parsing without a recording does not allocate or check event settings at all.
+ *
+ * <p>
+ * Loading an event class starts up the Flight Recorder, which takes far longer than a whole parse. This class
+ * therefore never references the event types: callers check {@link #isRunning()} before they touch an event class,
+ * and until the Flight Recorder was initialised by a recording, nothing but its initialisation flag is read.
+ * </p>
+ */
+final class FlightRecording {
+
+    private static volatile boolean listening = false;
+    private static volatile boolean running = false;
+
+    private FlightRecording() {
+    }
+
+    /**
+     * @return true while at least one recording is running
+     */
+    static boolean isRunning() {
+        if (!listening) {
+            // no recording was started in this JVM yet
+            if (!FlightRecorder.isInitialized()) return false;
+            listen();
+        }
+        return running;
+    }
+
+    private static synchronized void listen() {
+        if (listening) return;
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                if (recording.getState() == RecordingState.RUNNING) running = true;
+                else running = anyRecordingRunning();
+            }
+        });
+        running = anyRecordingRunning();
+        listening = true;
+    }
+
+    private static boolean anyRecordingRunning() {
+        if (!FlightRecorder.isInitialized()) return false;
+        for (Recording recording : FlightRecorder.getFlightRecorder().getRecordings()) {
+            if (recording.getState() == RecordingState.RUNNING) return true;
+        }
+        return false;
+    }
+}
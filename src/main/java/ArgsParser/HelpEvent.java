@@ -0,0 +1,45 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import jdk.jfr.*;
+
+/**
+ * Flight Recorder event of the rendering of a help message by {@link CalledForHelpNotification}.
+ */
+@Name("ArgsParser.Help")
+@Label("Help Rendering")
+@Category("ArgsParser")
+@Description("Rendering of the help message for all flags or a single flag")
+final class HelpEvent extends Event {
+
+    @Label("Flag")
+    @Description("The flag or command the help was called for, null for the full help")
+    String flag;
+
+    @Label("Parameters")
+    int parameterCount;
+
+    @Label("Commands")
+    int commandCount;
+
+    @Label("Message Length")
+    int messageLength;
+
+    /**
+     * Starts the event if it is enabled. Only called while {@link FlightRecording#isRunning() a recording runs}.
+     *
+     * @return the started event or null if it is not recorded
+     */
+    static HelpEvent startIfEnabled() {
+        HelpEvent event = new HelpEvent();
+        if (!event.isEnabled()) return null;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,87 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed size, log-linear histogram of non-negative long values, like an HDR histogram with one significant digit.
+ * Every power of two is split into 16 linear sub-buckets, so a reported percentile is at most 1/16 (6.25%) above the
+ * recorded value. Values below 16 are counted exactly.
+ *
+ * <p>Recording is lock free and allocation free, reading is safe while values are recorded.</p>
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * @param value the value to record, negative values are recorded as 0
+     */
+    void record(long value) {
+        counts.incrementAndGet(indexOf(Math.max(0, value)));
+    }
+
+    /**
+     * Returns the value below or at which the given fraction of all recorded values lie.
+     *
+     * @param percentile fraction between 0 and 1, e.g. 0.99
+     * @return the highest value of the bucket holding the percentile, 0 if nothing was recorded
+     */
+    long valueAt(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) total += snapshot[i] = counts.get(i);
+        if (total == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) return highestValueOf(i);
+        }
+        return highestValueOf(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * @return the highest value of the highest non-empty bucket, 0 if nothing was recorded
+     */
+    long max() {
+        for (int i = BUCKET_COUNT - 1; i >= 0; i--) {
+            if (counts.get(i) != 0) return highestValueOf(i);
+        }
+        return 0;
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) counts.set(i, 0);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        long highest = lowest + (1L << shift) - 1;
+        return highest < 0 ? Long.MAX_VALUE : highest;
+    }
+}
@@ -0,0 +1,88 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * A discovered {@link ParameterProvider} that was not created yet, together with the flags and commands its
+ * {@link Provides} annotation declares. Only the class of the provider is loaded, it is neither initialised nor
+ * instantiated before {@link #contribute(ArgsParser)}.
+ */
+final class LazyProvider {
+
+    private final ServiceLoader.Provider<ParameterProvider> provider;
+    private final List<String> flags;
+    private final List<String> commands;
+    private Throwable failure = null; // set by the first failed contribution, only accessed while the parser is locked
+
+    /**
+     * @param provider the discovered provider
+     * @param provides the annotation of the provider class
+     */
+    LazyProvider(ServiceLoader.Provider<ParameterProvider> provider, Provides provides) {
+        this.provider = provider;
+        List<String> flags = new ArrayList<>();
+        for (String flag : provides.fullFlags()) flags.add(ArgsParser.makeFlag(flag, false));
+        for (String flag : provides.shortFlags()) flags.add(ArgsParser.makeFlag(flag, true));
+        this.flags = Collections.unmodifiableList(flags);
+        this.commands = List.of(provides.commands());
+    }
+
+    /**
+     * @return the declared flags, in the form they are used on the command line
+     */
+    List<String> flags() {
+        return flags;
+    }
+
+    /**
+     * @return the declared full and short command names
+     */
+    List<String> commands() {
+        return commands;
+    }
+
+    /**
+     * Creates the provider and lets it add its parameters and commands to the parser.
+     * A provider that failed once is not created again, every later call fails as well.
+     *
+     * @param parser the parser to contribute to
+     * @throws IllegalStateException if the provider did not add all declared flags and commands or failed before
+     */
+    void contribute(ArgsParser parser) throws IllegalStateException {
+        if (failure != null) {
+            throw new IllegalStateException(provider.type().getName() + " failed to contribute before!", failure);
+        }
+        try {
+            provider.get().contribute(parser);
+            for (String flag : flags) {
+                if (parser.getParameter(flag) == null) throw undeclared(flag);
+            }
+            for (String command : commands) {
+                if (parser.getCommand(command) == null) throw undeclared(command);
+            }
+        } catch (RuntimeException | ServiceConfigurationError e) {
+            failure = e;
+            throw e;
+        }
+    }
+
+    private IllegalStateException undeclared(String name) {
+        return new IllegalStateException(provider.type().getName() + " declares " + name + " but did not add it!");
+    }
+
+    @Override
+    public String toString() {
+        return provider.type().getName();
+    }
+}
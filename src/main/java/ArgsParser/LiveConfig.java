@@ -0,0 +1,291 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Configuration of a long running program that is parsed from a file against one {@link ArgsParser} specification
+ * and parsed again whenever the file changes, e.g. to change the log level of a daemon without restarting it.
+ *
+ * <p>
+ * Files ending in {@code .properties} are read as {@link Properties}: every key is the full flag of a parameter
+ * (leading dashes are optional) and its value holds the arguments, split like shell tokens so array parameters get
+ * several values. A key naming a command provides the command if its value is {@code true}. Every other file is read
+ * as arguments file, holding the command line split into tokens like a POSIX shell does, see {@link Repl}.
+ * </p>
+ * <p>
+ * Every successful parse is published as a new {@link ParseResult}, which is never changed afterwards: it is
+ * {@link ParseResult#isReadOnly() read-only}, so it can neither be reset nor parsed into again. Readers get the
+ * current result with {@link #current()} from any thread without locking, and every result is complete: a reader
+ * never sees arguments of two different versions of the file. A file that cannot be parsed keeps the previous
+ * result. To keep the watcher from reading a partly written file, replace the file by moving a new file over it.
+ * </p>
+ * <p>
+ * After a reload, the {@link Listener}s are called once for each parameter whose value changed, on the thread that
+ * reloaded. The parser is used by every reload, so it must not be used to parse anything else and the parameter
+ * handles do not return the values of the current result, read them with {@link #get(Parameter)} instead.
+ * </p>
+ *
+ * <pre>{@code
+ * ArgsParser parser = new ArgsParser();
+ * StrParameter logLevel = parser.addParameter(new StrParameter("INFO", "logLevel", "l", "log level"));
+ *
+ * LiveConfig config = new LiveConfig(parser, Path.of("daemon.properties"));
+ * config.onChange(logLevel, (previous, current) -> logger.setLevel(current));
+ * config.start();
+ * }</pre>
+ */
+public final class LiveConfig implements AutoCloseable {
+
+    /**
+     * Receives the changed parameters of a reload.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * @param parameter the parameter whose value changed
+         * @param previous the value of the previous result, an argument, the default value or null
+         * @param current the value of the new result, an argument, the default value or null
+         */
+        void changed(Parameter<?> parameter, Object previous, Object current);
+    }
+
+    private final ArgsParser parser;
+    private final Path file;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile ParseResult current = null;
+    private volatile Consumer<Exception> errorHandler = exception -> {};
+    private WatchService watchService = null;
+    private Thread watcher = null;
+
+    /**
+     * @param parser the specification the file is parsed against, only used by this configuration from now on
+     * @param file arguments or properties file holding the configuration
+     * @throws IllegalArgumentException if parser or file is null
+     */
+    public LiveConfig(ArgsParser parser, Path file) {
+        if (parser == null) throw new IllegalArgumentException("Parser cannot be null!");
+        if (file == null) throw new IllegalArgumentException("File cannot be null!");
+        this.parser = parser;
+        this.file = file.toAbsolutePath();
+    }
+
+    /**
+     * Adds a listener that is called for every parameter whose value changed by a reload.
+     *
+     * @param listener the listener
+     * @throws IllegalArgumentException if listener is null
+     */
+    public void addListener(Listener listener) {
+        if (listener == null) throw new IllegalArgumentException("Listener cannot be null!");
+        listeners.add(listener);
+    }
+
+    /**
+     * Adds a listener that is called whenever the value of the given parameter changed by a reload.
+     *
+     * @param parameter the observed parameter
+     * @param listener receives the previous and the new value of the parameter
+     * @param <T> type of the parameter
+     * @throws IllegalArgumentException if parameter or listener is null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void onChange(Parameter<T> parameter, BiConsumer<T, T> listener) {
+        if (parameter == null) throw new IllegalArgumentException("Parameter cannot be null!");
+        if (listener == null) throw new IllegalArgumentException("Listener cannot be null!");
+        listeners.add((changed, previous, current) -> {
+            if (changed == parameter) listener.accept((T) previous, (T) current);
+        });
+    }
+
+    /**
+     * Sets the handler for failed reloads of the watcher and for exceptions thrown by listeners. By default they are
+     * ignored and the previous result is kept.
+     *
+     * @param errorHandler receives the exception of the failed reload or listener
+     * @throws IllegalArgumentException if errorHandler is null
+     */
+    public void onError(Consumer<Exception> errorHandler) {
+        if (errorHandler == null) throw new IllegalArgumentException("Error handler cannot be null!");
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * @return the result of the last successful load, it is never changed
+     * @throws IllegalStateException if the file was not loaded yet
+     */
+    public ParseResult current() throws IllegalStateException {
+        ParseResult result = current;
+        if (result == null) throw new IllegalStateException("The configuration was not loaded yet!");
+        return result;
+    }
+
+    /**
+     * Returns the value of the parameter in the {@link #current() current} result.
+     *
+     * @param parameter a parameter of the parser
+     * @param <T> type of the parameter
+     * @return the argument, the default value or null if neither exists
+     * @throws IllegalStateException if the file was not loaded yet
+     */
+    public <T> T get(Parameter<T> parameter) throws IllegalStateException {
+        return current().get(parameter);
+    }
+
+    /**
+     * Reads and parses the file, publishes the new result and calls the listeners for every changed parameter.
+     * The first load does not call the listeners. If the file cannot be read or parsed, the previous result is kept.
+     *
+     * @return the new result
+     * @throws IOException if the file cannot be read
+     * @throws ArgsException if the configuration is invalid
+     * @throws CalledForHelpNotification if the configuration asks for the help
+     */
+    public synchronized ParseResult reload() throws IOException, ArgsException, CalledForHelpNotification {
+        ParseResult next = parser.parseFresh(readArguments());
+        next.makeReadOnly();
+        ParseResult previous = current;
+        current = next;
+        if (previous != null) notifyListeners(previous, next);
+        return next;
+    }
+
+    /**
+     * Loads the file and starts a daemon thread that reloads it whenever it is created or modified. Failed reloads
+     * are handed to the {@link #onError(Consumer) error handler}.
+     *
+     * @return this configuration
+     * @throws IOException if the file cannot be read or watched
+     * @throws ArgsException if the configuration is invalid
+     * @throws CalledForHelpNotification if the configuration asks for the help
+     * @throws IllegalStateException if the watcher was already started
+     */
+    public synchronized LiveConfig start() throws IOException, ArgsException, CalledForHelpNotification,
+            IllegalStateException {
+
+        if (watchService != null) throw new IllegalStateException("The configuration is already watched!");
+        reload();
+
+        WatchService service = file.getFileSystem().newWatchService();
+        Thread thread;
+        try {
+            file.getParent().register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                                      StandardWatchEventKinds.ENTRY_MODIFY);
+            thread = new Thread(() -> watch(service), "LiveConfig " + file.getFileName());
+            thread.setDaemon(true);
+            thread.start();
+        } catch (IOException | RuntimeException e) {
+            service.close();
+            throw e;
+        }
+        // only a started watcher is recorded, so that a failed start can be retried and close() has nothing to do
+        watchService = service;
+        watcher = thread;
+        return this;
+    }
+
+    /**
+     * Stops watching the file, the current result stays readable.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService == null) return;
+        watchService.close();
+        watcher.interrupt();
+        watchService = null;
+        watcher = null;
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (file.getFileName().equals(event.context())) changed = true;
+                }
+                key.reset();
+                if (!changed) continue;
+
+                try {
+                    reload();
+                } catch (IOException | ArgsException | CalledForHelpNotification e) {
+                    errorHandler.accept(e);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private void notifyListeners(ParseResult previous, ParseResult next) {
+        if (listeners.isEmpty()) return;
+        for (int i = 0; i < next.size(); i++) {
+            Parameter<?> parameter = next.parameterAt(i);
+            // parameters added to the parser since the previous load had no value before
+            Object before = i < previous.size() ? previous.get(parameter) : null;
+            Object after = next.get(parameter);
+            if (Objects.deepEquals(before, after)) continue;
+
+            for (Listener listener : listeners) {
+                try {
+                    listener.changed(parameter, before, after);
+                } catch (RuntimeException e) {
+                    errorHandler.accept(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the command line held by the file
+     * @throws IOException if the file cannot be read
+     */
+    private String[] readArguments() throws IOException {
+        List<String> args = new ArrayList<>();
+        if (file.getFileName().toString().endsWith(".properties")) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            // sorted, so that an invalid file always reports the same error
+            for (String key : new TreeSet<>(properties.stringPropertyNames())) {
+                String value = properties.getProperty(key).trim();
+                if (parser.getCommand(key) != null) {
+                    if (Boolean.parseBoolean(value)) args.add(key);
+                    continue;
+                }
+                args.add(ArgsParser.makeFlag(key, false));
+                addTokens(new StringReader(value), args);
+            }
+        } else {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                addTokens(reader, args);
+            }
+        }
+        return args.toArray(new String[0]);
+    }
+
+    private static void addTokens(Reader reader, List<String> args) throws IOException {
+        ShellTokenizer tokenizer = new ShellTokenizer(reader);
+        for (String[] line = tokenizer.nextLine(); line != null; line = tokenizer.nextLine()) {
+            Collections.addAll(args, line);
+        }
+    }
+}
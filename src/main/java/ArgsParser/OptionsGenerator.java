@@ -0,0 +1,509 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import ArgsParser.ParameterTypes.*;
+
+import javax.lang.model.SourceVersion;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Generates the source of a typed options class from an {@link ArgsParser} specification.
+ *
+ * <p>
+ * The specification is loaded from a public static factory method without arguments that returns a new
+ * {@link ArgsParser} with all parameters, commands and toggles defined. The generated class has one public final field
+ * per parameter and command and a specialized {@code parse} method that reads the args with a {@code switch} over the
+ * flags and converts the arguments in place, without going through the parameter maps of the generic parser.
+ * </p>
+ *
+ * <p>
+ * The specialized code only handles args that parse successfully. As soon as it meets anything else (an unknown
+ * flag, a missing or invalid argument, {@code --help}, {@code --values-from}, a missing mandatory parameter, ...)
+ * it hands the args to a parser created by the factory method, so all error messages, the help output and the exit
+ * codes stay the same. Parameter types other than the build-in ones (and subclasses of them) are always handled by
+ * the generic parser.
+ * </p>
+ *
+ * <p>Usage from the command line or the {@code exec-maven-plugin} in the {@code generate-sources} phase:</p>
+ * <pre>
+ * java ArgsParser.OptionsGenerator com.example.Cli#spec com.example.CliOptions target/generated-sources/args
+ * </pre>
+ */
+public final class OptionsGenerator {
+
+    private static final String INDENT = "    ";
+    // names of the local variables used by the generated code
+    private static final Set<String> RESERVED_NAMES = Set.of("args", "i", "from", "k", "value", "parsed", "path", "options", "parser");
+
+    private final ArgsParser spec;
+    private final String factoryCall;
+    private final String packageName;
+    private final String className;
+    private final List<Parameter<?>> parameters;
+    private final List<Command> commands;
+    private final List<String> parameterFields = new ArrayList<>();
+    private final List<String> commandFields = new ArrayList<>();
+    private final boolean fastPathSupported;
+    private final StringBuilder source = new StringBuilder();
+
+    private OptionsGenerator(ArgsParser spec, String factoryCall, String qualifiedClassName) {
+        this.spec = spec;
+        this.factoryCall = factoryCall;
+        int lastDot = qualifiedClassName.lastIndexOf('.');
+        this.packageName = lastDot < 0 ? "" : qualifiedClassName.substring(0, lastDot);
+        this.className = qualifiedClassName.substring(lastDot + 1);
+        if (!SourceVersion.isName(qualifiedClassName)) {
+            throw new IllegalArgumentException("Invalid class name: " + qualifiedClassName);
+        }
+        this.parameters = spec.getParametersInDefinitionOrder();
+        this.commands = spec.getCommandsInDefinitionOrder();
+
+        Set<String> usedNames = new HashSet<>(RESERVED_NAMES);
+        for (Parameter<?> parameter : parameters) parameterFields.add(fieldName(parameter.getFullFlag(), usedNames));
+        for (Command command : commands) commandFields.add(fieldName(command.getFullCommandName(), usedNames));
+        this.fastPathSupported = isFastPathSupported();
+    }
+
+    /**
+     * Generates the source of the options class for the given specification.
+     *
+     * @param spec parser holding the specification, parse must not have been called on it
+     * @param factoryCall Java expression that creates a new parser with the same specification, e.g. {@code com.example.Cli.spec()}
+     * @param qualifiedClassName fully qualified name of the generated class
+     * @return the Java source of the generated class
+     * @throws IllegalArgumentException if the class name is not a valid Java name
+     */
+    public static String generate(ArgsParser spec, String factoryCall, String qualifiedClassName) {
+        return new OptionsGenerator(spec, factoryCall, qualifiedClassName).generate();
+    }
+
+    /**
+     * Loads the specification from a static factory method and writes the generated options class into a source directory.
+     *
+     * @param args {@code <factory class>#<method> <qualified class name> <source directory>}
+     * @throws Exception if the factory method cannot be called or the source cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 3 || !args[0].contains("#")) {
+            System.out.println("Usage: OptionsGenerator <factory class>#<method> <qualified class name> <source directory>");
+            System.exit(1);
+        }
+        String factoryClass = args[0].substring(0, args[0].indexOf('#'));
+        String factoryMethod = args[0].substring(args[0].indexOf('#') + 1);
+        Path written = write(factoryClass, factoryMethod, args[1], Path.of(args[2]));
+        System.out.println("Generated " + written);
+    }
+
+    /**
+     * Loads the specification from a static factory method and writes the generated options class into a source directory.
+     *
+     * @param factoryClass fully qualified name of the class declaring the factory method
+     * @param factoryMethod name of the public static factory method without parameters returning an {@link ArgsParser}
+     * @param qualifiedClassName fully qualified name of the generated class
+     * @param sourceDirectory root directory of the generated sources
+     * @return the written source file
+     * @throws ReflectiveOperationException if the factory method cannot be found or called
+     * @throws IOException if the source cannot be written
+     * @throws IllegalArgumentException if the factory method does not return an {@link ArgsParser}
+     */
+    public static Path write(String factoryClass, String factoryMethod, String qualifiedClassName, Path sourceDirectory)
+            throws ReflectiveOperationException, IOException {
+
+        Class<?> type = Class.forName(factoryClass, true, Thread.currentThread().getContextClassLoader());
+        Method method = type.getMethod(factoryMethod);
+        if (!Modifier.isStatic(method.getModifiers()) || !ArgsParser.class.isAssignableFrom(method.getReturnType())) {
+            throw new IllegalArgumentException(factoryClass + "#" + factoryMethod + " has to be static and return an ArgsParser");
+        }
+        ArgsParser spec = (ArgsParser) method.invoke(null);
+        String source = generate(spec, type.getCanonicalName() + "." + factoryMethod + "()", qualifiedClassName);
+
+        Path file = sourceDirectory.resolve(qualifiedClassName.replace('.', '/') + ".java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private String generate() {
+        line(0, "// Generated by ArgsParser.OptionsGenerator from " + factoryCall + ", do not edit.");
+        if (!packageName.isEmpty()) line(0, "package " + packageName + ";");
+        line(0, "");
+        line(0, "/**");
+        line(0, " * Typed options of the parser created by {@code " + factoryCall + "}.");
+        line(0, " */");
+        line(0, "public final class " + className + " {");
+        line(0, "");
+        writeFields();
+        writeConstructor();
+        writeParseMethods();
+        writeFromParser();
+        writeFastParse();
+        if (fastPathSupported) writeHelpers();
+        line(0, "}");
+        return source.toString();
+    }
+
+    private void writeFields() {
+        for (int i = 0; i < parameters.size(); i++) {
+            Parameter<?> parameter = parameters.get(i);
+            line(1, "/** " + javadocText(parameter.getFullFlag() + " / " + parameter.getShortFlag(), parameter.getDescription()) + " */");
+            line(1, "public final " + fieldType(parameter) + " " + parameterFields.get(i) + ";");
+        }
+        for (int i = 0; i < commands.size(); i++) {
+            Command command = commands.get(i);
+            line(1, "/** " + javadocText("command " + command.getFullCommandName(), command.getDescription()) + " */");
+            line(1, "public final boolean " + commandFields.get(i) + ";");
+        }
+        line(0, "");
+    }
+
+    private void writeConstructor() {
+        List<String> arguments = new ArrayList<>();
+        for (int i = 0; i < parameters.size(); i++) arguments.add(fieldType(parameters.get(i)) + " " + parameterFields.get(i));
+        for (String field : commandFields) arguments.add("boolean " + field);
+
+        line(1, "private " + className + "(" + String.join(", ", arguments) + ") {");
+        for (String field : parameterFields) line(2, "this." + field + " = " + field + ";");
+        for (String field : commandFields) line(2, "this." + field + " = " + field + ";");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeParseMethods() {
+        line(1, "/**");
+        line(1, " * Parses the args like {@link ArgsParser.ArgsParser#parse(String[])}, prints help or errors and exits if needed.");
+        line(1, " *");
+        line(1, " * @param args the args of the main method");
+        line(1, " * @return the parsed options");
+        line(1, " */");
+        line(1, "public static " + className + " parse(String[] args) {");
+        line(2, className + " options = fastParse(args);");
+        line(2, "if (options != null) return options;");
+        line(2, "ArgsParser.ArgsParser parser = " + factoryCall + ";");
+        line(2, "parser.parse(args);");
+        line(2, "return fromParser(parser);");
+        line(1, "}");
+        line(0, "");
+        line(1, "/**");
+        line(1, " * Parses the args like {@link ArgsParser.ArgsParser#parseUnchecked(String[])}.");
+        line(1, " *");
+        line(1, " * @param args the args of the main method");
+        line(1, " * @return the parsed options");
+        line(1, " * @throws ArgsParser.ArgsException if the args are invalid");
+        line(1, " * @throws ArgsParser.CalledForHelpNotification if help was called");
+        line(1, " */");
+        line(1, "public static " + className + " parseUnchecked(String[] args) throws ArgsParser.ArgsException, ArgsParser.CalledForHelpNotification {");
+        line(2, className + " options = fastParse(args);");
+        line(2, "if (options != null) return options;");
+        line(2, "ArgsParser.ArgsParser parser = " + factoryCall + ";");
+        line(2, "parser.parseUnchecked(args);");
+        line(2, "return fromParser(parser);");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeFromParser() {
+        line(1, "private static " + className + " fromParser(ArgsParser.ArgsParser parser) {");
+        List<String> arguments = new ArrayList<>();
+        for (Parameter<?> parameter : parameters) {
+            arguments.add("parser.<" + boxedFieldType(parameter) + ">getArgumentOf(" + stringLiteral(parameter.getFullFlag()) + ")");
+        }
+        for (Command command : commands) {
+            arguments.add("parser.checkIfCommandIsProvided(" + stringLiteral(command.getFullCommandName()) + ")");
+        }
+        line(2, "return new " + className + "(");
+        for (int i = 0; i < arguments.size(); i++) line(4, arguments.get(i) + (i < arguments.size() - 1 ? "," : ");"));
+        if (arguments.isEmpty()) line(4, ");");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeFastParse() {
+        line(1, "/**");
+        line(1, " * Specialized parse of valid args.");
+        line(1, " *");
+        line(1, " * @return the options or null if the args have to be handled by the generic parser");
+        line(1, " */");
+        line(1, "private static " + className + " fastParse(String[] args) {");
+        if (!fastPathSupported) {
+            line(2, "// the specification holds parameter types that are only handled by the generic parser");
+            line(2, "return null;");
+            line(1, "}");
+            line(0, "");
+            return;
+        }
+        line(2, "if (args == null) return null;");
+
+        for (int i = 0; i < parameters.size(); i++) {
+            Parameter<?> parameter = parameters.get(i);
+            String field = parameterFields.get(i);
+            line(2, fieldType(parameter) + " " + field + " = " + defaultLiteral(parameter) + ";");
+            line(2, "boolean " + field + "$set = false;");
+        }
+        for (String field : commandFields) line(2, "boolean " + field + " = false;");
+
+        line(0, "");
+        line(2, "for (int i = 0; i < args.length; i++) {");
+        line(3, "switch (args[i]) {");
+        for (int i = 0; i < parameters.size(); i++) writeParameterCase(parameters.get(i), parameterFields.get(i));
+        for (int i = 0; i < commands.size(); i++) {
+            Command command = commands.get(i);
+            line(4, "case " + stringLiteral(command.getFullCommandName()) + ", " + stringLiteral(command.getShortCommandName())
+                    + " -> " + commandFields.get(i) + " = true;");
+        }
+        line(4, "default -> {");
+        line(5, "return null;");
+        line(4, "}");
+        line(3, "}");
+        line(2, "}");
+        line(0, "");
+
+        for (int i = 0; i < parameters.size(); i++) {
+            if (parameters.get(i).isMandatory()) line(2, "if (!" + parameterFields.get(i) + "$set) return null;");
+        }
+        for (Command[] toggle : spec.getToggles()) {
+            List<String> provided = new ArrayList<>();
+            for (Command command : toggle) provided.add("(" + commandFields.get(commands.indexOf(command)) + " ? 1 : 0)");
+            line(2, "if (" + String.join(" + ", provided) + " > 1) return null;");
+        }
+
+        List<String> arguments = new ArrayList<>(parameterFields);
+        arguments.addAll(commandFields);
+        line(2, "return new " + className + "(" + String.join(", ", arguments) + ");");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeParameterCase(Parameter<?> parameter, String field) {
+        line(4, "case " + stringLiteral(parameter.getFullFlag()) + ", " + stringLiteral(parameter.getShortFlag()) + " -> {");
+        line(5, "if (" + field + "$set || i + 1 == args.length || isNoValue(args[i + 1])) return null;");
+        if (parameter.isArray()) {
+            Class<?> elementType = parameter.getType().getComponentType();
+            line(5, "int from = i + 1;");
+            line(5, "do i++; while (i + 1 < args.length && !isNoValue(args[i + 1]));");
+            line(5, field + " = new " + elementType.getCanonicalName() + "[i - from + 1];");
+            line(5, "for (int k = 0; k < " + field + ".length; k++) {");
+            line(6, "String value = args[from + k];");
+            writeConversion(6, elementType, parameter.validatesPaths(), field + "[k]");
+            line(5, "}");
+        } else {
+            line(5, "String value = args[++i];");
+            writeConversion(5, parameter.getType(), parameter.validatesPaths(), field);
+        }
+        line(5, field + "$set = true;");
+        line(4, "}");
+    }
+
+    private void writeConversion(int indent, Class<?> type, boolean pathCheck, String target) {
+        if (type == String.class) {
+            line(indent, target + " = value;");
+        } else if (type == Integer.class) {
+            line(indent, "long parsed = ArgsParser.ParameterTypes.NumberParser.parseInt(value, 0, value.length());");
+            line(indent, "if (parsed == ArgsParser.ParameterTypes.NumberParser.INVALID_INT) return null;");
+            line(indent, target + " = (int) parsed;");
+        } else if (type == Double.class) {
+            line(indent, "long parsed = ArgsParser.ParameterTypes.NumberParser.parseDoubleBits(value, 0, value.length());");
+            line(indent, "if (parsed == ArgsParser.ParameterTypes.NumberParser.INVALID_DOUBLE_BITS) return null;");
+            line(indent, target + " = Double.longBitsToDouble(parsed);");
+        } else if (type == Float.class) {
+            line(indent, "long parsed = ArgsParser.ParameterTypes.NumberParser.parseFloatBits(value, 0, value.length());");
+            line(indent, "if (parsed == ArgsParser.ParameterTypes.NumberParser.INVALID_FLOAT_BITS) return null;");
+            line(indent, target + " = Float.intBitsToFloat((int) parsed);");
+        } else if (type == Boolean.class) {
+            line(indent, target + " = Boolean.parseBoolean(value);");
+        } else if (type == Character.class) {
+            line(indent, "if (value.isEmpty()) return null;");
+            line(indent, target + " = value.charAt(0);");
+        } else if (type == Path.class) {
+            line(indent, "java.nio.file.Path path = toPath(value, " + pathCheck + ");");
+            line(indent, "if (path == null) return null;");
+            line(indent, target + " = path;");
+        } else {
+            throw new IllegalStateException("Unsupported type: " + type);
+        }
+    }
+
+    private void writeHelpers() {
+        line(1, "/**");
+        line(1, " * @return true if the generic parser does not treat the token as argument");
+        line(1, " */");
+        line(1, "private static boolean isNoValue(String token) {");
+        line(2, "if (token.startsWith(\"-\")) return true;");
+        if (commands.isEmpty()) {
+            line(2, "return false;");
+        } else {
+            line(2, "return switch (token) {");
+            List<String> names = new ArrayList<>();
+            for (Command command : commands) {
+                names.add(stringLiteral(command.getFullCommandName()));
+                names.add(stringLiteral(command.getShortCommandName()));
+            }
+            line(3, "case " + String.join(", ", names) + " -> true;");
+            line(3, "default -> false;");
+            line(2, "};");
+        }
+        line(1, "}");
+
+        boolean usesPaths = false;
+        for (Parameter<?> parameter : parameters) usesPaths |= elementType(parameter) == Path.class;
+        if (!usesPaths) return;
+        line(0, "");
+        line(1, "private static java.nio.file.Path toPath(String value, boolean pathCheck) {");
+        line(2, "try {");
+        line(3, "java.nio.file.Path path = java.nio.file.Path.of(value);");
+        line(3, "return !pathCheck || java.nio.file.Files.exists(path) ? path : null;");
+        line(2, "} catch (java.nio.file.InvalidPathException e) {");
+        line(3, "return null;");
+        line(2, "}");
+        line(1, "}");
+    }
+
+    /**
+     * The specialized parse only knows the conversions of the exact build-in parameter types.
+     * Their subclasses may override the conversion and are therefore handled by the generic parser.
+     */
+    private boolean isFastPathSupported() {
+        Set<Class<?>> buildIn = Set.of(StrParameter.class, IntParameter.class, DblParameter.class, FltParameter.class,
+                                       BolParameter.class, ChrParameter.class, PthParameter.class,
+                                       StrArrParameter.class, IntArrParameter.class, DblArrParameter.class,
+                                       FltArrParameter.class, BolArrParameter.class, ChrArrParameter.class,
+                                       PthArrParameter.class);
+        Set<String> labels = new HashSet<>();
+        for (Parameter<?> parameter : parameters) {
+            if (!buildIn.contains(parameter.getClass())) return false;
+            if (parameter.hasDefault() && defaultLiteral(parameter) == null) return false;
+            if (!labels.add(parameter.getFullFlag()) || !labels.add(parameter.getShortFlag())) return false;
+        }
+        for (Command command : commands) {
+            if (!labels.add(command.getFullCommandName()) || !labels.add(command.getShortCommandName())) return false;
+        }
+        return true;
+    }
+
+    private static Class<?> elementType(Parameter<?> parameter) {
+        return parameter.isArray() ? parameter.getType().getComponentType() : parameter.getType();
+    }
+
+    /**
+     * Scalar parameters that always have a value after a successful parse are stored as primitive.
+     */
+    private static String fieldType(Parameter<?> parameter) {
+        Class<?> type = parameter.getType();
+        boolean alwaysSet = parameter.isMandatory() || parameter.hasDefault();
+        if (alwaysSet && !type.isArray()) {
+            if (type == Integer.class) return "int";
+            if (type == Double.class) return "double";
+            if (type == Float.class) return "float";
+            if (type == Boolean.class) return "boolean";
+            if (type == Character.class) return "char";
+        }
+        return boxedFieldType(parameter);
+    }
+
+    private static String boxedFieldType(Parameter<?> parameter) {
+        String name = parameter.getType().getCanonicalName();
+        return name == null ? "Object" : name;
+    }
+
+    /**
+     * @return the default value as Java expression, "null" if the parameter has no default value,
+     * or null if the default value cannot be written as expression
+     */
+    private static String defaultLiteral(Parameter<?> parameter) {
+        Object defaultValue = parameter.getDefaultValue();
+        if (defaultValue == null) {
+            String type = fieldType(parameter);
+            return switch (type) {
+                case "int", "char" -> "0";
+                case "double" -> "0.0";
+                case "float" -> "0.0f";
+                case "boolean" -> "false";
+                default -> "null";
+            };
+        }
+        if (defaultValue instanceof Object[] array) {
+            StringBuilder literal = new StringBuilder("new " + array.getClass().getComponentType().getCanonicalName() + "[]{");
+            for (int i = 0; i < array.length; i++) {
+                String element = valueLiteral(array[i]);
+                if (element == null) return null;
+                literal.append(i > 0 ? ", " : "").append(element);
+            }
+            return literal.append("}").toString();
+        }
+        return valueLiteral(defaultValue);
+    }
+
+    private static String valueLiteral(Object value) {
+        if (value instanceof String string) return stringLiteral(string);
+        if (value instanceof Integer integer) return integer.toString();
+        if (value instanceof Double doubleValue) {
+            return "Double.longBitsToDouble(" + Double.doubleToRawLongBits(doubleValue) + "L)";
+        }
+        if (value instanceof Float floatValue) return "Float.intBitsToFloat(" + Float.floatToRawIntBits(floatValue) + ")";
+        if (value instanceof Boolean bool) return bool.toString();
+        if (value instanceof Character character) return "(char) " + (int) character;
+        if (value instanceof Path path) return "java.nio.file.Path.of(" + stringLiteral(path.toString()) + ")";
+        return null;
+    }
+
+    private static String stringLiteral(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) literal.append(String.format("\\u%04x", (int) c));
+                    else literal.append(c);
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private static String javadocText(String name, String description) {
+        String text = description == null || description.isBlank() ? name : name + ": " + description;
+        return text.replace("*/", "*&#47;").replace("\n", " ").replace("\\u", "\\\\u");
+    }
+
+    /**
+     * Creates a camel case Java identifier from a flag or command name, e.g. {@code --output-dir} → {@code outputDir}.
+     */
+    private static String fieldName(String flag, Set<String> usedNames) {
+        StringBuilder name = new StringBuilder();
+        boolean upper = false;
+        for (int i = 0; i < flag.length(); i++) {
+            char c = flag.charAt(i);
+            if (Character.isJavaIdentifierPart(c) && c != '$') {
+                if (name.isEmpty() && !Character.isJavaIdentifierStart(c)) name.append('_');
+                name.append(upper && !name.isEmpty() ? Character.toUpperCase(c) : c);
+                upper = false;
+            } else {
+                upper = true;
+            }
+        }
+        if (name.isEmpty() || SourceVersion.isKeyword(name)) name.append('_');
+        String candidate = name.toString();
+        for (int i = 2; !usedNames.add(candidate); i++) candidate = name.toString() + i;
+        return candidate;
+    }
+
+    private void line(int indent, String text) {
+        source.append(INDENT.repeat(indent)).append(text).append('\n');
+    }
+}
@@ -10,7 +10,11 @@ For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
 import ArgsParser.ArgsExceptions.InvalidArgTypeArgsException;
 import ArgsParser.ArgsExceptions.NotExistingPathArgsException;
 
-import java.util.Objects;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
 
 /**
  * Abstract base class for defining command-line parameters.
@@ -128,11 +132,16 @@ public abstract class Parameter<T> {
     private final String shortFlag;
     private final String description;
     private final boolean isMandatory;
-    private T argument = null;
     private T defaultValue = null;
     private ArgsParser argsParser;
+    private ParseResult result;
+    private ParseResult published;
+    private int ordinal = -1;
     private Class<T> type;
-    private boolean isProvided = false;
+    private ConversionCache<T> conversionCache = null;
+    private LongAdder usageCounter = null;
+    private int expectedValues = 1; // size hint for the array of the next run of values
+    private int appendedValues = 0;
 
     /**
      * Constructs a new {@link Parameter} instance with the specified flags, description, and mandatory status.
@@ -211,12 +220,88 @@ public abstract class Parameter<T> {
         this.argsParser = argsParser;
     }
 
+    /**
+     * Binds this parameter to the flat argument storage of its parser.
+     * @param result the storage of the parser this parameter was added to
+     * @param ordinal index of this parameter inside the storage
+     */
+    void bind(ParseResult result, int ordinal) {
+        this.result = result;
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * Publishes the argument storage for reading, called by the parser once parsing started.
+     * Afterwards, reading the argument only needs to check that the published result is set.
+     */
+    void publish() {
+        this.published = result;
+    }
+
+    /**
+     * Returns the raw bits of the primitive argument or default value of this parameter, used by the unboxed accessors
+     * of the scalar parameter types.
+     * @return the raw bits of the argument (int value, double bits, float bits, 0/1 for booleans or char value)
+     * @throws IllegalStateException if {@link ArgsParser#parse(String[] args)} was not called before, this
+     * Parameter was not added to any {@link ArgsParser} or if it has neither an argument nor a default value
+     */
+    protected final long readPrimitiveArgument() throws IllegalStateException {
+        ParseResult published = this.published;
+        if (published == null) throw notPublished();
+        return published.primitive(ordinal);
+    }
+
+    private IllegalStateException notPublished() {
+        if (argsParser == null) return new IllegalStateException("Parameter: " + this + " is not assigned to any parser instance!");
+        return new IllegalStateException("parse() was not called before trying to access the argument!");
+    }
+
+    /**
+     * getter method for the ordinal, the index of this parameter in the {@link ParseResult} of its parser
+     * @return ordinal or -1 if this parameter was not added to any parser
+     */
+    int getOrdinal() {
+        return ordinal;
+    }
+
     /**
      * returns the argument as is
      * @return argument or null if no argument is set
      */
     protected T readArgument() {
-        return argument;
+        Object stored = readStoredArgument();
+        return stored == null ? null : argumentOf(stored);
+    }
+
+    /**
+     * returns the argument in the form it is stored in the {@link ParseResult}
+     * @return stored argument or null if no argument is set
+     */
+    Object readStoredArgument() {
+        return result == null ? null : result.value(ordinal);
+    }
+
+    /**
+     * returns the argument in the form it is stored in the {@link ParseResult}, see {@link #argumentOf(Object)}
+     * @return stored argument or null if no argument is set
+     * @throws IllegalStateException if {@link ArgsParser#parse(String[] args)} was not called before trying to access this argument
+     * or if this Parameter was not added to any {@link ArgsParser}!
+     */
+    protected Object getStoredArgument() throws IllegalStateException {
+        if (published == null) throw notPublished();
+        return readStoredArgument();
+    }
+
+    /**
+     * Converts an argument stored in a {@link ParseResult} to the type of this parameter.
+     * Parameters that store their arguments in another form, like the unboxed values read with
+     * {@code --values-from}, override this method.
+     * @param stored the stored argument, not null
+     * @return the argument
+     */
+    @SuppressWarnings("unchecked")
+    protected T argumentOf(Object stored) {
+        return (T) stored;
     }
 
     /**
@@ -313,7 +398,16 @@ public abstract class Parameter<T> {
      * @return true if the parameter has an argument or default value, false otherwise
      */
     public boolean hasArgument() {
-        return argument != null || defaultValue != null;
+        return readStoredArgument() != null || defaultValue != null;
+    }
+
+    /**
+     * Checks if an argument was set on this parameter while parsing, defaults are not taken into account.
+     *
+     * @return true if an argument was set, false otherwise
+     */
+    protected boolean isArgumentSet() {
+        return readStoredArgument() != null;
     }
 
     /**
@@ -322,7 +416,7 @@ public abstract class Parameter<T> {
      * that this parameter has been supplied with a value.
      */
     protected void setProvided() {
-        isProvided = true;
+        result.setProvided(ordinal);
     }
 
     /**
@@ -331,7 +425,7 @@ public abstract class Parameter<T> {
      * @return true if the parameter was provided, false otherwise
      */
     public boolean isProvided() {
-        return isProvided;
+        return result != null && result.isProvided(ordinal);
     }
 
     /**
@@ -342,8 +436,8 @@ public abstract class Parameter<T> {
      * or if this Parameter was not added to any {@link ArgsParser}!
      */
     public T getArgument() throws IllegalStateException {
-        if (argsParser == null) throw new IllegalStateException("Parameter: " + this + " is not assigned to any parser instance!");
-        if (!argsParser.parseArgsWasCalled()) throw new IllegalStateException("parse() was not called before trying to access the argument!");
+        if (published == null) throw notPublished();
+        T argument = readArgument();
         if (argument != null) return argument;
         else if (defaultValue != null) return defaultValue;
         else return null;
@@ -356,15 +450,242 @@ public abstract class Parameter<T> {
      * @throws NotExistingPathArgsException if a PthParameter with pathCheck was handed a non-existing path
      */
     protected void setArgument(String argument) throws InvalidArgTypeArgsException, NotExistingPathArgsException {
+        ConversionEvent event = FlightRecording.isRunning()
+                                ? ConversionEvent.startIfEnabled(this, argument.length(), conversionCache != null)
+                                : null;
+        boolean converted = false;
+        try {
+            result.setValue(ordinal, conversionCache == null ? castArgument(argument) : castCached(argument),
+                            ArgumentSource.COMMAND_LINE);
+            converted = true;
+        } catch (NumberFormatException nfe) {
+            throw invalidArgument();
+        } catch (InvalidArgTypeArgsException | NotExistingPathArgsException argsExcep) {
+            throw argsExcep;
+        } catch (Exception e) {
+            throw new InvalidArgTypeArgsException(fullFlag, type.getSimpleName(), e.getMessage());
+        } finally {
+            if (event != null) ConversionEvent.commit(event, converted);
+        }
+    }
+
+    /**
+     * Sets the argument from the characters {@code source[from, to)}, used for values that are part of a larger
+     * token like {@code --flag=value}. Sets parsed status of this parameter instance to true
+     * @param source the token holding the argument
+     * @param from index of the first character of the argument
+     * @param to index after the last character of the argument
+     * @throws InvalidArgTypeArgsException if the given Argument is not of the target type
+     * @throws NotExistingPathArgsException if a PthParameter with pathCheck was handed a non-existing path
+     */
+    protected void setArgument(CharSequence source, int from, int to) throws InvalidArgTypeArgsException, NotExistingPathArgsException {
+        if (conversionCache != null) {
+            // the cache is keyed by Strings
+            setArgument(source.subSequence(from, to).toString());
+            return;
+        }
+        ConversionEvent event = FlightRecording.isRunning() ? ConversionEvent.startIfEnabled(this, to - from, false) : null;
+        boolean converted = false;
         try {
-            this.argument = castArgument(argument);
+            result.setValue(ordinal, castArgument(source, from, to), ArgumentSource.COMMAND_LINE);
+            converted = true;
         } catch (NumberFormatException nfe) {
-            throw new InvalidArgTypeArgsException(fullFlag, type.getSimpleName(), "Provided argument does not match the parameter type!");
-        } catch (NotExistingPathArgsException argsExcep) {
+            throw invalidArgument();
+        } catch (InvalidArgTypeArgsException | NotExistingPathArgsException argsExcep) {
             throw argsExcep;
         } catch (Exception e) {
             throw new InvalidArgTypeArgsException(fullFlag, type.getSimpleName(), e.getMessage());
+        } finally {
+            if (event != null) ConversionEvent.commit(event, converted);
+        }
+    }
+
+    private T castCached(String argument) throws NotExistingPathArgsException, InvalidArgTypeArgsException {
+        T value = conversionCache.get(argument);
+        if (value == null) {
+            value = castArgument(argument);
+            conversionCache.put(argument, value);
+        }
+        return value;
+    }
+
+    /**
+     * Starts counting how often this parameter is provided, see {@link ArgsParser#enableUsageCounters()}.
+     */
+    void enableUsageCounter() {
+        if (usageCounter == null) usageCounter = new LongAdder();
+    }
+
+    /**
+     * Counts one successful parse this parameter was provided in.
+     */
+    void countUsage() {
+        if (usageCounter != null) usageCounter.increment();
+    }
+
+    /**
+     * Returns how often this parameter was provided in successful parses since {@link ArgsParser#enableUsageCounters()}
+     * was called on its parser.
+     * @return the number of parses this parameter was provided in, 0 if usage counters are not enabled
+     */
+    public long getUsageCount() {
+        return usageCounter == null ? 0 : usageCounter.sum();
+    }
+
+    /**
+     * Sets the usage count back to 0.
+     */
+    void resetUsageCount() {
+        if (usageCounter != null) usageCounter.reset();
+    }
+
+    /**
+     * Tells an array parameter how many values the next run of {@link #setArgument(String)} calls will add,
+     * so that {@link #appendValue(Object[], Object, IntFunction)} allocates the array once in its final size.
+     * @param count number of values of the next run
+     */
+    void expectValues(int count) {
+        expectedValues = Math.max(1, count);
+    }
+
+    /**
+     * Appends a value to the array argument of an array parameter. The first value of a parse allocates an array
+     * of the size announced by the parser, further values are stored into it. Only values beyond that size copy the
+     * array, like values added by direct calls of {@link #setArgument(String)}.
+     *
+     * @param current the array argument so far, null for the first value of a parse
+     * @param value the value to append
+     * @param newArray creates an array of the element type, e.g. {@code Integer[]::new}
+     * @param <E> the element type
+     * @return the array argument holding the value
+     */
+    protected final <E> E[] appendValue(E[] current, E value, IntFunction<E[]> newArray) {
+        E[] array;
+        if (current == null) {
+            array = newArray.apply(expectedValues);
+            appendedValues = 0;
+            expectedValues = 1;
+        } else if (appendedValues == current.length) {
+            array = Arrays.copyOf(current, appendedValues + 1);
+        } else {
+            array = current;
+        }
+        array[appendedValues++] = value;
+        return array;
+    }
+
+    /**
+     * @return the attached conversion cache or null if there is none
+     */
+    ConversionCache<T> getConversionCache() {
+        return conversionCache;
+    }
+
+    /**
+     * Attaches a cache that maps raw tokens to their converted arguments, so that a token converted before by any
+     * parameter sharing this cache is not converted again. Only values that were converted successfully are cached.
+     * @param cache the cache to use or null to convert every token
+     * @throws IllegalArgumentException if this parameter type does not support a cache, see
+     * {@link #supportsConversionCache()}, or if this parameter validates paths and the cache entries do not expire
+     */
+    public void setConversionCache(ConversionCache<T> cache) throws IllegalArgumentException {
+        if (cache != null && !supportsConversionCache()) {
+            throw new IllegalArgumentException(fullFlag + " does not support a conversion cache!");
+        }
+        if (cache != null && validatesPaths() && !cache.expires()) {
+            throw new IllegalArgumentException(fullFlag + " checks paths, its conversion cache needs a time to live!");
+        }
+        this.conversionCache = cache;
+    }
+
+    /**
+     * Checks if the arguments of this parameter can be cached with {@link #setConversionCache(ConversionCache)}.
+     * Parameter types override this method to return true if their arguments are immutable and only depend on the
+     * token, since a cached argument is handed to every parse that sees the same token.
+     * Types that check the file system while converting need a cache whose entries expire.
+     * @return true if a conversion cache is supported, false otherwise
+     */
+    protected boolean supportsConversionCache() {
+        return false;
+    }
+
+    /**
+     * Reads the values of this parameter from the given file, sets parsed status of this parameter instance to true
+     * @param reader this parameter, which has to implement {@link ValuesFromReader}
+     * @param file the file handed via {@code --values-from}
+     * @throws InvalidArgTypeArgsException if the file cannot be read or holds values that are not of the target type
+     * @throws NotExistingPathArgsException if the file does not exist
+     */
+    void setArgumentsFrom(ValuesFromReader reader, Path file) throws InvalidArgTypeArgsException, NotExistingPathArgsException {
+        if (!Files.exists(file)) throw new NotExistingPathArgsException(file);
+        try {
+            result.setValue(ordinal, reader.readValuesFrom(file), ArgumentSource.VALUES_FILE);
+        } catch (NumberFormatException nfe) {
+            throw new InvalidArgTypeArgsException(fullFlag, type.getSimpleName(), nfe.getMessage());
+        } catch (Exception e) {
+            throw new InvalidArgTypeArgsException(fullFlag, type.getSimpleName(),
+                                                  "Could not read values from " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Restores an already converted argument, e.g. from a {@link ParseSnapshot}, and marks this parameter as provided.
+     * No conversion or validation is done.
+     * @param argument the converted argument, has to be of this parameters type
+     * @throws ClassCastException if the argument is not of this parameters type
+     */
+    void restoreArgument(Object argument) {
+        result.setValue(ordinal, type.cast(argument), ArgumentSource.SNAPSHOT);
+        result.setProvided(ordinal);
+    }
+
+    /**
+     * Sets an argument that was already converted by an earlier parse of the same tokens, see
+     * {@link ArgsParser#parseIncremental(String[])}. No conversion or validation is done.
+     * @param argument the converted argument, has to be of this parameters type
+     * @throws ClassCastException if the argument is not of this parameters type
+     */
+    void carryOverArgument(Object argument) {
+        result.setValue(ordinal, type.cast(argument), ArgumentSource.COMMAND_LINE);
+    }
+
+    /**
+     * Checks if this parameter validates paths against the file system while its argument is set.
+     * Parameters that do, override this method, so that cached parse results can be invalidated
+     * if this setting changes.
+     * @return true if arguments are checked against the file system, false otherwise
+     */
+    protected boolean validatesPaths() {
+        return false;
+    }
+
+    /**
+     * Checks if a path argument of this parameter exists, parameters that validate paths use this for their check
+     * so that it is recorded as {@code ArgsParser.PathCheck} Flight Recorder event.
+     * @param path the path to check
+     * @return true if the path exists
+     */
+    protected final boolean existsOnFileSystem(Path path) {
+        PathCheckEvent event = FlightRecording.isRunning() ? PathCheckEvent.startIfEnabled() : null;
+        boolean exists = Files.exists(path);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.flag = fullFlag;
+                event.path = path.toString();
+                event.exists = exists;
+                event.commit();
+            }
         }
+        return exists;
+    }
+
+    /**
+     * Creates the exception that reports an argument which does not match the type of this parameter.
+     * @return exception for an argument that does not match the parameter type
+     */
+    protected InvalidArgTypeArgsException invalidArgument() {
+        return new InvalidArgTypeArgsException(fullFlag, type.getSimpleName(), "Provided argument does not match the parameter type!");
     }
 
     /**
@@ -372,20 +693,36 @@ public abstract class Parameter<T> {
      * @param argument to be cast
      * @return the argument as type T
      * @throws NotExistingPathArgsException if a PthParameter with pathCheck was handed a non-existing path
+     * @throws InvalidArgTypeArgsException if the argument does not match the parameter type
+     */
+    protected abstract T castArgument(String argument) throws NotExistingPathArgsException, InvalidArgTypeArgsException;
+
+    /**
+     * Casts the characters {@code source[from, to)} to type T.
+     * The default implementation copies the characters into a String and calls {@link #castArgument(String)},
+     * types that can convert the characters in place override this method to avoid the copy.
+     * @param source the token holding the argument
+     * @param from index of the first character of the argument
+     * @param to index after the last character of the argument
+     * @return the argument as type T
+     * @throws NotExistingPathArgsException if a PthParameter with pathCheck was handed a non-existing path
+     * @throws InvalidArgTypeArgsException if the argument does not match the parameter type
      */
-    protected abstract T castArgument(String argument) throws NotExistingPathArgsException;
+    protected T castArgument(CharSequence source, int from, int to) throws NotExistingPathArgsException, InvalidArgTypeArgsException {
+        return castArgument(source.subSequence(from, to).toString());
+    }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Parameter<?> parameter = (Parameter<?>) o;
-        return Objects.equals(fullFlag, parameter.fullFlag);
+        return fullFlag.equals(parameter.fullFlag);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(fullFlag);
+        return fullFlag.hashCode();
     }
 
     @Override
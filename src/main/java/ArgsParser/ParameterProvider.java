@@ -0,0 +1,39 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+/**
+ * Service that contributes parameters and commands of an optional module to an {@link ArgsParser}, discovered with
+ * {@link java.util.ServiceLoader} by {@link ArgsParser#addProviders(ClassLoader)}.
+ *
+ * <p>
+ * Implementations are listed in {@code META-INF/services/ArgsParser.ParameterProvider} (or {@code provides} in a
+ * module descriptor), need a public no-argument constructor and should be annotated with {@link Provides}. The
+ * annotation declares the flags and commands of the provider, so the parser can defer creating the provider until
+ * one of them shows up in the arguments or the help is requested.
+ * </p>
+ *
+ * <pre>
+ * &#64;Provides(fullFlags = "level", shortFlags = "l")
+ * public class LevelProvider implements ParameterProvider {
+ *     public void contribute(ArgsParser parser) {
+ *         parser.addParameter(new IntParameter(1, "level", "l", "compression level"));
+ *     }
+ * }
+ * </pre>
+ */
+public interface ParameterProvider {
+
+    /**
+     * Adds the parameters and commands of this provider to the parser. Called at most once per parser, and has to
+     * add every flag and command declared by the {@link Provides} annotation of the provider.
+     *
+     * @param parser the parser to add the parameters and commands to
+     */
+    void contribute(ArgsParser parser);
+}
@@ -98,9 +98,6 @@ public class BolArrParameter extends Parameter<Boolean[]> {
      */
     @Override
     protected Boolean[] castArgument(String argument) {
-        Boolean[] array = super.readArgument();
-        array = array == null ? new Boolean[1] : Arrays.copyOf(array, array.length + 1);
-        array[array.length - 1] = Boolean.parseBoolean(argument);
-        return array;
+        return appendValue(super.readArgument(), Boolean.parseBoolean(argument), Boolean[]::new);
     }
 }
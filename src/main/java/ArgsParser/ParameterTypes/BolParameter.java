@@ -76,6 +76,19 @@ public class BolParameter extends Parameter<Boolean> {
         super(defaultValue, fullFlag, shortFlag, description, Boolean.class);
     }
 
+    /**
+     * Returns the argument as primitive boolean without unboxing.
+     * Unlike {@link #getArgument()}, no {@link Boolean} is created and the parse state is only checked
+     * by reading the result the parser published when parsing started.
+     *
+     * @return the argument if this parameter got a command-line argument, the default value otherwise
+     * @throws IllegalStateException if the parse method was not called before, this parameter was not added to any
+     * parser or if it has neither an argument nor a default value
+     */
+    public boolean getBoolean() throws IllegalStateException {
+        return readPrimitiveArgument() != 0;
+    }
+
     /**
      * Casts the default Argument of type T to String
      *
@@ -87,6 +100,11 @@ public class BolParameter extends Parameter<Boolean> {
         return defaultValue.toString();
     }
 
+    @Override
+    protected boolean supportsConversionCache() {
+        return true;
+    }
+
     /**
      * Casts the argument to type T
      *
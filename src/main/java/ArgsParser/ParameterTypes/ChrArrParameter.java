@@ -1,5 +1,6 @@
 package ArgsParser.ParameterTypes;
 
+import ArgsParser.ArgsExceptions.InvalidArgTypeArgsException;
 import ArgsParser.Parameter;
 
 import java.util.Arrays;
@@ -98,9 +99,21 @@ public class ChrArrParameter extends Parameter<Character[]> {
      */
     @Override
     protected Character[] castArgument(String argument) {
-        Character[] array = super.readArgument();
-        array = array == null ? new Character[1] : Arrays.copyOf(array, array.length + 1);
-        array[array.length - 1] = argument.charAt(0);
-        return array;
+        return appendValue(super.readArgument(), argument.charAt(0), Character[]::new);
+    }
+
+    /**
+     * Casts the characters {@code source[from, to)} to type T without copying them
+     *
+     * @param source the token holding the argument
+     * @param from index of the first character of the argument
+     * @param to index after the last character of the argument
+     * @return the argument as type T
+     * @throws InvalidArgTypeArgsException if the argument is empty
+     */
+    @Override
+    protected Character[] castArgument(CharSequence source, int from, int to) throws InvalidArgTypeArgsException {
+        if (from == to) throw invalidArgument();
+        return appendValue(super.readArgument(), source.charAt(from), Character[]::new);
     }
 }
@@ -1,5 +1,6 @@
 package ArgsParser.ParameterTypes;
 
+import ArgsParser.ArgsExceptions.InvalidArgTypeArgsException;
 import ArgsParser.Parameter;
 
 /**
@@ -76,6 +77,19 @@ public class ChrParameter extends Parameter<Character> {
         super(defaultValue, fullFlag, shortFlag, description, Character.class);
     }
 
+    /**
+     * Returns the argument as primitive char without unboxing.
+     * Unlike {@link #getArgument()}, no {@link Character} is created and the parse state is only checked
+     * by reading the result the parser published when parsing started.
+     *
+     * @return the argument if this parameter got a command-line argument, the default value otherwise
+     * @throws IllegalStateException if the parse method was not called before, this parameter was not added to any
+     * parser or if it has neither an argument nor a default value
+     */
+    public char getChar() throws IllegalStateException {
+        return (char) readPrimitiveArgument();
+    }
+
     /**
      * Casts the default Argument of type T to String
      *
@@ -87,6 +101,11 @@ public class ChrParameter extends Parameter<Character> {
         return defaultValue.toString();
     }
 
+    @Override
+    protected boolean supportsConversionCache() {
+        return true;
+    }
+
     /**
      * Casts the argument to type T
      *
@@ -97,4 +116,19 @@ public class ChrParameter extends Parameter<Character> {
     protected Character castArgument(String argument) {
         return argument.charAt(0);
     }
+
+    /**
+     * Casts the characters {@code source[from, to)} to type T without copying them
+     *
+     * @param source the token holding the argument
+     * @param from index of the first character of the argument
+     * @param to index after the last character of the argument
+     * @return the argument as type T
+     * @throws InvalidArgTypeArgsException if the argument is empty
+     */
+    @Override
+    protected Character castArgument(CharSequence source, int from, int to) throws InvalidArgTypeArgsException {
+        if (from == to) throw invalidArgument();
+        return source.charAt(from);
+    }
 }
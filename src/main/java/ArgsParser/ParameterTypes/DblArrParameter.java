@@ -1,7 +1,12 @@
 package ArgsParser.ParameterTypes;
 
+import ArgsParser.ArgsExceptions.InvalidArgTypeArgsException;
 import ArgsParser.Parameter;
+import ArgsParser.ValuesFromReader;
 
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.file.Path;
 import java.util.Arrays;
 
 /**
@@ -15,8 +20,16 @@ import java.util.Arrays;
  * The {@code castArgument} method is overridden to parse string arguments into {@link Double} values
  * and add them to the existing array of doubles.
  * </p>
+ *
+ * <p>
+ * Instead of listing the values one by one, all values can be read from a file with
+ * {@code --flag --values-from file}. Text files hold the values separated by whitespace or commas and are parsed
+ * in parallel, files ending with {@code .bin} hold raw little-endian float64 values and are memory-mapped without copying.
+ * Such values are stored unboxed and are best accessed with {@link #getDoubleValues()} or {@link #getDoubleBuffer()}.
+ * </p>
  */
-public class DblArrParameter extends Parameter<Double[]> {
+public class DblArrParameter extends Parameter<Double[]> implements ValuesFromReader {
+
     /**
      * Constructs a new {@link Parameter} of type {@link Double}-array instance with the specified flags, description, and mandatory status.
      * <p>
@@ -95,12 +108,84 @@ public class DblArrParameter extends Parameter<Double[]> {
      *
      * @param argument to be cast
      * @return the argument as type T
+     * @throws InvalidArgTypeArgsException if the argument is not a valid double
+     */
+    @Override
+    protected Double[] castArgument(String argument) throws InvalidArgTypeArgsException {
+        return castArgument(argument, 0, argument.length());
+    }
+
+    /**
+     * Casts the characters {@code source[from, to)} to type T without copying them
+     *
+     * @param source the token holding the argument
+     * @param from index of the first character of the argument
+     * @param to index after the last character of the argument
+     * @return the argument as type T
+     * @throws InvalidArgTypeArgsException if the argument does not match the parameter type
+     */
+    @Override
+    protected Double[] castArgument(CharSequence source, int from, int to) throws InvalidArgTypeArgsException {
+        long bits = NumberParser.parseDoubleBits(source, from, to);
+        if (bits == NumberParser.INVALID_DOUBLE_BITS) throw invalidArgument();
+        return appendValue(super.readArgument(), Double.longBitsToDouble(bits), Double[]::new);
+    }
+
+    /**
+     * Converts the stored argument to type T, values read with {@code --values-from} are boxed on first access.
+     * Use {@link #getDoubleValues()} or {@link #getDoubleBuffer()} to access them without boxing.
+     *
+     * @param stored the stored argument
+     * @return the argument as type T
+     */
+    @Override
+    protected Double[] argumentOf(Object stored) {
+        return stored instanceof ValuesFromFile.Doubles values ? values.boxed() : (Double[]) stored;
+    }
+
+    /**
+     * Returns the argument as primitive array.
+     * Each call returns a new array, values read with {@code --values-from} are copied out of their buffer,
+     * use {@link #getDoubleBuffer()} to read them without copying.
+     *
+     * @return the argument as primitive array or null if this parameter has no argument
+     * @throws IllegalStateException if the parse method was not called before trying to access this argument
+     * or if this Parameter was not added to any ArgsParser!
+     */
+    public double[] getDoubleValues() throws IllegalStateException {
+        if (getStoredArgument() instanceof ValuesFromFile.Doubles values) return values.copy();
+        Double[] argument = getArgument();
+        if (argument == null) return null;
+
+        double[] values = new double[argument.length];
+        for (int i = 0; i < argument.length; i++) values[i] = argument[i];
+        return values;
+    }
+
+    /**
+     * Returns the argument as read-only buffer.
+     * For binary files handed with {@code --values-from} this is a view on the memory-mapped file.
+     *
+     * @return the argument as read-only buffer or null if this parameter has no argument
+     * @throws IllegalStateException if the parse method was not called before trying to access this argument
+     * or if this Parameter was not added to any ArgsParser!
+     */
+    public DoubleBuffer getDoubleBuffer() throws IllegalStateException {
+        if (getStoredArgument() instanceof ValuesFromFile.Doubles values) return values.readOnlyBuffer();
+        double[] values = getDoubleValues();
+        return values == null ? null : DoubleBuffer.wrap(values).asReadOnlyBuffer();
+    }
+
+    /**
+     * Reads all values of this parameter from the given text or binary file.
+     *
+     * @param file the file handed via {@code --values-from}
+     * @return the read values, stored unboxed
+     * @throws IOException if the file cannot be read
+     * @throws NumberFormatException if a value in a text file is not a valid number
      */
     @Override
-    protected Double[] castArgument(String argument) {
-        Double[] array = super.readArgument();
-        array = array == null ? new Double[1] : Arrays.copyOf(array, array.length + 1);
-        array[array.length - 1] = Double.parseDouble(argument);
-        return array;
+    public Object readValuesFrom(Path file) throws IOException {
+        return ValuesFromFile.Doubles.read(file);
     }
 }
@@ -1,5 +1,6 @@
 package ArgsParser.ParameterTypes;
 
+import ArgsParser.ArgsExceptions.InvalidArgTypeArgsException;
 import ArgsParser.Parameter;
 
 /**
@@ -76,6 +77,19 @@ public class DblParameter extends Parameter<Double> {
         super(defaultValue, fullFlag, shortFlag, description, Double.class);
     }
 
+    /**
+     * Returns the argument as primitive double without unboxing.
+     * Unlike {@link #getArgument()}, no {@link Double} is created and the parse state is only checked
+     * by reading the result the parser published when parsing started.
+     *
+     * @return the argument if this parameter got a command-line argument, the default value otherwise
+     * @throws IllegalStateException if the parse method was not called before, this parameter was not added to any
+     * parser or if it has neither an argument nor a default value
+     */
+    public double getDouble() throws IllegalStateException {
+        return Double.longBitsToDouble(readPrimitiveArgument());
+    }
+
     /**
      * Casts the default Argument of type T to String
      *
@@ -87,14 +101,36 @@ public class DblParameter extends Parameter<Double> {
         return String.valueOf(defaultValue);
     }
 
+    @Override
+    protected boolean supportsConversionCache() {
+        return true;
+    }
+
     /**
      * Casts the argument to type T
      *
      * @param argument to be cast
      * @return the argument as type T
+     * @throws InvalidArgTypeArgsException if the argument is not a valid double
+     */
+    @Override
+    protected Double castArgument(String argument) throws InvalidArgTypeArgsException {
+        return castArgument(argument, 0, argument.length());
+    }
+
+    /**
+     * Casts the characters {@code source[from, to)} to type T without copying them
+     *
+     * @param source the token holding the argument
+     * @param from index of the first character of the argument
+     * @param to index after the last character of the argument
+     * @return the argument as type T
+     * @throws InvalidArgTypeArgsException if the argument does not match the parameter type
      */
     @Override
-    protected Double castArgument(String argument) {
-        return Double.parseDouble(argument);
+    protected Double castArgument(CharSequence source, int from, int to) throws InvalidArgTypeArgsException {
+        long bits = NumberParser.parseDoubleBits(source, from, to);
+        if (bits == NumberParser.INVALID_DOUBLE_BITS) throw invalidArgument();
+        return Double.longBitsToDouble(bits);
     }
 }
@@ -1,5 +1,6 @@
 package ArgsParser.ParameterTypes;
 
+import ArgsParser.ArgsExceptions.InvalidArgTypeArgsException;
 import ArgsParser.Parameter;
 
 import java.util.Arrays;
@@ -95,12 +96,26 @@ public class FltArrParameter extends Parameter<Float[]> {
      *
      * @param argument to be cast
      * @return the argument as type T
+     * @throws InvalidArgTypeArgsException if the argument is not a valid float
      */
     @Override
-    protected Float[] castArgument(String argument) {
-        Float[] array = super.readArgument();
-        array = array == null ? new Float[1] : Arrays.copyOf(array, array.length + 1);
-        array[array.length - 1] = Float.parseFloat(argument);
-        return array;
+    protected Float[] castArgument(String argument) throws InvalidArgTypeArgsException {
+        return castArgument(argument, 0, argument.length());
+    }
+
+    /**
+     * Casts the characters {@code source[from, to)} to type T without copying them
+     *
+     * @param source the token holding the argument
+     * @param from index of the first character of the argument
+     * @param to index after the last character of the argument
+     * @return the argument as type T
+     * @throws InvalidArgTypeArgsException if the argument does not match the parameter type
+     */
+    @Override
+    protected Float[] castArgument(CharSequence source, int from, int to) throws InvalidArgTypeArgsException {
+        long bits = NumberParser.parseFloatBits(source, from, to);
+        if (bits == NumberParser.INVALID_FLOAT_BITS) throw invalidArgument();
+        return appendValue(super.readArgument(), Float.intBitsToFloat((int) bits), Float[]::new);
     }
 }
@@ -1,5 +1,6 @@
 package ArgsParser.ParameterTypes;
 
+import ArgsParser.ArgsExceptions.InvalidArgTypeArgsException;
 import ArgsParser.Parameter;
 
 /**
@@ -73,6 +74,19 @@ public class IntParameter extends Parameter<Integer> {
         super(defaultValue, fullFlag, shortFlag, description, Integer.class);
     }
 
+    /**
+     * Returns the argument as primitive int without unboxing.
+     * Unlike {@link #getArgument()}, no {@link Integer} is created and the parse state is only checked
+     * by reading the result the parser published when parsing started.
+     *
+     * @return the argument if this parameter got a command-line argument, the default value otherwise
+     * @throws IllegalStateException if the parse method was not called before, this parameter was not added to any
+     * parser or if it has neither an argument nor a default value
+     */
+    public int getInt() throws IllegalStateException {
+        return (int) readPrimitiveArgument();
+    }
+
     /**
      * Casts the default Argument of type T to String
      *
@@ -84,14 +98,36 @@ public class IntParameter extends Parameter<Integer> {
         return String.valueOf(defaultValue);
     }
 
+    @Override
+    protected boolean supportsConversionCache() {
+        return true;
+    }
+
     /**
      * Casts the argument to type T
      *
      * @param argument to be cast
      * @return the argument as type T
+     * @throws InvalidArgTypeArgsException if the argument is not a valid integer
+     */
+    @Override
+    protected Integer castArgument(String argument) throws InvalidArgTypeArgsException {
+        return castArgument(argument, 0, argument.length());
+    }
+
+    /**
+     * Casts the characters {@code source[from, to)} to type T without copying them
+     *
+     * @param source the token holding the argument
+     * @param from index of the first character of the argument
+     * @param to index after the last character of the argument
+     * @return the argument as type T
+     * @throws InvalidArgTypeArgsException if the argument does not match the parameter type
      */
     @Override
-    protected Integer castArgument(String argument) {
-        return Integer.parseInt(argument);
+    protected Integer castArgument(CharSequence source, int from, int to) throws InvalidArgTypeArgsException {
+        long value = NumberParser.parseInt(source, from, to);
+        if (value == NumberParser.INVALID_INT) throw invalidArgument();
+        return (int) value;
     }
 }
@@ -0,0 +1,383 @@
+package ArgsParser.ParameterTypes;
+
+import java.math.BigInteger;
+
+/**
+ * Allocation-free parsers for numeric arguments.
+ *
+ * <p>
+ * All methods work directly on a range of a {@link CharSequence}, so the argument does not have to be copied into
+ * a separate {@link String}, and they report invalid input through a sentinel return value instead of throwing a
+ * {@link NumberFormatException}. The accepted syntax is exactly the one of {@link Integer#parseInt(String)},
+ * {@link Double#parseDouble(String)} and {@link Float#parseFloat(String)}, the parsers only differ in speed.
+ * </p>
+ *
+ * <ul>
+ *     <li><b>Integers</b> are accumulated digit by digit with an overflow check.</li>
+ *     <li><b>Doubles</b> are converted with Clinger's fast path if the decimal mantissa and exponent are small enough,
+ *     otherwise with the Eisel–Lemire algorithm on a 128-bit table of powers of five.
+ *     Hexadecimal notation and mantissas with more than 19 significant digits are validated and then handed to
+ *     {@link Double#parseDouble(String)}, which is guaranteed to succeed at that point.</li>
+ *     <li><b>Floats</b> use Clinger's fast path and otherwise the validated fallback to {@link Float#parseFloat(String)},
+ *     to avoid double rounding.</li>
+ * </ul>
+ */
+public final class NumberParser {
+
+    /**
+     * Returned by {@link #parseInt(CharSequence, int, int)} for input that is not a valid integer.
+     */
+    public static final long INVALID_INT = Long.MIN_VALUE;
+
+    /**
+     * Returned by {@link #parseDoubleBits(CharSequence, int, int)} for input that is not a valid double.
+     * The pattern is a NaN with a payload that is never produced for valid input.
+     */
+    public static final long INVALID_DOUBLE_BITS = 0x7ff0_0000_0000_0badL;
+
+    /**
+     * Returned by {@link #parseFloatBits(CharSequence, int, int)} for input that is not a valid float.
+     * The pattern is a NaN with a payload that is never produced for valid input.
+     */
+    public static final long INVALID_FLOAT_BITS = 0x7f80_0badL;
+
+    private static final long FALLBACK = 0x7ff0_0000_0000_0fa1L;
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    private NumberParser() {
+    }
+
+    /**
+     * Parses a signed decimal integer like {@link Integer#parseInt(String)}.
+     *
+     * @param source the characters to parse
+     * @param from index of the first character (inclusive)
+     * @param to index of the last character (exclusive)
+     * @return the parsed value or {@link #INVALID_INT} if the range is not a valid integer
+     */
+    public static long parseInt(CharSequence source, int from, int to) {
+        if (from >= to) return INVALID_INT;
+
+        int position = from;
+        char first = source.charAt(position);
+        boolean negative = first == '-';
+        if (negative || first == '+') position++;
+        if (position == to) return INVALID_INT;
+
+        long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (; position < to; position++) {
+            char c = source.charAt(position);
+            int digit = c - '0';
+            if (digit < 0 || digit > 9) {
+                // Integer.parseInt also accepts non ASCII digits
+                if (c < 128 || (digit = Character.digit(c, 10)) < 0) return INVALID_INT;
+            }
+            value = value * 10 + digit;
+            if (value > limit) return INVALID_INT;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a double like {@link Double#parseDouble(String)}.
+     *
+     * @param source the characters to parse
+     * @param from index of the first character (inclusive)
+     * @param to index of the last character (exclusive)
+     * @return the raw bits of the parsed value (see {@link Double#longBitsToDouble(long)})
+     * or {@link #INVALID_DOUBLE_BITS} if the range is not a valid double
+     */
+    public static long parseDoubleBits(CharSequence source, int from, int to) {
+        long bits = parseFloatingPoint(source, from, to, false);
+        if (bits == FALLBACK) {
+            return Double.doubleToRawLongBits(Double.parseDouble(source.subSequence(from, to).toString()));
+        }
+        return bits;
+    }
+
+    /**
+     * Parses a float like {@link Float#parseFloat(String)}.
+     *
+     * @param source the characters to parse
+     * @param from index of the first character (inclusive)
+     * @param to index of the last character (exclusive)
+     * @return the raw bits of the parsed value in the lower 32 bits (see {@link Float#intBitsToFloat(int)})
+     * or {@link #INVALID_FLOAT_BITS} if the range is not a valid float
+     */
+    public static long parseFloatBits(CharSequence source, int from, int to) {
+        long bits = parseFloatingPoint(source, from, to, true);
+        if (bits == FALLBACK) {
+            return Float.floatToRawIntBits(Float.parseFloat(source.subSequence(from, to).toString())) & 0xffff_ffffL;
+        }
+        return bits;
+    }
+
+    /**
+     * Validates and converts a floating point number.
+     *
+     * @return the raw bits, the invalid marker of the requested type or {@link #FALLBACK} if the input is valid but
+     * has to be converted by the JDK
+     */
+    private static long parseFloatingPoint(CharSequence source, int from, int to, boolean toFloat) {
+        long invalid = toFloat ? INVALID_FLOAT_BITS : INVALID_DOUBLE_BITS;
+
+        // leading and trailing whitespace is ignored, just like String.trim()
+        while (from < to && source.charAt(from) <= ' ') from++;
+        while (to > from && source.charAt(to - 1) <= ' ') to--;
+        if (from == to) return invalid;
+
+        int position = from;
+        char c = source.charAt(position);
+        boolean negative = c == '-';
+        if (negative || c == '+') {
+            if (++position == to) return invalid;
+            c = source.charAt(position);
+        }
+
+        if (c == 'N') {
+            if (!matches(source, position, to, "NaN")) return invalid;
+            return toFloat ? Float.floatToRawIntBits(Float.NaN) : Double.doubleToRawLongBits(Double.NaN);
+        }
+        if (c == 'I') {
+            if (!matches(source, position, to, "Infinity")) return invalid;
+            if (toFloat) return Float.floatToRawIntBits(negative ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY) & 0xffff_ffffL;
+            return Double.doubleToRawLongBits(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+        }
+        if (c == '0' && position + 1 < to && (source.charAt(position + 1) | 0x20) == 'x') {
+            return isValidHex(source, position + 2, to) ? FALLBACK : invalid;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+
+        // integer part
+        for (; position < to; position++) {
+            int digit = source.charAt(position) - '0';
+            if (digit < 0 || digit > 9) break;
+            anyDigit = true;
+            if (mantissa == 0 && digit == 0) continue;
+            if (significantDigits < 19) mantissa = mantissa * 10 + digit;
+            else exponent++;
+            significantDigits++;
+        }
+
+        // fraction part
+        if (position < to && source.charAt(position) == '.') {
+            for (position++; position < to; position++) {
+                int digit = source.charAt(position) - '0';
+                if (digit < 0 || digit > 9) break;
+                anyDigit = true;
+                if (mantissa == 0 && digit == 0) {
+                    exponent--;
+                    continue;
+                }
+                if (significantDigits < 19) {
+                    mantissa = mantissa * 10 + digit;
+                    exponent--;
+                }
+                significantDigits++;
+            }
+        }
+        if (!anyDigit) return invalid;
+
+        // exponent part
+        if (position < to && (source.charAt(position) | 0x20) == 'e') {
+            if (++position == to) return invalid;
+            char sign = source.charAt(position);
+            boolean negativeExponent = sign == '-';
+            if (negativeExponent || sign == '+') position++;
+
+            int explicitExponent = 0;
+            int start = position;
+            for (; position < to; position++) {
+                int digit = source.charAt(position) - '0';
+                if (digit < 0 || digit > 9) break;
+                if (explicitExponent < 100_000) explicitExponent = explicitExponent * 10 + digit;
+            }
+            if (position == start) return invalid;
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        // type suffix
+        if (position < to) {
+            char suffix = source.charAt(position);
+            if (suffix == 'f' || suffix == 'F' || suffix == 'd' || suffix == 'D') position++;
+        }
+        if (position != to) return invalid;
+
+        if (significantDigits > 19) return FALLBACK;
+        return toFloat ? toFloatBits(negative, mantissa, exponent) : toDoubleBits(negative, mantissa, exponent);
+    }
+
+    private static boolean matches(CharSequence source, int from, int to, String expected) {
+        if (to - from != expected.length()) return false;
+        for (int i = 0; i < expected.length(); i++) {
+            if (source.charAt(from + i) != expected.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Validates the part of a hexadecimal floating point number behind the {@code 0x} prefix.
+     */
+    private static boolean isValidHex(CharSequence source, int position, int to) {
+        boolean anyDigit = false;
+        for (; position < to && Character.digit(source.charAt(position), 16) >= 0 && source.charAt(position) < 128; position++) {
+            anyDigit = true;
+        }
+        if (position < to && source.charAt(position) == '.') {
+            for (position++; position < to && Character.digit(source.charAt(position), 16) >= 0 && source.charAt(position) < 128; position++) {
+                anyDigit = true;
+            }
+        }
+        if (!anyDigit || position == to || (source.charAt(position) | 0x20) != 'p') return false;
+
+        if (++position < to && (source.charAt(position) == '+' || source.charAt(position) == '-')) position++;
+        int start = position;
+        while (position < to && source.charAt(position) >= '0' && source.charAt(position) <= '9') position++;
+        if (position == start) return false;
+
+        if (position < to) {
+            char suffix = source.charAt(position);
+            if (suffix == 'f' || suffix == 'F' || suffix == 'd' || suffix == 'D') position++;
+        }
+        return position == to;
+    }
+
+    private static long toFloatBits(boolean negative, long mantissa, int exponent) {
+        if (mantissa == 0) return Float.floatToRawIntBits(negative ? -0.0f : 0.0f) & 0xffff_ffffL;
+        if (Long.compareUnsigned(mantissa, 1L << 24) <= 0 && exponent >= -10 && exponent <= 10) {
+            float value = exponent < 0 ? mantissa / FLOAT_POWERS_OF_TEN[-exponent] : mantissa * FLOAT_POWERS_OF_TEN[exponent];
+            return Float.floatToRawIntBits(negative ? -value : value) & 0xffff_ffffL;
+        }
+        return FALLBACK;
+    }
+
+    /**
+     * Converts {@code mantissa * 10^exponent} to the closest double.
+     * The mantissa is treated as unsigned 64-bit value with at most 19 decimal digits.
+     */
+    private static long toDoubleBits(boolean negative, long mantissa, int exponent) {
+        long sign = negative ? Long.MIN_VALUE : 0L;
+        if (mantissa == 0 || exponent < EiselLemire.SMALLEST_POWER_OF_FIVE) return sign;
+        if (exponent > EiselLemire.LARGEST_POWER_OF_FIVE) return sign | 0x7ff0_0000_0000_0000L;
+
+        // Clinger's fast path: mantissa and power of ten are both exact doubles
+        if (exponent >= -22 && exponent <= 22 && Long.compareUnsigned(mantissa, 1L << 53) <= 0) {
+            double value = exponent < 0
+                    ? mantissa / DOUBLE_POWERS_OF_TEN[-exponent]
+                    : mantissa * DOUBLE_POWERS_OF_TEN[exponent];
+            return sign | Double.doubleToRawLongBits(value);
+        }
+
+        return sign | EiselLemire.compute(mantissa, exponent);
+    }
+
+    /**
+     * The Eisel–Lemire algorithm as described in "Number Parsing at a Gigabyte per Second" (Lemire 2021)
+     * and proven to never need a fallback for exact 64-bit mantissas in "Fast Number Parsing Without Fallback"
+     * (Mushtak and Lemire 2023). The table is only built once doubles outside of Clinger's fast path are parsed.
+     */
+    private static final class EiselLemire {
+        private static final int SMALLEST_POWER_OF_FIVE = -342;
+        private static final int LARGEST_POWER_OF_FIVE = 308;
+        private static final int MANTISSA_EXPLICIT_BITS = 52;
+        private static final int MINIMUM_EXPONENT = -1023;
+        private static final int INFINITE_POWER = 0x7ff;
+
+        /**
+         * Truncated 128-bit approximations of 5^q for q in [-342, 308], stored as (high, low) pairs.
+         */
+        private static final long[] POWERS_OF_FIVE = buildPowersOfFive();
+
+        private static long[] buildPowersOfFive() {
+            long[] table = new long[2 * (LARGEST_POWER_OF_FIVE - SMALLEST_POWER_OF_FIVE + 1)];
+            BigInteger five = BigInteger.valueOf(5);
+            int index = 0;
+
+            for (int q = SMALLEST_POWER_OF_FIVE; q < 0; q++) {
+                BigInteger power = five.pow(-q);
+                int z = power.bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                BigInteger value = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+                if (value.bitLength() > 128) value = value.shiftRight(value.bitLength() - 128);
+                table[index++] = value.shiftRight(64).longValue();
+                table[index++] = value.longValue();
+            }
+
+            for (int q = 0; q <= LARGEST_POWER_OF_FIVE; q++) {
+                BigInteger power = five.pow(q);
+                power = power.bitLength() < 128
+                        ? power.shiftLeft(128 - power.bitLength())
+                        : power.shiftRight(power.bitLength() - 128);
+                table[index++] = power.shiftRight(64).longValue();
+                table[index++] = power.longValue();
+            }
+            return table;
+        }
+
+        private static long unsignedMultiplyHigh(long x, long y) {
+            return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+        }
+
+        /**
+         * Computes the bits of the positive double closest to {@code mantissa * 10^exponent}.
+         */
+        private static long compute(long mantissa, int exponent) {
+            int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+            mantissa <<= leadingZeros;
+
+            // 128-bit product of the mantissa and the approximation of 5^exponent
+            int index = 2 * (exponent - SMALLEST_POWER_OF_FIVE);
+            long high = unsignedMultiplyHigh(mantissa, POWERS_OF_FIVE[index]);
+            long low = mantissa * POWERS_OF_FIVE[index];
+            long precisionMask = 0xffff_ffff_ffff_ffffL >>> (MANTISSA_EXPLICIT_BITS + 3);
+            if ((high & precisionMask) == precisionMask) {
+                long secondHigh = unsignedMultiplyHigh(mantissa, POWERS_OF_FIVE[index + 1]);
+                low += secondHigh;
+                if (Long.compareUnsigned(secondHigh, low) > 0) high++;
+            }
+
+            int upperBit = (int) (high >>> 63);
+            int shift = upperBit + 64 - MANTISSA_EXPLICIT_BITS - 3;
+            long resultMantissa = high >>> shift;
+            int power2 = (((152170 + 65536) * exponent) >> 16) + 63 + upperBit - leadingZeros - MINIMUM_EXPONENT;
+
+            if (power2 <= 0) { // subnormal numbers
+                if (-power2 + 1 >= 64) return 0L;
+                resultMantissa >>>= -power2 + 1;
+                resultMantissa += resultMantissa & 1;
+                resultMantissa >>>= 1;
+                power2 = resultMantissa < (1L << MANTISSA_EXPLICIT_BITS) ? 0 : 1;
+                return resultMantissa | ((long) power2 << MANTISSA_EXPLICIT_BITS);
+            }
+
+            // exactly between two doubles -> round to even
+            if (Long.compareUnsigned(low, 1) <= 0 && exponent >= -4 && exponent <= 23
+                    && (resultMantissa & 3) == 1 && (resultMantissa << shift) == high) {
+                resultMantissa &= ~1L;
+            }
+
+            resultMantissa += resultMantissa & 1;
+            resultMantissa >>>= 1;
+            if (resultMantissa >= (2L << MANTISSA_EXPLICIT_BITS)) {
+                resultMantissa = 1L << MANTISSA_EXPLICIT_BITS;
+                power2++;
+            }
+            resultMantissa &= ~(1L << MANTISSA_EXPLICIT_BITS);
+            if (power2 >= INFINITE_POWER) return (long) INFINITE_POWER << MANTISSA_EXPLICIT_BITS;
+
+            return resultMantissa | ((long) power2 << MANTISSA_EXPLICIT_BITS);
+        }
+    }
+}
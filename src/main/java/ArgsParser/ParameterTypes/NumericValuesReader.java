@@ -0,0 +1,235 @@
+package ArgsParser.ParameterTypes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Reads large amounts of numeric values from a file for the {@code --values-from} option of
+ * {@link IntArrParameter} and {@link DblArrParameter}.
+ *
+ * <p>Two file formats are supported:</p>
+ * <ul>
+ *     <li><b>binary</b> (file name ending with {@code .bin}): raw little-endian int32 or float64 values.
+ *     The file is memory-mapped and handed out as buffer view without copying.</li>
+ *     <li><b>text</b> (any other file): values separated by whitespace or commas.
+ *     The file is memory-mapped, split into chunks at separator positions and the chunks are parsed
+ *     in parallel on the common fork-join pool.</li>
+ * </ul>
+ */
+final class NumericValuesReader {
+
+    private static final String BINARY_SUFFIX = ".bin";
+    private static final int MIN_CHUNK_SIZE = 1 << 20;
+
+    private NumericValuesReader() {
+    }
+
+    /**
+     * Reads all int values of the given file.
+     *
+     * @param file text or binary file holding the values
+     * @return buffer holding all values, read-only view on the mapped file for binary files
+     * @throws IOException if the file cannot be read or has an invalid size
+     * @throws NumberFormatException if a text value is not a valid integer
+     */
+    static IntBuffer readInts(Path file) throws IOException {
+        ByteBuffer bytes = map(file);
+        if (isBinary(file)) {
+            if (bytes.remaining() % Integer.BYTES != 0) {
+                throw new IOException("size of " + file + " is not a multiple of " + Integer.BYTES + " bytes");
+            }
+            return bytes.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        }
+
+        List<ChunkTask> chunks = parseChunks(bytes, true);
+        int total = 0;
+        for (ChunkTask chunk : chunks) total = Math.addExact(total, chunk.count);
+        int[] values = new int[total];
+        int position = 0;
+        for (ChunkTask chunk : chunks) {
+            System.arraycopy(chunk.ints, 0, values, position, chunk.count);
+            position += chunk.count;
+        }
+        return IntBuffer.wrap(values);
+    }
+
+    /**
+     * Reads all double values of the given file.
+     *
+     * @param file text or binary file holding the values
+     * @return buffer holding all values, read-only view on the mapped file for binary files
+     * @throws IOException if the file cannot be read or has an invalid size
+     * @throws NumberFormatException if a text value is not a valid double
+     */
+    static DoubleBuffer readDoubles(Path file) throws IOException {
+        ByteBuffer bytes = map(file);
+        if (isBinary(file)) {
+            if (bytes.remaining() % Double.BYTES != 0) {
+                throw new IOException("size of " + file + " is not a multiple of " + Double.BYTES + " bytes");
+            }
+            return bytes.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+
+        List<ChunkTask> chunks = parseChunks(bytes, false);
+        int total = 0;
+        for (ChunkTask chunk : chunks) total = Math.addExact(total, chunk.count);
+        double[] values = new double[total];
+        int position = 0;
+        for (ChunkTask chunk : chunks) {
+            System.arraycopy(chunk.doubles, 0, values, position, chunk.count);
+            position += chunk.count;
+        }
+        return DoubleBuffer.wrap(values);
+    }
+
+    private static boolean isBinary(Path file) {
+        Path fileName = file.getFileName();
+        return fileName != null && fileName.toString().endsWith(BINARY_SUFFIX);
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new IOException(file + " is larger than 2 GB");
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Splits the text into chunks that end at a separator and parses all chunks in parallel.
+     *
+     * @param bytes the whole text
+     * @param ints true to parse int values, false to parse double values
+     * @return the parsed chunks in file order
+     */
+    private static List<ChunkTask> parseChunks(ByteBuffer bytes, boolean ints) {
+        int size = bytes.limit();
+        int chunkCount = Math.max(1, Math.min(size / MIN_CHUNK_SIZE, Runtime.getRuntime().availableProcessors() * 4));
+        int chunkSize = size / chunkCount;
+
+        List<ChunkTask> chunks = new ArrayList<>(chunkCount);
+        int start = 0;
+        for (int i = 1; i <= chunkCount && start < size; i++) {
+            int end = i == chunkCount ? size : Math.max(start, i * chunkSize);
+            while (end < size && !isSeparator(bytes.get(end))) end++;
+            chunks.add(new ChunkTask(bytes, start, end, ints));
+            start = end;
+        }
+
+        if (chunks.size() == 1) chunks.get(0).compute();
+        else ForkJoinTask.invokeAll(chunks);
+        return chunks;
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == ',';
+    }
+
+    /**
+     * Parses all values between {@code start} and {@code end} of the text.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final transient ByteBuffer bytes;
+        private final transient AsciiText text;
+        private final int start;
+        private final int end;
+        private final boolean parseInts;
+        private int[] ints;
+        private double[] doubles;
+        private int count = 0;
+
+        private ChunkTask(ByteBuffer bytes, int start, int end, boolean parseInts) {
+            this.bytes = bytes;
+            this.text = new AsciiText(bytes);
+            this.start = start;
+            this.end = end;
+            this.parseInts = parseInts;
+        }
+
+        @Override
+        protected void compute() {
+            // rough estimate of the value count, grown if needed
+            int capacity = Math.max(16, (end - start) / 4);
+            if (parseInts) ints = new int[capacity];
+            else doubles = new double[capacity];
+
+            int position = start;
+            while (position < end) {
+                while (position < end && isSeparator(bytes.get(position))) position++;
+                if (position >= end) break;
+                int tokenStart = position;
+                while (position < end && !isSeparator(bytes.get(position))) position++;
+
+                if (parseInts) {
+                    if (count == ints.length) ints = Arrays.copyOf(ints, count * 2);
+                    ints[count++] = parseInt(tokenStart, position);
+                } else {
+                    if (count == doubles.length) doubles = Arrays.copyOf(doubles, count * 2);
+                    doubles[count++] = parseDouble(tokenStart, position);
+                }
+            }
+        }
+
+        private int parseInt(int from, int to) {
+            long value = NumberParser.parseInt(text, from, to);
+            if (value == NumberParser.INVALID_INT) throw invalid(from, to);
+            return (int) value;
+        }
+
+        private double parseDouble(int from, int to) {
+            long bits = NumberParser.parseDoubleBits(text, from, to);
+            if (bits == NumberParser.INVALID_DOUBLE_BITS) throw invalid(from, to);
+            return Double.longBitsToDouble(bits);
+        }
+
+        private NumberFormatException invalid(int from, int to) {
+            return new NumberFormatException("Invalid value: " + text.subSequence(from, to));
+        }
+    }
+
+    /**
+     * Character view on single byte text, so that the {@link NumberParser} can work on the mapped file directly.
+     */
+    private static final class AsciiText implements CharSequence {
+        private final ByteBuffer bytes;
+
+        private AsciiText(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int length() {
+            return bytes.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes.get(index) & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            byte[] token = new byte[end - start];
+            bytes.get(start, token);
+            return new String(token, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+    }
+}
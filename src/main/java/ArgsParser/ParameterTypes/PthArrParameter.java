@@ -3,7 +3,6 @@ package ArgsParser.ParameterTypes;
 import ArgsParser.ArgsExceptions.NotExistingPathArgsException;
 import ArgsParser.Parameter;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 
@@ -89,6 +88,16 @@ public class PthArrParameter extends Parameter<Path[]> {
         this.pathCheck = pathCheck;
     }
 
+    /**
+     * Checks if this parameter validates paths against the file system while its argument is set.
+     *
+     * @return the pathCheck setting of this parameter
+     */
+    @Override
+    protected boolean validatesPaths() {
+        return pathCheck;
+    }
+
     /**
      * Casts the default Argument of type T to String
      *
@@ -109,11 +118,8 @@ public class PthArrParameter extends Parameter<Path[]> {
      */
     @Override
     protected Path[] castArgument(String argument) throws NotExistingPathArgsException {
-        Path[] array = super.readArgument();
-        array = array == null ? new Path[1] : Arrays.copyOf(array, array.length + 1);
         Path pathToAdd = Path.of(argument);
-        if (pathCheck && !Files.exists(pathToAdd)) throw new NotExistingPathArgsException(pathToAdd);
-        array[array.length - 1] = pathToAdd;
-        return array;
+        if (pathCheck && !existsOnFileSystem(pathToAdd)) throw new NotExistingPathArgsException(pathToAdd);
+        return appendValue(super.readArgument(), pathToAdd, Path[]::new);
     }
 }
@@ -107,6 +107,16 @@ public class PthParameter extends Parameter<Path> {
         return Files.exists(super.getArgument());
     }
 
+    /**
+     * Checks if this parameter validates paths against the file system while its argument is set.
+     *
+     * @return the pathCheck setting of this parameter
+     */
+    @Override
+    protected boolean validatesPaths() {
+        return pathCheck;
+    }
+
     /**
      * Casts the default Argument of type T to String
      *
@@ -118,6 +128,16 @@ public class PthParameter extends Parameter<Path> {
         return defaultValue.toString();
     }
 
+    /**
+     * With pathCheck the cache needs a time to live, a cached path is not checked again until its entry expired.
+     *
+     * @return true
+     */
+    @Override
+    protected boolean supportsConversionCache() {
+        return true;
+    }
+
     /**
      * Casts the argument to type T
      *
@@ -128,7 +148,7 @@ public class PthParameter extends Parameter<Path> {
     @Override
     protected Path castArgument(String argument) throws NotExistingPathArgsException {
         Path path = Path.of(argument);
-        if (pathCheck && !Files.exists(path)) throw new NotExistingPathArgsException(path);
+        if (pathCheck && !existsOnFileSystem(path)) throw new NotExistingPathArgsException(path);
         return path;
     }
 }
@@ -0,0 +1,314 @@
+package ArgsParser.ParameterTypes;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable arithmetic progression of long values, the argument type of {@link RngParameter}.
+ *
+ * <p>
+ * A range only stores its first value, the step between two values and the number of values,
+ * so iterating a range of a billion values needs constant memory.
+ * Both bounds are inclusive, the last value is always reachable from the first value with the given step.
+ * The values can be consumed as {@link LongStream} / {@link IntStream} or via a {@link PrimitiveIterator}.
+ * The streams are backed by a sized spliterator that splits in halves, so parallel streams distribute
+ * the values evenly over all workers.
+ * </p>
+ */
+public final class Range {
+
+    private final long start;
+    private final long step;
+    private final long size;
+
+    /**
+     * Creates a range from {@code start} to {@code end} (both inclusive).
+     * If {@code end} is not reachable with the given step, the range stops at the last value before {@code end}.
+     * If {@code end} lies in the opposite direction of the step, the range is empty.
+     *
+     * @param start the first value
+     * @param end the upper (or lower for a negative step) bound
+     * @param step the difference between two consecutive values
+     * @throws IllegalArgumentException if step is 0
+     * @throws ArithmeticException if the range holds more than {@link Long#MAX_VALUE} values
+     */
+    public Range(long start, long end, long step) {
+        if (step == 0) throw new IllegalArgumentException("The step of a range must not be 0!");
+        this.start = start;
+        this.step = step;
+
+        if (step > 0 ? end < start : end > start) {
+            this.size = 0;
+        } else {
+            // the distance is always positive, treat it as unsigned so extreme bounds do not overflow
+            long distance = step > 0 ? end - start : start - end;
+            long stepSize = step == Long.MIN_VALUE ? Long.MIN_VALUE : Math.abs(step);
+            long steps = Long.divideUnsigned(distance, stepSize);
+            if (steps < 0 || steps == Long.MAX_VALUE) throw new ArithmeticException("Range holds too many values");
+            this.size = steps + 1;
+        }
+    }
+
+    /**
+     * @return the first value of this range
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * @return the last value of this range, or the start if the range is empty
+     */
+    public long getEnd() {
+        return size == 0 ? start : get(size - 1);
+    }
+
+    /**
+     * @return the difference between two consecutive values
+     */
+    public long getStep() {
+        return step;
+    }
+
+    /**
+     * @return the number of values in this range
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return true if this range holds no values
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value at the given position without iterating the range.
+     *
+     * @param index position of the value, starting at 0
+     * @return the value at the given position
+     * @throws IndexOutOfBoundsException if index is negative or not smaller than {@link #size()}
+     */
+    public long get(long index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of range of size " + size);
+        return start + index * step;
+    }
+
+    /**
+     * @return true if all values of this range fit into an int
+     */
+    public boolean fitsInt() {
+        if (size == 0) return start == (int) start;
+        long end = getEnd();
+        return start == (int) start && end == (int) end;
+    }
+
+    /**
+     * @return a sequential stream of all values, use {@link LongStream#parallel()} for parallel processing
+     */
+    public LongStream longStream() {
+        return StreamSupport.longStream(new LongRangeSpliterator(0, size), false);
+    }
+
+    /**
+     * @return a sequential stream of all values, use {@link IntStream#parallel()} for parallel processing
+     * @throws ArithmeticException if a value of this range does not fit into an int
+     */
+    public IntStream intStream() {
+        checkInt();
+        return StreamSupport.intStream(new IntRangeSpliterator(0, size), false);
+    }
+
+    /**
+     * @return an iterator over all values
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private long index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (index >= size) throw new NoSuchElementException();
+                return start + index++ * step;
+            }
+        };
+    }
+
+    /**
+     * @return an iterator over all values
+     * @throws ArithmeticException if a value of this range does not fit into an int
+     */
+    public PrimitiveIterator.OfInt intIterator() {
+        checkInt();
+        PrimitiveIterator.OfLong values = iterator();
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return values.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return (int) values.nextLong();
+            }
+        };
+    }
+
+    private void checkInt() {
+        if (!fitsInt()) throw new ArithmeticException("Range " + this + " exceeds the int range");
+    }
+
+    private int characteristics() {
+        int characteristics = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED
+                              | Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.DISTINCT;
+        // SORTED means natural (ascending) order
+        return step > 0 ? characteristics | Spliterator.SORTED : characteristics;
+    }
+
+    /**
+     * Returns the range in the notation accepted by {@link RngParameter}: {@code start..end:step}.
+     *
+     * @return this range as String
+     */
+    @Override
+    public String toString() {
+        long end = size == 0 ? start - step : getEnd();
+        return start + ".." + end + ":" + step;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Range other)) return false;
+        if (size == 0 || other.size == 0) return size == other.size;
+        return start == other.start && size == other.size && (size == 1 || step == other.step);
+    }
+
+    @Override
+    public int hashCode() {
+        if (size == 0) return 0;
+        long hash = start * 31 + size;
+        if (size > 1) hash = hash * 31 + step;
+        return Long.hashCode(hash);
+    }
+
+    /**
+     * Spliterator over the value indices {@code [from, to)}, splits in halves.
+     */
+    private final class LongRangeSpliterator implements Spliterator.OfLong {
+        private long from;
+        private final long to;
+
+        private LongRangeSpliterator(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (from >= to) return false;
+            action.accept(start + from++ * step);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            long value = start + from * step;
+            for (long i = from; i < to; i++, value += step) action.accept(value);
+            from = to;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            long remaining = to - from;
+            if (remaining < 2) return null;
+            long middle = from + (remaining >>> 1);
+            LongRangeSpliterator prefix = new LongRangeSpliterator(from, middle);
+            from = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return Range.this.characteristics();
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            // natural order
+            return null;
+        }
+    }
+
+    /**
+     * Int version of the {@link LongRangeSpliterator}, only used for ranges that fit into an int.
+     */
+    private final class IntRangeSpliterator implements Spliterator.OfInt {
+        private long from;
+        private final long to;
+
+        private IntRangeSpliterator(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (from >= to) return false;
+            action.accept((int) (start + from++ * step));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            long value = start + from * step;
+            for (long i = from; i < to; i++, value += step) action.accept((int) value);
+            from = to;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            long remaining = to - from;
+            if (remaining < 2) return null;
+            long middle = from + (remaining >>> 1);
+            IntRangeSpliterator prefix = new IntRangeSpliterator(from, middle);
+            from = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return Range.this.characteristics();
+        }
+
+        @Override
+        public Comparator<? super Integer> getComparator() {
+            // natural order
+            return null;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package ArgsParser.ParameterTypes;
+
+import ArgsParser.ArgsExceptions.InvalidArgTypeArgsException;
+import ArgsParser.Parameter;
+
+/**
+ * Represents a parameter that holds a lazy range of integer values.
+ *
+ * This class extends {@link Parameter} to manage parameters of type {@link Range}.
+ * Instead of expanding all values like {@link IntArrParameter}, only the bounds and the step are stored,
+ * the values are produced on demand as {@link java.util.stream.LongStream}, {@link java.util.stream.IntStream}
+ * or {@link java.util.PrimitiveIterator}.
+ *
+ * <p>Accepted notations (both bounds inclusive):</p>
+ * <ul>
+ *     <li>{@code 0-99999}: all values from 0 to 99999</li>
+ *     <li>{@code 1..1000000}: all values from 1 to 1000000</li>
+ *     <li>{@code 1..1000000:3}: every third value from 1 to 1000000</li>
+ *     <li>{@code 100..0:-10}: every tenth value from 100 down to 0</li>
+ *     <li>{@code 7}: the single value 7</li>
+ * </ul>
+ * Without a step, the step is 1, or -1 if the end is smaller than the start.
+ */
+public class RngParameter extends Parameter<Range> {
+    /**
+     * Constructs a new {@link Parameter} of type {@link Range} instance with the specified flags, description, and mandatory status.
+     * <p>
+     * The constructor validates and formats the provided flag names.
+     * </p>
+     *
+     * <p>Behavior:</p>
+     * <ul>
+     *     <li>Validates that the full and short flags are correctly formatted and non-empty.</li>
+     *     <li>Stores the description and mandatory status of the parameter.</li>
+     *     <li>Initializes internal fields for argument management and default values.</li>
+     * </ul>
+     *
+     * <p>Flag Validation Rules:</p>
+     * <ul>
+     *     <li><b>Full Flag:</b> Full words recommended (e.g., example), two dashes `--` will automatically be added.</li>
+     *     <li><b>Short Flag:</b> Abbreviations of the fullFlag are recommended (e.g., e), one dash `-`will automatically be added.</li>
+     *     <li><b>Reserved Flags:</b> The flags `--help` and `-h` cannot be used.</li>
+     *     <li><b>Uniqueness:</b> Full and short flags must be unique and must not already be defined.</li>
+     * </ul>
+     *
+     * @param fullFlag    The full version of the flag (e.g., `--example`).
+     * @param shortFlag   The short version of the flag (e.g., `-e`).
+     * @param description A brief description of what the parameter represents.
+     * @param isMandatory Indicates if this parameter is mandatory.
+     * @throws IllegalArgumentException If the flag names are invalid, empty, or reserved.
+     */
+    public RngParameter(String fullFlag, String shortFlag, String description, boolean isMandatory) {
+        super(fullFlag, shortFlag, description, isMandatory, Range.class);
+    }
+
+    /**
+     * Constructs a new {@link Parameter} of type {@link Range} instance with the specified flags, description, and a default value.
+     * <p>
+     * The constructor validates and formats the provided flag names.
+     * </p>
+     *
+     * <p>Behavior:</p>
+     * <ul>
+     *     <li>Validates that the full and short flags are correctly formatted and non-empty.</li>
+     *     <li>Stores the description and mandatory status of the parameter.</li>
+     *     <li>Initializes internal fields for argument management and default values.</li>
+     * </ul>
+     *
+     * <p>Flag Validation Rules:</p>
+     * <ul>
+     *     <li><b>Full Flag:</b> Full words recommended (e.g., example), two dashes `--` will automatically be added.</li>
+     *     <li><b>Short Flag:</b> Abbreviations of the fullFlag are recommended (e.g., e), one dash `-`will automatically be added.</li>
+     *     <li><b>Reserved Flags:</b> The flags `--help` and `-h` cannot be used.</li>
+     *     <li><b>Uniqueness:</b> Full and short flags must be unique and must not already be defined.</li>
+     * </ul>
+     *
+     * @param defaultValue Sets a default value for this Parameter and makes it not mandatory.
+     * @param fullFlag     The full version of the flag (e.g., `--example`).
+     * @param shortFlag    The short version of the flag (e.g., `-e`).
+     * @param description  A brief description of what the parameter represents.
+     * @throws IllegalArgumentException If the flag names are invalid, empty, or reserved.
+     */
+    public RngParameter(Range defaultValue, String fullFlag, String shortFlag, String description) {
+        super(defaultValue, fullFlag, shortFlag, description, Range.class);
+    }
+
+    /**
+     * Casts the default Argument of type T to String
+     *
+     * @param defaultValue the default to be cast to String
+     * @return the defaultValue as String
+     */
+    @Override
+    protected String castDefaultToString(Range defaultValue) {
+        return defaultValue.toString();
+    }
+
+    @Override
+    protected boolean supportsConversionCache() {
+        return true;
+    }
+
+    /**
+     * Casts the argument to type T
+     *
+     * @param argument to be cast
+     * @return the argument as type T
+     * @throws InvalidArgTypeArgsException if the argument is not a valid range
+     */
+    @Override
+    protected Range castArgument(String argument) throws InvalidArgTypeArgsException {
+        int length = argument.length();
+        int stepSeparator = argument.indexOf(':');
+        int boundsEnd = stepSeparator < 0 ? length : stepSeparator;
+
+        // a leading '-' is the sign of the start, not the separator
+        int endStart;
+        int startEnd = argument.indexOf("..");
+        if (startEnd >= 0 && startEnd < boundsEnd) {
+            endStart = startEnd + 2;
+        } else {
+            startEnd = boundsEnd > 1 ? argument.indexOf('-', 1) : -1;
+            if (startEnd >= boundsEnd) startEnd = -1;
+            endStart = startEnd + 1;
+        }
+
+        try {
+            if (startEnd < 0) {
+                if (stepSeparator >= 0) throw invalidArgument();
+                long value = Long.parseLong(argument);
+                return new Range(value, value, 1);
+            }
+
+            long start = Long.parseLong(argument, 0, startEnd, 10);
+            long end = Long.parseLong(argument, endStart, boundsEnd, 10);
+            long step = stepSeparator < 0 ? (end < start ? -1 : 1)
+                                          : Long.parseLong(argument, stepSeparator + 1, length, 10);
+            return new Range(start, end, step);
+
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            // malformed number, step of 0 or too many values
+            throw invalidArgument();
+        }
+    }
+}
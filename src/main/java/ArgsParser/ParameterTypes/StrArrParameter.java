@@ -93,9 +93,6 @@ public class StrArrParameter extends Parameter<String[]> {
      */
     @Override
     protected String[] castArgument(String argument) {
-        String[] array = super.readArgument();
-        array = array == null ? new String[1] : Arrays.copyOf(array, array.length + 1);
-        array[array.length - 1] = argument;
-        return array;
+        return appendValue(super.readArgument(), argument, String[]::new);
     }
 }
@@ -84,6 +84,11 @@ public class StrParameter extends Parameter<String> {
         return defaultValue;
     }
 
+    @Override
+    protected boolean supportsConversionCache() {
+        return true;
+    }
+
     /**
      * Casts the argument to type T
      *
@@ -0,0 +1,133 @@
+package ArgsParser.ParameterTypes;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+
+/**
+ * The values an {@link IntArrParameter} or {@link DblArrParameter} read with {@code --values-from}, stored as
+ * argument in the {@code ParseResult}: the unboxed buffer returned by {@link NumericValuesReader}, and its boxed copy,
+ * which is created on first access. The buffer itself is never handed out, callers get a copy or a read-only view,
+ * so the values never change once they are read.
+ *
+ * @param <E> boxed type of the values
+ * @param <P> primitive array type of the values
+ * @param <B> buffer type of the values
+ */
+abstract class ValuesFromFile<E, P, B extends Buffer> {
+
+    final B buffer;
+    private volatile E[] boxed = null; // results can be read by several threads, e.g. of a LiveConfig
+
+    private ValuesFromFile(B buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * @return the boxed values, created on the first call
+     */
+    E[] boxed() {
+        E[] values = boxed;
+        if (values == null) boxed = values = box();
+        return values;
+    }
+
+    /**
+     * @return a new array holding the boxed values
+     */
+    abstract E[] box();
+
+    /**
+     * @return a new primitive array holding the values
+     */
+    abstract P copy();
+
+    /**
+     * @return a read-only view on the values, for binary files a view on the memory-mapped file
+     */
+    abstract B readOnlyBuffer();
+
+    /**
+     * The int32 values of an {@link IntArrParameter}.
+     */
+    static final class Ints extends ValuesFromFile<Integer, int[], IntBuffer> {
+
+        private Ints(IntBuffer buffer) {
+            super(buffer);
+        }
+
+        /**
+         * Reads all values of the given text or binary file.
+         *
+         * @param file the file handed via {@code --values-from}
+         * @return the read values
+         * @throws IOException if the file cannot be read
+         * @throws NumberFormatException if a value in a text file is not a valid integer
+         */
+        static Ints read(Path file) throws IOException {
+            return new Ints(NumericValuesReader.readInts(file));
+        }
+
+        @Override
+        Integer[] box() {
+            Integer[] boxed = new Integer[buffer.remaining()];
+            for (int i = 0; i < boxed.length; i++) boxed[i] = buffer.get(i);
+            return boxed;
+        }
+
+        @Override
+        int[] copy() {
+            int[] values = new int[buffer.remaining()];
+            buffer.duplicate().get(values);
+            return values;
+        }
+
+        @Override
+        IntBuffer readOnlyBuffer() {
+            return buffer.asReadOnlyBuffer();
+        }
+    }
+
+    /**
+     * The float64 values of a {@link DblArrParameter}.
+     */
+    static final class Doubles extends ValuesFromFile<Double, double[], DoubleBuffer> {
+
+        private Doubles(DoubleBuffer buffer) {
+            super(buffer);
+        }
+
+        /**
+         * Reads all values of the given text or binary file.
+         *
+         * @param file the file handed via {@code --values-from}
+         * @return the read values
+         * @throws IOException if the file cannot be read
+         * @throws NumberFormatException if a value in a text file is not a valid double
+         */
+        static Doubles read(Path file) throws IOException {
+            return new Doubles(NumericValuesReader.readDoubles(file));
+        }
+
+        @Override
+        Double[] box() {
+            Double[] boxed = new Double[buffer.remaining()];
+            for (int i = 0; i < boxed.length; i++) boxed[i] = buffer.get(i);
+            return boxed;
+        }
+
+        @Override
+        double[] copy() {
+            double[] values = new double[buffer.remaining()];
+            buffer.duplicate().get(values);
+            return values;
+        }
+
+        @Override
+        DoubleBuffer readOnlyBuffer() {
+            return buffer.asReadOnlyBuffer();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import jdk.jfr.*;
+
+/**
+ * Flight Recorder event of one {@link ArgsParser#parseUnchecked(String[])} call, including parses started by
+ * {@code parse}, {@code parseFresh}, {@code parseInto} and the other parse methods.
+ */
+@Name("ArgsParser.Parse")
+@Label("Parse Arguments")
+@Category("ArgsParser")
+@Description("Parsing of one command line")
+final class ParseEvent extends Event {
+
+    @Label("Tokens")
+    int tokenCount;
+
+    @Label("Parameters")
+    @Description("Number of parameters of the parser")
+    int parameterCount;
+
+    @Label("Provided Parameters")
+    int providedCount;
+
+    @Label("Outcome")
+    @Description("\"success\" or the simple name of the thrown exception")
+    String outcome;
+
+    /**
+     * Starts the event if it is enabled. Only called while {@link FlightRecording#isRunning() a recording runs}.
+     *
+     * @param tokenCount number of tokens of the command line
+     * @return the started event or null if it is not recorded
+     */
+    static ParseEvent startIfEnabled(int tokenCount) {
+        ParseEvent event = new ParseEvent();
+        if (!event.isEnabled()) return null;
+        event.tokenCount = tokenCount;
+        event.begin();
+        return event;
+    }
+}
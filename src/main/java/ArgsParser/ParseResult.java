@@ -0,0 +1,376 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.util.Arrays;
+
+/**
+ * Flat storage of all parsed arguments of one {@link ArgsParser}.
+ *
+ * <p>
+ * Every {@link Parameter} gets an ordinal when it is added to a parser. The arguments, the provided status and the
+ * {@link ArgumentSource} of all parameters are kept in arrays indexed by that ordinal, so reading the argument of a
+ * parameter handle is a plain array access without any flag lookup or string handling.
+ * </p>
+ * <p>
+ * Arguments of type Integer, Double, Float, Boolean and Character are additionally stored as raw bits in a
+ * primitive array, the typed accessors like {@link #getInt(Parameter)} read them without unboxing.
+ * </p>
+ * <p>
+ * The provided status of all {@link Command}s is kept in the same way. Every parse with
+ * {@link ArgsParser#parseFresh(String[])} fills a new result, results of earlier parses keep their values.
+ * To parse without allocating, results can be {@link #reset()} and refilled with
+ * {@link ArgsParser#parseInto(ParseResult, String[])}, e.g. from a pool of results. Results published to other
+ * threads, like the results of a {@link LiveConfig}, are {@link #isReadOnly() read-only} and can neither be reset nor
+ * refilled.
+ * </p>
+ */
+public final class ParseResult {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Parameter<?>[] parameters = new Parameter<?>[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private long[] primitives = new long[INITIAL_CAPACITY];
+    private byte[] sources = new byte[INITIAL_CAPACITY];
+    private long[] provided = new long[1];
+    private long[] present = new long[1];
+    private int size = 0;
+    private Command[] commands = new Command[INITIAL_CAPACITY];
+    private long[] commandsProvided = new long[1];
+    private int commandCount = 0;
+
+    private final ArgsParser owner;
+    private boolean readOnly = false;
+
+    ParseResult(ArgsParser owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * @param parser a parser
+     * @return true if this result was created by the given parser
+     */
+    boolean belongsTo(ArgsParser parser) {
+        return owner == parser;
+    }
+
+    /**
+     * Prevents that this result is reset or parsed into again, e.g. before it is published to other threads.
+     */
+    void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * @return true if this result can neither be {@link #reset()} nor refilled by
+     * {@link ArgsParser#parseInto(ParseResult, String[])}
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Registers the given parameter and assigns it the next free ordinal.
+     *
+     * @param parameter the parameter to register
+     * @return the ordinal of the parameter
+     */
+    int register(Parameter<?> parameter) {
+        if (size == parameters.length) {
+            int capacity = size * 2;
+            parameters = Arrays.copyOf(parameters, capacity);
+            values = Arrays.copyOf(values, capacity);
+            primitives = Arrays.copyOf(primitives, capacity);
+            sources = Arrays.copyOf(sources, capacity);
+        }
+        if ((size >>> 6) == provided.length) {
+            provided = Arrays.copyOf(provided, provided.length * 2);
+            present = Arrays.copyOf(present, present.length * 2);
+        }
+
+        int ordinal = size++;
+        parameters[ordinal] = parameter;
+        initialise(ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Sets the state of the parameter with the given ordinal to "not provided", holding only its default value.
+     * @param ordinal ordinal of the parameter
+     */
+    private void initialise(int ordinal) {
+        Parameter<?> parameter = parameters[ordinal];
+        if (parameter.hasDefault()) {
+            sources[ordinal] = (byte) ArgumentSource.DEFAULT.ordinal();
+            primitives[ordinal] = bitsOf(parameter.getDefaultValue());
+            present[ordinal >>> 6] |= 1L << ordinal;
+        } else {
+            sources[ordinal] = (byte) ArgumentSource.NONE.ordinal();
+        }
+    }
+
+    /**
+     * Resets this result to the state before parsing: no parameter or command is provided and only the default
+     * values are present. All arrays keep their capacity, so a result can be refilled with
+     * {@link ArgsParser#parseInto(ParseResult, String[])} without allocating.
+     *
+     * @throws IllegalStateException if this result is {@link #isReadOnly() read-only}
+     */
+    public void reset() throws IllegalStateException {
+        if (readOnly) throw new IllegalStateException("The result is read-only!");
+        Arrays.fill(values, 0, size, null);
+        Arrays.fill(provided, 0);
+        Arrays.fill(present, 0);
+        Arrays.fill(commandsProvided, 0);
+        for (int i = 0; i < size; i++) initialise(i);
+    }
+
+    /**
+     * Registers the given command and assigns it the next free command ordinal.
+     *
+     * @param command the command to register
+     * @return the ordinal of the command
+     */
+    int registerCommand(Command command) {
+        if (commandCount == commands.length) commands = Arrays.copyOf(commands, commandCount * 2);
+        if ((commandCount >>> 6) == commandsProvided.length) {
+            commandsProvided = Arrays.copyOf(commandsProvided, commandsProvided.length * 2);
+        }
+        commands[commandCount] = command;
+        return commandCount++;
+    }
+
+    /**
+     * Binds all registered parameters and commands to this result, so that they read and write their state here.
+     */
+    void bindAll() {
+        for (int i = 0; i < size; i++) parameters[i].bind(this, i);
+        for (int i = 0; i < commandCount; i++) commands[i].bind(this, i);
+    }
+
+    /**
+     * Converts a primitive wrapper into the raw bits stored in the primitive array.
+     *
+     * @param value the value to convert
+     * @return the raw bits of the value, 0 for non primitive values
+     */
+    private static long bitsOf(Object value) {
+        if (value instanceof Integer integer) return integer;
+        if (value instanceof Double doubleValue) return Double.doubleToRawLongBits(doubleValue);
+        if (value instanceof Float floatValue) return Float.floatToRawIntBits(floatValue);
+        if (value instanceof Boolean bool) return bool ? 1 : 0;
+        if (value instanceof Character character) return character;
+        return 0;
+    }
+
+    /**
+     * @return the number of registered parameters
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of registered commands
+     */
+    int commandCount() {
+        return commandCount;
+    }
+
+    /**
+     * @param ordinal ordinal of a parameter
+     * @return the parameter with the given ordinal or null if no parameter has this ordinal
+     */
+    Parameter<?> parameterAt(int ordinal) {
+        return ordinal >= 0 && ordinal < size ? parameters[ordinal] : null;
+    }
+
+    /**
+     * Calls {@link Parameter#countUsage()} of every provided parameter and {@link Command#countUsage()} of every
+     * provided command, touching only the set bits of the provided status.
+     */
+    void countUsage() {
+        for (int word = 0; word < provided.length; word++) {
+            for (long bits = provided[word]; bits != 0; bits &= bits - 1) {
+                parameters[(word << 6) + Long.numberOfTrailingZeros(bits)].countUsage();
+            }
+        }
+        for (int word = 0; word < commandsProvided.length; word++) {
+            for (long bits = commandsProvided[word]; bits != 0; bits &= bits - 1) {
+                commands[(word << 6) + Long.numberOfTrailingZeros(bits)].countUsage();
+            }
+        }
+    }
+
+    /**
+     * @param ordinal ordinal of a parameter
+     * @return true if the parameter has an argument or a default value stored in this result
+     */
+    boolean isPresent(int ordinal) {
+        return (present[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    Object value(int ordinal) {
+        return values[ordinal];
+    }
+
+    void setValue(int ordinal, Object value, ArgumentSource source) {
+        values[ordinal] = value;
+        primitives[ordinal] = bitsOf(value);
+        present[ordinal >>> 6] |= 1L << ordinal;
+        sources[ordinal] = (byte) source.ordinal();
+    }
+
+    /**
+     * Returns the raw bits of the primitive argument or default value of the parameter with the given ordinal.
+     *
+     * @param ordinal ordinal of the parameter
+     * @return the raw bits of the argument
+     * @throws IllegalStateException if the parameter has neither an argument nor a default value
+     */
+    long primitive(int ordinal) {
+        if (!isPresent(ordinal)) {
+            throw new IllegalStateException("Parameter " + parameters[ordinal] + " has neither an argument nor a default value!");
+        }
+        return primitives[ordinal];
+    }
+
+    void setSource(int ordinal, ArgumentSource source) {
+        sources[ordinal] = (byte) source.ordinal();
+    }
+
+    boolean isProvided(int ordinal) {
+        return (provided[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    void setProvided(int ordinal) {
+        provided[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    boolean isCommandProvided(int ordinal) {
+        return (commandsProvided[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    void setCommandProvided(int ordinal) {
+        commandsProvided[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    /**
+     * Returns the argument of the given parameter, or its default value if no argument was set.
+     * This is the same value {@link Parameter#getArgument()} returns.
+     *
+     * @param parameter handle of a parameter registered on the parser of this result
+     * @param <T> type of the parameter
+     * @return the argument, the default value or null if neither exists
+     * @throws IllegalArgumentException if the parameter is not registered on the parser of this result
+     */
+    public <T> T get(Parameter<T> parameter) {
+        Object value = values[ordinalOf(parameter)];
+        return value != null ? parameter.argumentOf(value) : parameter.getDefaultValue();
+    }
+
+    /**
+     * @param parameter handle of a parameter registered on the parser of this result
+     * @return true if the parameter was provided, false otherwise
+     * @throws IllegalArgumentException if the parameter is not registered on the parser of this result
+     */
+    public boolean isProvided(Parameter<?> parameter) {
+        return isProvided(ordinalOf(parameter));
+    }
+
+    /**
+     * @param command a command registered on the parser of this result
+     * @return true if the command was provided, false otherwise
+     * @throws IllegalArgumentException if the command is not registered on the parser of this result
+     */
+    public boolean isProvided(Command command) {
+        int ordinal = command.getOrdinal();
+        if (ordinal < 0 || ordinal >= commandCount || commands[ordinal] != command) {
+            throw new IllegalArgumentException("Command " + command + " is not defined on this parser");
+        }
+        return isCommandProvided(ordinal);
+    }
+
+    /**
+     * @param parameter handle of a parameter registered on the parser of this result
+     * @return where the argument of the parameter came from
+     * @throws IllegalArgumentException if the parameter is not registered on the parser of this result
+     */
+    public ArgumentSource getSource(Parameter<?> parameter) {
+        return ArgumentSource.of(sources[ordinalOf(parameter)]);
+    }
+
+    /**
+     * Returns the argument of the given parameter as primitive int without unboxing.
+     *
+     * @param parameter handle of an Integer parameter registered on the parser of this result
+     * @return the argument or the default value
+     * @throws IllegalArgumentException if the parameter is not registered on the parser of this result
+     * @throws IllegalStateException if the parameter has neither an argument nor a default value
+     */
+    public int getInt(Parameter<Integer> parameter) {
+        return (int) primitive(ordinalOf(parameter));
+    }
+
+    /**
+     * Returns the argument of the given parameter as primitive double without unboxing.
+     *
+     * @param parameter handle of a Double parameter registered on the parser of this result
+     * @return the argument or the default value
+     * @throws IllegalArgumentException if the parameter is not registered on the parser of this result
+     * @throws IllegalStateException if the parameter has neither an argument nor a default value
+     */
+    public double getDouble(Parameter<Double> parameter) {
+        return Double.longBitsToDouble(primitive(ordinalOf(parameter)));
+    }
+
+    /**
+     * Returns the argument of the given parameter as primitive float without unboxing.
+     *
+     * @param parameter handle of a Float parameter registered on the parser of this result
+     * @return the argument or the default value
+     * @throws IllegalArgumentException if the parameter is not registered on the parser of this result
+     * @throws IllegalStateException if the parameter has neither an argument nor a default value
+     */
+    public float getFloat(Parameter<Float> parameter) {
+        return Float.intBitsToFloat((int) primitive(ordinalOf(parameter)));
+    }
+
+    /**
+     * Returns the argument of the given parameter as primitive boolean without unboxing.
+     *
+     * @param parameter handle of a Boolean parameter registered on the parser of this result
+     * @return the argument or the default value
+     * @throws IllegalArgumentException if the parameter is not registered on the parser of this result
+     * @throws IllegalStateException if the parameter has neither an argument nor a default value
+     */
+    public boolean getBoolean(Parameter<Boolean> parameter) {
+        return primitive(ordinalOf(parameter)) != 0;
+    }
+
+    /**
+     * Returns the argument of the given parameter as primitive char without unboxing.
+     *
+     * @param parameter handle of a Character parameter registered on the parser of this result
+     * @return the argument or the default value
+     * @throws IllegalArgumentException if the parameter is not registered on the parser of this result
+     * @throws IllegalStateException if the parameter has neither an argument nor a default value
+     */
+    public char getChar(Parameter<Character> parameter) {
+        return (char) primitive(ordinalOf(parameter));
+    }
+
+    private int ordinalOf(Parameter<?> parameter) {
+        int ordinal = parameter.getOrdinal();
+        if (ordinal < 0 || ordinal >= size || parameters[ordinal] != parameter) {
+            throw new IllegalArgumentException("Parameter " + parameter + " is not defined on this parser");
+        }
+        return ordinal;
+    }
+}
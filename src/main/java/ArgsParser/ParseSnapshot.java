@@ -0,0 +1,368 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary snapshot of a completed parse.
+ *
+ * <p>
+ * A snapshot is keyed by a hash of the parser specification (flags, types, mandatory status, defaults, path checks,
+ * commands and toggles) and of the provided args. It stores the already converted arguments of every provided
+ * parameter, the provided commands and the last modification time of every path that was handed to the parser.
+ * Restoring a snapshot skips all conversions and {@code pathCheck} I/O, only the modification times of the
+ * referenced paths are compared to invalidate stale snapshots.
+ * </p>
+ *
+ * <p>Layout of a snapshot file (big endian):</p>
+ * <pre>
+ * int    magic ("ARGS")
+ * short  format version
+ * long   spec hash
+ * int    number of args, followed by each arg as string
+ * int    number of provided parameters, followed by (int definition index, value)
+ * int    number of provided commands, followed by int definition index
+ * int    number of referenced paths, followed by (string path, long modification time or -1 if not existing)
+ * </pre>
+ * <p>
+ * Strings are stored as int byte length followed by UTF-8 bytes.
+ * Values are stored as a type tag followed by the raw value, array values additionally carry their length.
+ * Only the build-in value types (String, Integer, Double, Float, Boolean, Character and Path) can be stored,
+ * a parse that holds arguments of any other type is not written to disk.
+ * </p>
+ */
+final class ParseSnapshot {
+
+    private static final int MAGIC = 0x41524753;
+    private static final short VERSION = 1;
+    private static final String FILE_SUFFIX = ".argsnap";
+
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INTEGER = 2;
+    private static final byte TAG_DOUBLE = 3;
+    private static final byte TAG_FLOAT = 4;
+    private static final byte TAG_BOOLEAN = 5;
+    private static final byte TAG_CHARACTER = 6;
+    private static final byte TAG_PATH = 7;
+    private static final byte ARRAY_MARKER = (byte) 0x80;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final List<Parameter<?>> parameters;
+    private final List<Command> commands;
+    private final long specHash;
+
+    /**
+     * Creates a snapshot handler for the given specification.
+     *
+     * @param parameters all parameters in definition order
+     * @param commands all commands in definition order
+     * @param toggles all toggles defined on the parser
+     */
+    ParseSnapshot(List<Parameter<?>> parameters, List<Command> commands, List<Command[]> toggles) {
+        this.parameters = parameters;
+        this.commands = commands;
+        this.specHash = hashSpec(parameters, commands, toggles);
+    }
+
+    /**
+     * Computes the file name of the snapshot belonging to the given args.
+     *
+     * @param args the command-line arguments
+     * @return file name of the snapshot for this spec and args
+     */
+    String fileName(String[] args) {
+        long hash = specHash;
+        for (String arg : args) {
+            hash = fnv(hash, arg);
+            hash = fnv(hash, "\u0000");
+        }
+        return String.format("%016x", hash) + FILE_SUFFIX;
+    }
+
+    /**
+     * Restores a snapshot into the parameters and commands of the specification.
+     * The state is only applied if the snapshot belongs to this spec and args and none of the
+     * referenced paths changed since it was written.
+     *
+     * @param snapshotFile the file to restore from
+     * @param args the command-line arguments the snapshot has to match
+     * @return true if the snapshot was applied, false if it is missing, stale or unreadable
+     */
+    boolean restore(Path snapshotFile, String[] args) {
+        if (!Files.isRegularFile(snapshotFile)) return false;
+
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION || buffer.getLong() != specHash) return false;
+
+            int argCount = buffer.getInt();
+            if (argCount != args.length) return false;
+            for (String arg : args) {
+                if (!arg.equals(readString(buffer))) return false;
+            }
+
+            int parameterCount = buffer.getInt();
+            List<Parameter<?>> providedParameters = new ArrayList<>(parameterCount);
+            List<Object> values = new ArrayList<>(parameterCount);
+            for (int i = 0; i < parameterCount; i++) {
+                Parameter<?> parameter = parameters.get(buffer.getInt());
+                Object value = readValue(buffer);
+                if (!parameter.getType().isInstance(value)) return false;
+                providedParameters.add(parameter);
+                values.add(value);
+            }
+
+            int commandCount = buffer.getInt();
+            int[] providedCommands = new int[commandCount];
+            for (int i = 0; i < commandCount; i++) {
+                providedCommands[i] = buffer.getInt();
+            }
+
+            int pathCount = buffer.getInt();
+            for (int i = 0; i < pathCount; i++) {
+                Path path = Path.of(readString(buffer));
+                if (buffer.getLong() != modificationTime(path)) return false;
+            }
+
+            // everything is valid -> apply the state
+            for (int i = 0; i < providedParameters.size(); i++) {
+                providedParameters.get(i).restoreArgument(values.get(i));
+            }
+            for (int commandIndex : providedCommands) {
+                commands.get(commandIndex).setCommand();
+            }
+            return true;
+
+        } catch (IOException | RuntimeException e) {
+            // a corrupt or foreign file is treated like a missing snapshot
+            return false;
+        }
+    }
+
+    /**
+     * Writes the current parse state of the specification as snapshot.
+     * Writing is best effort: if a value cannot be stored or the file cannot be written, no snapshot is left behind.
+     *
+     * @param snapshotFile the file to write to
+     * @param args the command-line arguments that were parsed
+     */
+    void write(Path snapshotFile, String[] args) {
+        List<Path> referencedPaths = new ArrayList<>();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(specHash);
+
+            out.writeInt(args.length);
+            for (String arg : args) writeString(out, arg);
+
+            int providedCount = 0;
+            for (Parameter<?> parameter : parameters) {
+                if (parameter.isProvided()) providedCount++;
+            }
+            out.writeInt(providedCount);
+            for (int i = 0; i < parameters.size(); i++) {
+                Parameter<?> parameter = parameters.get(i);
+                if (!parameter.isProvided()) continue;
+                out.writeInt(i);
+                // values read with --values-from are stored unboxed and are not written, they are read again
+                if (!writeValue(out, parameter.readStoredArgument(), referencedPaths)) return;
+            }
+
+            int commandCount = 0;
+            for (Command command : commands) {
+                if (command.isProvided()) commandCount++;
+            }
+            out.writeInt(commandCount);
+            for (int i = 0; i < commands.size(); i++) {
+                if (commands.get(i).isProvided()) out.writeInt(i);
+            }
+
+            out.writeInt(referencedPaths.size());
+            for (Path path : referencedPaths) {
+                writeString(out, path.toString());
+                out.writeLong(modificationTime(path));
+            }
+
+        } catch (IOException e) {
+            return;
+        }
+
+        Path directory = snapshotFile.toAbsolutePath().getParent();
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, "snapshot", ".tmp");
+            Files.write(temp, bytes.toByteArray());
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | UnsupportedOperationException e) {
+            // caching is optional, a failed write only means the next run parses again
+            try {
+                if (temp != null) Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Writes a single (array) value with its type tag.
+     *
+     * @param out the stream to write to
+     * @param value the value to write
+     * @param referencedPaths collects all written paths for the modification time check
+     * @return false if the value is of a type that cannot be stored
+     * @throws IOException if writing fails
+     */
+    private static boolean writeValue(DataOutputStream out, Object value, List<Path> referencedPaths) throws IOException {
+        if (value instanceof Object[] array) {
+            byte tag = tagOf(array.getClass().getComponentType());
+            if (tag == 0) return false;
+            out.writeByte(tag | ARRAY_MARKER);
+            out.writeInt(array.length);
+            for (Object element : array) writeElement(out, tag, element, referencedPaths);
+            return true;
+        }
+
+        byte tag = value == null ? 0 : tagOf(value.getClass());
+        if (tag == 0) return false;
+        out.writeByte(tag);
+        writeElement(out, tag, value, referencedPaths);
+        return true;
+    }
+
+    private static void writeElement(DataOutputStream out, byte tag, Object element, List<Path> referencedPaths) throws IOException {
+        switch (tag) {
+            case TAG_STRING -> writeString(out, (String) element);
+            case TAG_INTEGER -> out.writeInt((Integer) element);
+            case TAG_DOUBLE -> out.writeDouble((Double) element);
+            case TAG_FLOAT -> out.writeFloat((Float) element);
+            case TAG_BOOLEAN -> out.writeBoolean((Boolean) element);
+            case TAG_CHARACTER -> out.writeChar((Character) element);
+            case TAG_PATH -> {
+                Path path = (Path) element;
+                referencedPaths.add(path);
+                writeString(out, path.toString());
+            }
+            default -> throw new IllegalStateException("Unknown tag: " + tag);
+        }
+    }
+
+    private static Object readValue(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        if ((tag & ARRAY_MARKER) == 0) return readElement(buffer, tag);
+
+        tag = (byte) (tag & ~ARRAY_MARKER);
+        int length = buffer.getInt();
+        Object[] array = switch (tag) {
+            case TAG_STRING -> new String[length];
+            case TAG_INTEGER -> new Integer[length];
+            case TAG_DOUBLE -> new Double[length];
+            case TAG_FLOAT -> new Float[length];
+            case TAG_BOOLEAN -> new Boolean[length];
+            case TAG_CHARACTER -> new Character[length];
+            case TAG_PATH -> new Path[length];
+            default -> throw new IllegalStateException("Unknown tag: " + tag);
+        };
+        for (int i = 0; i < length; i++) array[i] = readElement(buffer, tag);
+        return array;
+    }
+
+    private static Object readElement(ByteBuffer buffer, byte tag) {
+        return switch (tag) {
+            case TAG_STRING -> readString(buffer);
+            case TAG_INTEGER -> buffer.getInt();
+            case TAG_DOUBLE -> buffer.getDouble();
+            case TAG_FLOAT -> buffer.getFloat();
+            case TAG_BOOLEAN -> buffer.get() != 0;
+            case TAG_CHARACTER -> buffer.getChar();
+            case TAG_PATH -> Path.of(readString(buffer));
+            default -> throw new IllegalStateException("Unknown tag: " + tag);
+        };
+    }
+
+    private static byte tagOf(Class<?> type) {
+        if (type == String.class) return TAG_STRING;
+        if (type == Integer.class) return TAG_INTEGER;
+        if (type == Double.class) return TAG_DOUBLE;
+        if (type == Float.class) return TAG_FLOAT;
+        if (type == Boolean.class) return TAG_BOOLEAN;
+        if (type == Character.class) return TAG_CHARACTER;
+        if (Path.class.isAssignableFrom(type)) return TAG_PATH;
+        return 0;
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the last modification time of a path in milliseconds or -1 if the path does not exist.
+     *
+     * @param path the path to check
+     * @return modification time of the path or -1
+     */
+    private static long modificationTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Hashes everything of the specification that influences the result of a parse.
+     */
+    private static long hashSpec(List<Parameter<?>> parameters, List<Command> commands, List<Command[]> toggles) {
+        long hash = FNV_OFFSET;
+        for (Parameter<?> parameter : parameters) {
+            hash = fnv(hash, parameter.getClass().getName());
+            hash = fnv(hash, parameter.getFullFlag());
+            hash = fnv(hash, parameter.getShortFlag());
+            hash = fnv(hash, parameter.isMandatory() ? "!" : "?");
+            hash = fnv(hash, parameter.validatesPaths() ? "checked" : "unchecked");
+            hash = fnv(hash, parameter.getDefaultAsString());
+        }
+        for (Command command : commands) {
+            hash = fnv(hash, command.getFullCommandName());
+            hash = fnv(hash, command.getShortCommandName());
+        }
+        for (Command[] toggle : toggles) {
+            for (Command command : toggle) hash = fnv(hash, command.getFullCommandName());
+            hash = fnv(hash, "|");
+        }
+        return hash;
+    }
+
+    private static long fnv(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,219 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.util.Arrays;
+
+/**
+ * Ring buffer that records the decision the parser took for each token, enabled with
+ * {@link ArgsParser#enableTrace(int)} or by passing {@code --explain-parse} as first argument.
+ *
+ * <p>
+ * All entries are stored in arrays allocated once by the constructor, recording an entry only stores references to
+ * the token and the matched parameter or command. Once the buffer is full, the oldest entries are overwritten.
+ * A trace belongs to one parser and, like the parser, must not be used by several threads at once.
+ * </p>
+ *
+ * <p>Example of a {@link #dump()}:</p>
+ * <pre>
+ * parse  token                decision               target               values  conversion
+ *     1  [0] -c               FLAG                   --count
+ *     1  [1] 42               ARGUMENT               --count                   1  2.1 us
+ *     1  [2] --ids            FLAG                   --ids
+ *     1  [3] 1                ARGUMENT               --ids                     2  3.4 us
+ *     1  [5] run              COMMAND                run
+ * </pre>
+ */
+public final class ParseTrace {
+
+    /**
+     * The branch the parser took for a token.
+     */
+    public enum Decision {
+        /** a flag waiting for its value */
+        FLAG,
+        /** the value(s) of the preceding flag */
+        ARGUMENT,
+        /** a flag with its value in the same token, e.g. {@code --flag=value} */
+        INLINE_ARGUMENT,
+        /** a cluster of short flags, e.g. {@code -abc} */
+        SHORT_FLAG_CLUSTER,
+        /** {@code --values-from} reading the values of the preceding flag from a file */
+        VALUES_FROM,
+        /** a command */
+        COMMAND,
+        /** a call for help */
+        HELP,
+        /** a flag that is not defined */
+        UNKNOWN_FLAG,
+        /** a flag that was provided before */
+        DUPLICATE_FLAG,
+        /** a value for a flag that already has its value */
+        TOO_MANY_ARGUMENTS,
+        /** a flag without its value */
+        MISSING_ARGUMENT,
+        /** a value that could not be converted or a path that does not exist */
+        INVALID_ARGUMENT,
+        /** a help flag at a position where it is not allowed */
+        HELP_AT_WRONG_POSITION
+    }
+
+    private final int capacity;
+    private final int[] parseNumbers;
+    private final int[] tokenIndices;
+    private final String[] tokens;
+    private final Decision[] decisions;
+    private final Object[] targets;
+    private final int[] valueCounts;
+    private final long[] conversionNanos;
+    private long recorded = 0;
+    private int parseNumber = 0;
+
+    /**
+     * @param capacity maximum number of entries kept, older entries are overwritten
+     * @throws IllegalArgumentException if capacity is smaller than 1
+     */
+    public ParseTrace(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("The capacity of a trace must be at least 1!");
+        this.capacity = capacity;
+        parseNumbers = new int[capacity];
+        tokenIndices = new int[capacity];
+        tokens = new String[capacity];
+        decisions = new Decision[capacity];
+        targets = new Object[capacity];
+        valueCounts = new int[capacity];
+        conversionNanos = new long[capacity];
+    }
+
+    /**
+     * Starts the entries of a new parse.
+     */
+    void beginParse() {
+        parseNumber++;
+    }
+
+    /**
+     * Records the decision for a token.
+     *
+     * @param tokenIndex index of the token in args
+     * @param token the token
+     * @param decision the branch the parser took
+     * @param target the matched {@link Parameter} or {@link Command}, or null
+     * @param valueCount number of values consumed, 0 if the token is no value
+     * @param nanos time spent converting the values, 0 if nothing was converted
+     */
+    void record(int tokenIndex, String token, Decision decision, Object target, int valueCount, long nanos) {
+        int slot = (int) (recorded % capacity);
+        parseNumbers[slot] = parseNumber;
+        tokenIndices[slot] = tokenIndex;
+        tokens[slot] = token;
+        decisions[slot] = decision;
+        targets[slot] = target;
+        valueCounts[slot] = valueCount;
+        conversionNanos[slot] = nanos;
+        recorded++;
+    }
+
+    /**
+     * @return maximum number of entries kept
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of entries currently kept
+     */
+    public int size() {
+        return (int) Math.min(recorded, capacity);
+    }
+
+    /**
+     * @param index index of the entry, 0 is the oldest kept entry
+     * @return the decision of the entry
+     * @throws IndexOutOfBoundsException if there is no such entry
+     */
+    public Decision getDecision(int index) {
+        return decisions[slotOf(index)];
+    }
+
+    /**
+     * @param index index of the entry, 0 is the oldest kept entry
+     * @return the token of the entry
+     * @throws IndexOutOfBoundsException if there is no such entry
+     */
+    public String getToken(int index) {
+        return tokens[slotOf(index)];
+    }
+
+    /**
+     * @param index index of the entry, 0 is the oldest kept entry
+     * @return the full flag of the matched parameter, the name of the matched command or null
+     * @throws IndexOutOfBoundsException if there is no such entry
+     */
+    public String getTarget(int index) {
+        return nameOf(targets[slotOf(index)]);
+    }
+
+    /**
+     * @param index index of the entry, 0 is the oldest kept entry
+     * @return time spent converting the values of the entry in nanoseconds, 0 if nothing was converted
+     * @throws IndexOutOfBoundsException if there is no such entry
+     */
+    public long getConversionNanos(int index) {
+        return conversionNanos[slotOf(index)];
+    }
+
+    private int slotOf(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException(index);
+        return (int) ((recorded - size() + index) % capacity);
+    }
+
+    private static String nameOf(Object target) {
+        if (target instanceof Parameter<?> parameter) return parameter.getFullFlag();
+        if (target instanceof Command command) return command.getFullCommandName();
+        return null;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        Arrays.fill(tokens, null);
+        Arrays.fill(targets, null);
+        recorded = 0;
+    }
+
+    /**
+     * Renders all kept entries from the oldest to the newest, one line per entry.
+     *
+     * @return the entries as table
+     */
+    public String dump() {
+        StringBuilder dump = new StringBuilder(String.format("%5s  %-20s %-22s %-20s %6s  %s%n",
+                                                             "parse", "token", "decision", "target", "values",
+                                                             "conversion"));
+        for (int i = 0; i < size(); i++) {
+            int slot = slotOf(i);
+            String target = nameOf(targets[slot]);
+            String line = String.format("%5d  %-20s %-22s %-20s", parseNumbers[slot],
+                                        "[" + tokenIndices[slot] + "] " + tokens[slot], decisions[slot],
+                                        target == null ? "" : target);
+            if (valueCounts[slot] > 0) {
+                line += String.format(" %6d  %.1f us", valueCounts[slot], conversionNanos[slot] / 1000.0);
+            }
+            dump.append(line.stripTrailing()).append(System.lineSeparator());
+        }
+        return dump.toString();
+    }
+
+    @Override
+    public String toString() {
+        return dump();
+    }
+}
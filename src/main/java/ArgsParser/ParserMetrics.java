@@ -0,0 +1,191 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parse metrics of one {@link ArgsParser}, created by {@link ArgsParser#enableMetrics()}.
+ *
+ * <p>
+ * Counts parses, errors by exception class and help calls and records the latency of every parse in a log-linear
+ * histogram. Recording a parse only adds to {@link LongAdder}s and the histogram, no lock is taken and nothing is
+ * allocated (except once for each new exception class). The counters can be read from any thread, e.g. through JMX
+ * after {@link #register(String)}.
+ * </p>
+ */
+public final class ParserMetrics implements ParserMetricsMXBean {
+
+    private final ArgsParser parser;
+    private final LongAdder parses = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder helps = new LongAdder();
+    private final Map<String, LongAdder> errorsByType = new ConcurrentHashMap<>();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private ObjectName registeredName = null;
+
+    ParserMetrics(ArgsParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Records one parse.
+     *
+     * @param nanos duration of the parse
+     * @param failure the exception the parse ended in or null if it succeeded
+     */
+    void recordParse(long nanos, Exception failure) {
+        parses.increment();
+        latencies.record(nanos);
+        if (failure instanceof CalledForHelpNotification) {
+            helps.increment();
+        } else if (failure instanceof ArgsException) {
+            errors.increment();
+            errorsByType.computeIfAbsent(failure.getClass().getSimpleName(), type -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Registers these metrics at the platform MBean server under {@code ArgsParser:type=Parser,name=<name>}.
+     *
+     * @param name name of the parser, quoted if it contains characters that are not allowed in object names
+     * @return the name the metrics were registered under
+     * @throws IllegalArgumentException if name is null or blank
+     * @throws IllegalStateException if these metrics are already registered or the name is already in use
+     */
+    public synchronized ObjectName register(String name) throws IllegalArgumentException, IllegalStateException {
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("Name cannot be null or blank!");
+        if (registeredName != null) throw new IllegalStateException("Metrics are already registered as " + registeredName);
+
+        try {
+            ObjectName objectName = new ObjectName("ArgsParser:type=Parser,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            registeredName = objectName;
+            return objectName;
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("An MBean named " + name + " is already registered!", e);
+        } catch (JMException e) {
+            throw new IllegalStateException("Metrics could not be registered: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server, does nothing if they are not registered.
+     */
+    public synchronized void unregister() {
+        if (registeredName == null) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+        } catch (InstanceNotFoundException e) {
+            // already unregistered by someone else
+        } catch (MBeanRegistrationException e) {
+            throw new IllegalStateException("Metrics could not be unregistered: " + e.getMessage(), e);
+        }
+        registeredName = null;
+    }
+
+    @Override
+    public long getParseCount() {
+        return parses.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public Map<String, Long> getErrorCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        errorsByType.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public long getHelpCount() {
+        return helps.sum();
+    }
+
+    @Override
+    public long getParseLatencyP50Nanos() {
+        return latencies.valueAt(0.5);
+    }
+
+    @Override
+    public long getParseLatencyP99Nanos() {
+        return latencies.valueAt(0.99);
+    }
+
+    @Override
+    public long getParseLatencyMaxNanos() {
+        return latencies.max();
+    }
+
+    @Override
+    public long getConversionCacheHitCount() {
+        long hits = 0;
+        for (ConversionCache<?> cache : conversionCaches()) hits += cache.getHitCount();
+        return hits;
+    }
+
+    @Override
+    public long getConversionCacheMissCount() {
+        long misses = 0;
+        for (ConversionCache<?> cache : conversionCaches()) misses += cache.getMissCount();
+        return misses;
+    }
+
+    @Override
+    public long getConversionCacheEvictionCount() {
+        long evictions = 0;
+        for (ConversionCache<?> cache : conversionCaches()) evictions += cache.getEvictionCount();
+        return evictions;
+    }
+
+    @Override
+    public double getConversionCacheHitRate() {
+        long hits = 0;
+        long lookups = 0;
+        for (ConversionCache<?> cache : conversionCaches()) {
+            long cacheHits = cache.getHitCount();
+            hits += cacheHits;
+            lookups += cacheHits + cache.getMissCount();
+        }
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * @return the distinct caches attached to parameters of the parser, a cache shared by several parameters once
+     */
+    private Collection<ConversionCache<?>> conversionCaches() {
+        Set<ConversionCache<?>> caches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Parameter<?> parameter : parser.getParametersInDefinitionOrder()) {
+            if (parameter.getConversionCache() != null) caches.add(parameter.getConversionCache());
+        }
+        return caches;
+    }
+
+    @Override
+    public void reset() {
+        parses.reset();
+        errors.reset();
+        helps.reset();
+        errorsByType.clear();
+        latencies.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ParserMetrics[parses=" + getParseCount() + ", errors=" + getErrorCount() + ", helps=" + getHelpCount()
+               + ", p50=" + getParseLatencyP50Nanos() + "ns, p99=" + getParseLatencyP99Nanos() + "ns]";
+    }
+}
@@ -0,0 +1,76 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link ParserMetrics}, all attributes are read only.
+ */
+public interface ParserMetricsMXBean {
+
+    /**
+     * @return number of parses, including failed parses and help calls
+     */
+    long getParseCount();
+
+    /**
+     * @return number of parses that ended in an {@link ArgsException}
+     */
+    long getErrorCount();
+
+    /**
+     * @return number of parses that ended in an {@link ArgsException}, by simple name of the exception class
+     */
+    Map<String, Long> getErrorCounts();
+
+    /**
+     * @return number of parses that rendered a help message
+     */
+    long getHelpCount();
+
+    /**
+     * @return median parse latency in nanoseconds
+     */
+    long getParseLatencyP50Nanos();
+
+    /**
+     * @return 99th percentile of the parse latency in nanoseconds
+     */
+    long getParseLatencyP99Nanos();
+
+    /**
+     * @return maximum parse latency in nanoseconds
+     */
+    long getParseLatencyMaxNanos();
+
+    /**
+     * @return hits of all conversion caches attached to parameters of the parser
+     */
+    long getConversionCacheHitCount();
+
+    /**
+     * @return misses of all conversion caches attached to parameters of the parser
+     */
+    long getConversionCacheMissCount();
+
+    /**
+     * @return evictions of all conversion caches attached to parameters of the parser
+     */
+    long getConversionCacheEvictionCount();
+
+    /**
+     * @return hits divided by all lookups of the conversion caches, 0 if there was no lookup yet
+     */
+    double getConversionCacheHitRate();
+
+    /**
+     * Sets all parse counters and the latency histogram back to zero, conversion caches keep their counters.
+     */
+    void reset();
+}
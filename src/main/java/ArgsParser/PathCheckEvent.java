@@ -0,0 +1,41 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import jdk.jfr.*;
+
+/**
+ * Flight Recorder event of the file system check of a path argument, see {@link Parameter#existsOnFileSystem}.
+ */
+@Name("ArgsParser.PathCheck")
+@Label("Path Check")
+@Category("ArgsParser")
+@Description("Check if the path argument of a parameter exists")
+final class PathCheckEvent extends Event {
+
+    @Label("Flag")
+    String flag;
+
+    @Label("Path")
+    String path;
+
+    @Label("Exists")
+    boolean exists;
+
+    /**
+     * Starts the event if it is enabled. Only called while {@link FlightRecording#isRunning() a recording runs}.
+     *
+     * @return the started event or null if it is not recorded
+     */
+    static PathCheckEvent startIfEnabled() {
+        PathCheckEvent event = new PathCheckEvent();
+        if (!event.isEnabled()) return null;
+        event.begin();
+        return event;
+    }
+}
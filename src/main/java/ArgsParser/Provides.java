@@ -0,0 +1,40 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the flags and commands a {@link ParameterProvider} adds, so that the provider is only created once one
+ * of them is used. Providers without this annotation are created as soon as they are discovered.
+ *
+ * <pre>
+ * &#64;Provides(fullFlags = {"level", "threads"}, shortFlags = {"l", "t"}, commands = {"compress", "c"})
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Provides {
+    /**
+     * @return the full flags of the contributed parameters, leading dashes are optional
+     */
+    String[] fullFlags() default {};
+
+    /**
+     * @return the short flags of the contributed parameters, leading dashes are optional
+     */
+    String[] shortFlags() default {};
+
+    /**
+     * @return the full and short names of the contributed commands
+     */
+    String[] commands() default {};
+}
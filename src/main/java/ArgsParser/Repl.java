@@ -0,0 +1,124 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-eval-print loop that parses every line of an input against one {@link ArgsParser} specification,
+ * e.g. for admin consoles.
+ *
+ * <p>
+ * Each line is split into tokens like a POSIX shell does (quotes, backslash escapes, {@code #} comments),
+ * parsed with {@link ArgsParser#parseFresh(String[])} and the resulting {@link ParseResult} is handed to the
+ * {@link Handler}. Invalid lines and help calls print their message to the output and the loop continues.
+ * Blank lines are skipped. The loop ends at the end of the input or if the handler returns false.
+ * </p>
+ *
+ * <pre>{@code
+ * ArgsParser parser = new ArgsParser();
+ * StrParameter user = parser.addParameter(new StrParameter("user", "u", "user to look up", true));
+ * Command delete = parser.addCommand(new Command("delete", "d", "delete the user"));
+ *
+ * new Repl(parser, result -> {
+ *     if (result.isProvided(delete)) users.delete(result.get(user));
+ *     else System.out.println(users.find(result.get(user)));
+ *     return true;
+ * }).run(System.in, System.out);
+ * }</pre>
+ */
+public final class Repl {
+
+    /**
+     * Receives the result of every successfully parsed line.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * @param result the arguments of the line
+         * @return true to read the next line, false to leave the loop
+         * @throws Exception any exception, its message is printed and the loop continues
+         */
+        boolean handle(ParseResult result) throws Exception;
+    }
+
+    private final ArgsParser parser;
+    private final Handler handler;
+    private final String prompt;
+
+    /**
+     * Creates a loop that prints {@code "> "} as prompt.
+     *
+     * @param parser the specification every line is parsed against
+     * @param handler receives the result of every successfully parsed line
+     * @throws IllegalArgumentException if parser or handler is null
+     */
+    public Repl(ArgsParser parser, Handler handler) {
+        this(parser, handler, "> ");
+    }
+
+    /**
+     * @param parser the specification every line is parsed against
+     * @param handler receives the result of every successfully parsed line
+     * @param prompt printed before each line, null or "" for no prompt
+     * @throws IllegalArgumentException if parser or handler is null
+     */
+    public Repl(ArgsParser parser, Handler handler, String prompt) {
+        if (parser == null) throw new IllegalArgumentException("Parser cannot be null!");
+        if (handler == null) throw new IllegalArgumentException("Handler cannot be null!");
+        this.parser = parser;
+        this.handler = handler;
+        this.prompt = prompt;
+    }
+
+    /**
+     * Reads UTF-8 lines from the input until it ends or the handler returns false.
+     *
+     * @param in the input to read the lines from, it is not closed
+     * @param out the output for prompts and messages of invalid lines
+     * @return the number of lines that were handed to the handler
+     * @throws IOException if the input cannot be read or ends inside of a quote
+     */
+    public int run(InputStream in, PrintStream out) throws IOException {
+        ShellTokenizer tokenizer = new ShellTokenizer(new InputStreamReader(in, StandardCharsets.UTF_8));
+        int handledLines = 0;
+
+        while (true) {
+            if (prompt != null && !prompt.isEmpty()) {
+                out.print(prompt);
+                out.flush();
+            }
+
+            String[] args = tokenizer.nextLine();
+            if (args == null) return handledLines;
+            if (args.length == 0) continue;
+
+            ParseResult result;
+            try {
+                result = parser.parseFresh(args);
+            } catch (CalledForHelpNotification help) {
+                out.println(help.getMessage());
+                continue;
+            } catch (ArgsException e) {
+                out.println(e.getMessage());
+                continue;
+            }
+
+            handledLines++;
+            try {
+                if (!handler.handle(result)) return handledLines;
+            } catch (Exception e) {
+                out.println(e.getMessage() != null ? e.getMessage() : e.toString());
+            }
+        }
+    }
+}
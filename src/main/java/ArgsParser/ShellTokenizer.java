@@ -0,0 +1,154 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Splits the lines of a {@link Reader} into tokens like a POSIX shell does:
+ * <ul>
+ *     <li>tokens are separated by spaces and tabs</li>
+ *     <li>{@code '...'} keeps everything literally</li>
+ *     <li>{@code "..."} keeps everything but {@code \"}, {@code \\}, {@code \$} and {@code \`} escapes</li>
+ *     <li>a backslash outside of quotes escapes the next character, a backslash at the end of a line continues it</li>
+ *     <li>quoted tokens may span several lines</li>
+ *     <li>a {@code #} at the start of a token comments out the rest of the line</li>
+ * </ul>
+ * The read buffer, the token buffer and the returned token arrays are reused from line to line,
+ * only the token Strings themselves are created per line.
+ */
+final class ShellTokenizer {
+
+    private static final String[] NO_TOKENS = new String[0];
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position = 0;
+    private int limit = 0;
+
+    private final StringBuilder token = new StringBuilder();
+    private boolean inToken = false;
+    private String[] tokens = new String[16];
+    private int tokenCount = 0;
+    private String[][] linesBySize = new String[16][];
+
+    ShellTokenizer(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next line and splits it into tokens.
+     * The returned array is reused by the next call with the same number of tokens.
+     *
+     * @return the tokens of the next line, an empty array for blank lines or null at the end of the input
+     * @throws EOFException if the input ends inside of a quote
+     * @throws IOException if the input cannot be read
+     */
+    String[] nextLine() throws IOException {
+        tokenCount = 0;
+        inToken = false;
+        token.setLength(0);
+
+        int c = read();
+        if (c == -1) return null;
+
+        while (c != -1 && c != '\n') {
+            switch (c) {
+                case ' ', '\t', '\r' -> endToken();
+                case '\'' -> readSingleQuoted();
+                case '"' -> readDoubleQuoted();
+                case '\\' -> {
+                    int next = read();
+                    if (next == -1) append('\\');
+                    else if (next != '\n') append((char) next);
+                }
+                case '#' -> {
+                    if (inToken) {
+                        append('#');
+                    } else {
+                        do c = read(); while (c != -1 && c != '\n');
+                        continue;
+                    }
+                }
+                default -> append((char) c);
+            }
+            c = read();
+        }
+        endToken();
+        return lineOfCurrentTokens();
+    }
+
+    private void readSingleQuoted() throws IOException {
+        inToken = true;
+        int c;
+        while ((c = read()) != '\'') {
+            if (c == -1) throw new EOFException("Unterminated ' quote");
+            token.append((char) c);
+        }
+    }
+
+    private void readDoubleQuoted() throws IOException {
+        inToken = true;
+        int c;
+        while ((c = read()) != '"') {
+            if (c == -1) throw new EOFException("Unterminated \" quote");
+            if (c == '\\') {
+                int next = read();
+                if (next == -1) throw new EOFException("Unterminated \" quote");
+                switch (next) {
+                    case '"', '\\', '$', '`' -> token.append((char) next);
+                    case '\n' -> { } // line continuation
+                    default -> token.append('\\').append((char) next);
+                }
+            } else {
+                token.append((char) c);
+            }
+        }
+    }
+
+    private void append(char c) {
+        token.append(c);
+        inToken = true;
+    }
+
+    private void endToken() {
+        if (!inToken) return;
+        if (tokenCount == tokens.length) tokens = Arrays.copyOf(tokens, tokenCount * 2);
+        tokens[tokenCount++] = token.toString();
+        token.setLength(0);
+        inToken = false;
+    }
+
+    /**
+     * @return the current tokens in an array of exactly their size, reused for every line with as many tokens
+     */
+    private String[] lineOfCurrentTokens() {
+        if (tokenCount == 0) return NO_TOKENS;
+        if (tokenCount >= linesBySize.length) linesBySize = Arrays.copyOf(linesBySize, tokenCount * 2);
+        String[] line = linesBySize[tokenCount];
+        if (line == null) line = linesBySize[tokenCount] = new String[tokenCount];
+        System.arraycopy(tokens, 0, line, 0, tokenCount);
+        Arrays.fill(tokens, 0, tokenCount, null);
+        return line;
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
@@ -0,0 +1,86 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of the parameters, commands and toggles defined on an {@link ArgsParser}.
+ *
+ * <p>
+ * A parser takes a snapshot of its definitions for every parse and reads only the snapshot while parsing, so
+ * parameters and commands can be added from other threads, e.g. by plugins loaded at runtime, without locking the
+ * parse path. A parse that is already running keeps the snapshot it started with, the definitions added meanwhile
+ * are part of the next parse. Snapshots are taken while no definition is being added, so a snapshot never holds
+ * half of a definition.
+ * </p>
+ * Parameters and commands are listed by their ordinal, which is their position in the definition order.
+ */
+final class Specification {
+
+    final Map<String, Parameter<?>> parameterMap;
+    final Map<String, Command> commandMap;
+    final List<String> flagsInDefinitionOrder;
+    final List<String> commandsInDefinitionOrder;
+    final List<Parameter<?>> parameters;
+    final List<Command> commands;
+    final Set<Parameter<?>> mandatoryParameters;
+    final List<Command[]> toggles;
+    final FlagIndex flagIndex;
+    final int longestFullFlagSize;
+    final int longestShortFlagSize;
+
+    /**
+     * Copies the given definitions, the arguments are not kept.
+     */
+    Specification(Map<String, Parameter<?>> parameterMap, Map<String, Command> commandMap,
+                  List<String> flagsInDefinitionOrder, List<String> commandsInDefinitionOrder,
+                  Set<Parameter<?>> mandatoryParameters, List<Command[]> toggles, FlagIndex flagIndex,
+                  int longestFullFlagSize, int longestShortFlagSize) {
+
+        this.parameterMap = Collections.unmodifiableMap(new HashMap<>(parameterMap));
+        this.commandMap = Collections.unmodifiableMap(new HashMap<>(commandMap));
+        this.flagsInDefinitionOrder = List.copyOf(flagsInDefinitionOrder);
+        this.commandsInDefinitionOrder = List.copyOf(commandsInDefinitionOrder);
+        this.mandatoryParameters = Collections.unmodifiableSet(new HashSet<>(mandatoryParameters));
+        this.toggles = List.copyOf(toggles);
+        this.flagIndex = flagIndex.copy();
+        this.longestFullFlagSize = longestFullFlagSize;
+        this.longestShortFlagSize = longestShortFlagSize;
+
+        List<Parameter<?>> parameters = new ArrayList<>(flagsInDefinitionOrder.size());
+        for (String flag : flagsInDefinitionOrder) parameters.add(parameterMap.get(flag));
+        this.parameters = Collections.unmodifiableList(parameters);
+
+        List<Command> commands = new ArrayList<>(commandsInDefinitionOrder.size());
+        for (String name : commandsInDefinitionOrder) commands.add(commandMap.get(name));
+        this.commands = Collections.unmodifiableList(commands);
+    }
+
+    /**
+     * Creates an empty result for the parameters and commands of this snapshot, holding only the default values.
+     * The parameters and commands are not bound to the new result.
+     *
+     * @param owner the parser of this snapshot
+     * @return a new, empty result
+     */
+    ParseResult newResult(ArgsParser owner) {
+        ParseResult result = new ParseResult(owner);
+        for (Parameter<?> parameter : parameters) result.register(parameter);
+        for (Command command : commands) result.registerCommand(command);
+        return result;
+    }
+
+    /**
+     * @param result a result of the parser of this snapshot, or null
+     * @return true if the result holds exactly the parameters and commands of this snapshot
+     */
+    boolean fits(ParseResult result) {
+        return result != null && result.size() == parameters.size() && result.commandCount() == commands.size();
+    }
+}
@@ -0,0 +1,83 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import ArgsParser.ParameterTypes.Range;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the type abbreviations shown in the help, e.g. {@code [i]} for Integer or {@code [s+]} for String[].
+ * The abbreviations of the build-in types are precomputed, custom parameter types are registered by
+ * {@link ArgsParser#addParameter(Parameter)}. All methods are safe for concurrent use.
+ *
+ * <p>
+ * A custom type gets the shortest prefix of its lower case simple name that no other type uses, so every
+ * abbreviation belongs to exactly one type. Once assigned, the abbreviation of a type never changes.
+ * </p>
+ */
+final class TypeAbbreviations {
+
+    private static final Map<Class<?>, String> byType = new ConcurrentHashMap<>();
+    private static final Map<String, Class<?>> byAbbreviation = new ConcurrentHashMap<>();
+
+    static {
+        put(String.class, "[s]");
+        put(Path.class, "[p]");
+        put(Integer.class, "[i]");
+        put(Float.class, "[f]");
+        put(Double.class, "[d]");
+        put(Boolean.class, "[b]");
+        put(Character.class, "[c]");
+        put(Range.class, "[r]");
+        put(String[].class, "[s+]");
+        put(Path[].class, "[p+]");
+        put(Integer[].class, "[i+]");
+        put(Float[].class, "[f+]");
+        put(Double[].class, "[d+]");
+        put(Boolean[].class, "[b+]");
+        put(Character[].class, "[c+]");
+    }
+
+    private TypeAbbreviations() {
+    }
+
+    private static void put(Class<?> type, String abbreviation) {
+        byType.put(type, abbreviation);
+        byAbbreviation.put(abbreviation, type);
+    }
+
+    /**
+     * Returns the abbreviation of the type, a type without one is registered first.
+     *
+     * @param type the class of the parameter type
+     * @return the abbreviation of the type
+     */
+    static String of(Class<?> type) {
+        String abbreviation = byType.get(type);
+        return abbreviation != null ? abbreviation : byType.computeIfAbsent(type, TypeAbbreviations::claim);
+    }
+
+    /**
+     * Claims the shortest free prefix of the simple name of the type. Only called once per type, under the lock of
+     * its entry in {@link #byType}, the claim itself is atomic, so two types never get the same abbreviation.
+     *
+     * @param type the class of the parameter type
+     * @return the claimed abbreviation, or the simple name if every prefix is taken
+     */
+    private static String claim(Class<?> type) {
+        String simpleName = type.getSimpleName().toLowerCase();
+        for (int i = 1; i < simpleName.length(); i++) {
+            String candidate = "[" + simpleName.substring(0, i) + (type.isArray() ? "+]" : "]");
+            if (byAbbreviation.putIfAbsent(candidate, type) == null) return candidate;
+        }
+        return simpleName.replaceFirst("\\[]", "");
+    }
+}
@@ -0,0 +1,50 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Usage counts of the parameters and commands of a parser, taken by {@link ArgsParser#getUsageSnapshot()}.
+ *
+ * @param parseCount number of successful parses counted
+ * @param parameterCounts number of parses each parameter was provided in, by full flag in definition order
+ * @param commandCounts number of parses each command was provided in, by full command name in definition order
+ */
+public record UsageSnapshot(long parseCount, Map<String, Long> parameterCounts, Map<String, Long> commandCounts) {
+
+    public UsageSnapshot {
+        parameterCounts = Collections.unmodifiableMap(parameterCounts);
+        commandCounts = Collections.unmodifiableMap(commandCounts);
+    }
+
+    /**
+     * @return full flags of all parameters that were never provided, in definition order
+     */
+    public List<String> unusedParameters() {
+        return unused(parameterCounts);
+    }
+
+    /**
+     * @return names of all commands that were never provided, in definition order
+     */
+    public List<String> unusedCommands() {
+        return unused(commandCounts);
+    }
+
+    private static List<String> unused(Map<String, Long> counts) {
+        List<String> unused = new ArrayList<>();
+        counts.forEach((name, count) -> {
+            if (count == 0) unused.add(name);
+        });
+        return unused;
+    }
+}
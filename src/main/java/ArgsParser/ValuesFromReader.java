@@ -0,0 +1,28 @@
+package ArgsParser;
+
+/*
+COPYRIGHT © 2024 Niklas Max G.
+This work is licensed under the Creative Commons Attribution-NonCommercial 4.0 International License.
+More details at: https://github.com/AbUndMax/Java_ArgsParser/blob/main/LICENSE.md
+For a quick overview, visit https://creativecommons.org/licenses/by-nc/4.0/
+ */
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Implemented by {@link Parameter} types that can read all their values from a file handed via
+ * {@code --flag --values-from file}. The parser only accepts {@code --values-from} behind flags of such parameters.
+ */
+public interface ValuesFromReader {
+
+    /**
+     * Reads all values of the parameter from the given file.
+     *
+     * @param file the file handed via {@code --values-from}
+     * @return the values in the form they are stored in the {@link ParseResult}, see {@link Parameter#argumentOf(Object)}
+     * @throws IOException if the file cannot be read
+     * @throws NumberFormatException if a value in the file does not match the parameter type
+     */
+    Object readValuesFrom(Path file) throws IOException;
+}
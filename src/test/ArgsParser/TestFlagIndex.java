@@ -0,0 +1,30 @@
+package ArgsParser;
+
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestFlagIndex {
+
+    private static List<Parameter<?>> largeSpecification(int size) {
+        List<Parameter<?>> parameters = new ArrayList<>();
+        for (int i = 0; i < size; i++) parameters.add(new IntParameter("p" + i, "q" + i, "", false));
+        return parameters;
+    }
+
+    @Test
+    public void testHotFlagSitsInItsHomeSlotOfALargeSpecification() {
+        List<Parameter<?>> parameters = largeSpecification(1000);
+        parameters.add(0, parameters.remove(parameters.size() - 1));
+
+        FlagIndex index = FlagIndex.inOrder(parameters);
+
+        assertEquals(1, index.probeLength("--p999"));
+        assertSame(parameters.get(0), index.get("--p999"));
+        assertSame(parameters.get(0), index.get("-q999"));
+    }
+}
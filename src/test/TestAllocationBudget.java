@@ -0,0 +1,98 @@
+import ArgsParser.*;
+import ArgsParser.ParameterTypes.*;
+import benchmarks.AllocationMeter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Allocation budgets in bytes per call for representative specifications and command lines, measured with
+ * {@link AllocationMeter} after warming up the JIT.
+ * A budget covers the converted values that have to be allocated (arrays, boxes outside of the JDK caches),
+ * any other allocation on the parse path fails the test.
+ */
+public class TestAllocationBudget {
+
+    private static final int WARMUP_CALLS = 60_000;
+    private static final int MEASURED_CALLS = 20_000;
+
+    private interface Call {
+        void run() throws Exception;
+    }
+
+    @Test
+    public void testScalarsAndCommands() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new StrParameter("name", "n", "", true));
+        parser.addParameter(new IntParameter(1, "count", "c", ""));
+        parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        parser.addParameter(new ChrParameter("separator", "s", "", false));
+        parser.addCommand(new Command("run", "r", ""));
+        assertParseBudget(parser, new String[]{"--name", "job", "-c", "42", "-v", "true", "-s", ";", "run"}, 0);
+    }
+
+    @Test
+    public void testInlineValuesAndClusters() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new StrParameter("name", "n", "", false));
+        parser.addParameter(new IntParameter("count", "c", "", false));
+        parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        parser.addParameter(new BolParameter(false, "quiet", "q", ""));
+        // the inline String value "job" is cut out of its token: a String and its byte[], 48 bytes (56 without
+        // compressed oops), numbers and switches are parsed in place
+        assertParseBudget(parser, new String[]{"--name=job", "-c=7", "-vq"}, 56);
+    }
+
+    @Test
+    public void testArraysAllocateOnlyTheirFinalArray() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntArrParameter("ids", "i", "", false));
+        parser.addParameter(new StrArrParameter("names", "n", "", false));
+        // one Integer[3] and one String[5]: 16 + 3 * 4 -> 32 and 16 + 5 * 4 -> 40 bytes with compressed oops,
+        // 48 and 56 bytes without
+        assertParseBudget(parser, new String[]{"--ids", "1", "2", "3", "--names", "a", "b", "c", "d", "e"}, 104);
+    }
+
+    @Test
+    public void testLargeSpecification() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        for (int i = 0; i < 500; i++) parser.addParameter(new IntParameter("option" + i, "o" + i, "", false));
+        for (int i = 0; i < 50; i++) parser.addCommand(new Command("command" + i, "c" + i, ""));
+        String[] args = new String[21];
+        for (int i = 0; i < 10; i++) {
+            args[2 * i] = "--option" + (i * 37);
+            args[2 * i + 1] = Integer.toString(i);
+        }
+        args[20] = "command17";
+        assertParseBudget(parser, args, 0);
+    }
+
+    @Test
+    public void testParameterConstructionAndHashing() throws Exception {
+        // flags are normalized without regular expressions
+        assertBudget("new StrParameter", () -> new StrParameter("--name", "-n", "", false), 128);
+
+        StrParameter parameter = new StrParameter("name", "n", "", false);
+        int[] sink = new int[1];
+        assertBudget("Parameter.hashCode", () -> sink[0] += parameter.hashCode(), 0);
+    }
+
+    private static void assertParseBudget(ArgsParser parser, String[] args, int budget) throws Exception {
+        ParseResult result = parser.newResult();
+        assertBudget("parse of " + String.join(" ", args), () -> parser.parseInto(result, args), budget);
+    }
+
+    private static void assertBudget(String name, Call call, int budgetBytes) throws Exception {
+        AllocationMeter meter = AllocationMeter.create();
+        if (meter == null) return; // allocation cannot be measured on this JVM
+
+        for (int i = 0; i < WARMUP_CALLS; i++) call.run();
+        long before = meter.allocatedBytes();
+        for (int i = 0; i < MEASURED_CALLS; i++) call.run();
+        double bytesPerCall = (double) (meter.allocatedBytes() - before) / MEASURED_CALLS;
+
+        // half a byte per call absorbs the measurement itself
+        assertTrue(bytesPerCall <= budgetBytes + 0.5,
+                   name + " allocated " + bytesPerCall + " bytes per call, the budget is " + budgetBytes);
+    }
+}
@@ -0,0 +1,60 @@
+import ArgsParser.*;
+import benchmarks.ArgvGenerator;
+import benchmarks.SpecGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestArgvGenerator {
+
+    @Test
+    public void testValidCommandLinesParse() throws Exception {
+        for (long seed = 0; seed < 200; seed++) {
+            SpecGenerator.Spec spec = new SpecGenerator(seed).mandatoryRatio(0.2).generate(1 + (int) (seed % 40), (int) (seed % 7));
+            ArgsParser parser = spec.newParser();
+            ArgvGenerator generator = new ArgvGenerator(spec, seed);
+            for (int i = 0; i < 5; i++) {
+                String[] args = generator.valid(i * 3, i);
+                try {
+                    parser.parseFresh(args);
+                } catch (ArgsException e) {
+                    fail("seed " + seed + ": " + ArgvGenerator.describe(args) + " threw " + e);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidCommandLinesThrowTheExpectedException() {
+        for (long seed = 0; seed < 200; seed++) {
+            SpecGenerator.Spec spec = new SpecGenerator(seed).mandatoryRatio(0.2).generate(1 + (int) (seed % 40), (int) (seed % 7));
+            ArgsParser parser = spec.newParser();
+            ArgvGenerator generator = new ArgvGenerator(spec, seed);
+            for (int i = 0; i < 5; i++) {
+                ArgvGenerator.Invalid invalid = generator.invalid(i * 3, i);
+                Exception thrown = assertThrows(Exception.class, () -> parser.parseFresh(invalid.args()));
+                assertEquals(invalid.expected(), thrown.getClass(),
+                             "seed " + seed + ", " + invalid.mutation() + ": " + ArgvGenerator.describe(invalid.args()));
+            }
+        }
+    }
+
+    @Test
+    public void testGenerationIsDeterministic() {
+        SpecGenerator.Spec first = new SpecGenerator(7).generate(30, 5);
+        SpecGenerator.Spec second = new SpecGenerator(7).generate(30, 5);
+        assertEquals(first.parameters(), second.parameters());
+        assertArrayEquals(new ArgvGenerator(first, 3).valid(10, 4), new ArgvGenerator(second, 3).valid(10, 4));
+    }
+
+    @Test
+    public void testEveryMutationCanBeRequested() {
+        SpecGenerator.Spec spec = new SpecGenerator(1).mandatoryRatio(0.5).toggleRatio(1).generate(60, 4);
+        ArgsParser parser = spec.newParser();
+        ArgvGenerator generator = new ArgvGenerator(spec, 1);
+        for (ArgvGenerator.Mutation mutation : ArgvGenerator.Mutation.values()) {
+            ArgvGenerator.Invalid invalid = generator.invalid(mutation, 5, 3);
+            assertThrows(invalid.expected(), () -> parser.parseFresh(invalid.args()), mutation.name());
+        }
+    }
+}
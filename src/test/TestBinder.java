@@ -0,0 +1,120 @@
+import ArgsParser.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestBinder {
+
+    record JobOptions(@Bind("threads") int threads,
+                      @Bind("ratio") double ratio,
+                      @Bind("--input") Path input,
+                      @Bind String name,
+                      @Bind("tags") String[] tags,
+                      @Bind("verbose") boolean verbose,
+                      String unbound) {
+    }
+
+    static class BaseOptions {
+        @Bind("threads")
+        private int threads = 1;
+    }
+
+    static class ClassOptions extends BaseOptions {
+        @Bind("scale")
+        private float scale;
+        @Bind("separator")
+        char separator = ',';
+        @Bind("name")
+        String name = "initial";
+        @Bind("ids")
+        Integer[] ids;
+        int notBound = 5;
+    }
+
+    static class FinalOptions {
+        @Bind("threads")
+        private final int threads = 0;
+    }
+
+    static class WrongTypeOptions {
+        @Bind("threads")
+        String threads;
+    }
+
+    private static ArgsParser parser(String... args) throws Exception {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntParameter(4, "threads", "t", ""));
+        parser.addParameter(new DblParameter("ratio", "r", "", false));
+        parser.addParameter(new PthParameter("input", "i", "", false, false));
+        parser.addParameter(new StrParameter("name", "n", "", false));
+        parser.addParameter(new StrArrParameter("tags", "tg", "", false));
+        parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        parser.addParameter(new FltParameter("scale", "s", "", false));
+        parser.addParameter(new ChrParameter("separator", "sep", "", false));
+        parser.addParameter(new IntArrParameter("ids", "id", "", false));
+        parser.parseUnchecked(args);
+        return parser;
+    }
+
+    @Test
+    public void testBindRecord() throws Exception {
+        ArgsParser parser = parser("-r", "0.5", "-i", "in.txt", "-n", "job", "-tg", "a", "b", "-v", "true");
+        JobOptions options = parser.bind(JobOptions.class);
+
+        assertEquals(4, options.threads());
+        assertEquals(0.5, options.ratio());
+        assertEquals(Path.of("in.txt"), options.input());
+        assertEquals("job", options.name());
+        assertArrayEquals(new String[]{"a", "b"}, options.tags());
+        assertTrue(options.verbose());
+        assertNull(options.unbound());
+    }
+
+    @Test
+    public void testRecordWithoutArguments() throws Exception {
+        JobOptions options = Binder.of(JobOptions.class).bind(parser("-t", "2"));
+        assertEquals(2, options.threads());
+        assertEquals(0.0, options.ratio());
+        assertNull(options.input());
+        assertNull(options.tags());
+    }
+
+    @Test
+    public void testBindClass() throws Exception {
+        ClassOptions options = parser("-t", "8", "-s", "1.5", "-id", "1", "2").bind(ClassOptions.class);
+
+        assertEquals(8, ((BaseOptions) options).threads);
+        assertEquals(1.5f, options.scale);
+        assertEquals(',', options.separator);
+        assertEquals("initial", options.name);
+        assertArrayEquals(new Integer[]{1, 2}, options.ids);
+        assertEquals(5, options.notBound);
+    }
+
+    @Test
+    public void testBinderIsCachedPerClass() {
+        assertSame(Binder.of(ClassOptions.class), Binder.of(ClassOptions.class));
+    }
+
+    @Test
+    public void testInvalidBindings() throws Exception {
+        ArgsParser parser = parser("-t", "8");
+        assertThrows(IllegalArgumentException.class, () -> parser.bind(FinalOptions.class));
+        assertThrows(IllegalArgumentException.class, () -> parser.bind(WrongTypeOptions.class));
+
+        ArgsParser otherParser = new ArgsParser();
+        otherParser.addParameter(new IntParameter(1, "threads", "t", ""));
+        otherParser.parseUnchecked(new String[]{});
+        assertThrows(IllegalArgumentException.class, () -> otherParser.bind(JobOptions.class));
+    }
+
+    @Test
+    public void testBindBeforeParse() {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntParameter(1, "threads", "t", ""));
+        assertThrows(IllegalStateException.class, () -> parser.bind(BaseOptions.class));
+    }
+}
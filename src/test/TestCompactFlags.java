@@ -0,0 +1,146 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestCompactFlags {
+
+    @Test
+    public void testInlineValues() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", true));
+        IntParameter count = parser.addParameter(new IntParameter("count", "c", "", false));
+        DblParameter ratio = parser.addParameter(new DblParameter("ratio", "r", "", false));
+        ChrParameter separator = parser.addParameter(new ChrParameter("separator", "s", "", false));
+        parser.parseUnchecked(new String[]{"--name=a=b", "-c=42", "--ratio=2.5", "-s=;"});
+
+        assertEquals("a=b", name.getArgument());
+        assertEquals(42, count.getInt());
+        assertEquals(2.5, ratio.getDouble());
+        assertEquals(';', separator.getChar());
+        assertEquals(ArgumentSource.COMMAND_LINE, parser.getSourceOf(count));
+    }
+
+    @Test
+    public void testInlineValuesMixedWithSeparateValues() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntArrParameter ids = parser.addParameter(new IntArrParameter("ids", "i", "", false));
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", false));
+        Command verbose = parser.addCommand(new Command("verbose", "v", ""));
+        parser.parseUnchecked(new String[]{"--ids=1", "2", "3", "verbose", "--name", "job"});
+
+        assertArrayEquals(new Integer[]{1, 2, 3}, ids.getArgument());
+        assertEquals("job", name.getArgument());
+        assertTrue(verbose.isProvided());
+    }
+
+    @Test
+    public void testEmptyInlineValue() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", false));
+        IntParameter count = parser.addParameter(new IntParameter("count", "c", "", false));
+        parser.parseUnchecked(new String[]{"--name="});
+        assertEquals("", name.getArgument());
+
+        ArgsParser second = new ArgsParser();
+        second.addParameter(new IntParameter("count", "c", "", false));
+        assertThrows(InvalidArgTypeArgsException.class, () -> second.parseUnchecked(new String[]{"--count="}));
+        assertNull(count.getArgument());
+    }
+
+    @Test
+    public void testInlineValueErrors() {
+        assertThrows(InvalidArgTypeArgsException.class, () -> inlineParser().parseUnchecked(new String[]{"--count=abc"}));
+        assertThrows(FlagAlreadyProvidedArgsException.class,
+                     () -> inlineParser().parseUnchecked(new String[]{"--count=1", "-c", "2"}));
+        assertThrows(FlagAlreadyProvidedArgsException.class,
+                     () -> inlineParser().parseUnchecked(new String[]{"-c", "2", "--count=1"}));
+        assertThrows(TooManyArgumentsArgsException.class,
+                     () -> inlineParser().parseUnchecked(new String[]{"--count=1", "2"}));
+        assertThrows(MissingArgArgsException.class,
+                     () -> inlineParser().parseUnchecked(new String[]{"--name", "--count=1"}));
+        assertThrows(UnknownFlagArgsException.class,
+                     () -> inlineParser().parseUnchecked(new String[]{"--unknown=1"}));
+        assertThrows(UnknownFlagArgsException.class,
+                     () -> inlineParser().parseUnchecked(new String[]{"--count", "1", "--unknown=1"}));
+    }
+
+    private static ArgsParser inlineParser() {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntParameter("count", "c", "", false));
+        parser.addParameter(new StrParameter("name", "n", "", false));
+        return parser;
+    }
+
+    @Test
+    public void testShortFlagCluster() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        BolParameter verbose = parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        BolParameter quiet = parser.addParameter(new BolParameter(false, "quiet", "q", ""));
+        StrParameter output = parser.addParameter(new StrParameter("output", "o", "", false));
+        parser.parseUnchecked(new String[]{"-vqo", "out.txt"});
+
+        assertTrue(verbose.getBoolean());
+        assertTrue(quiet.getBoolean());
+        assertEquals("out.txt", output.getArgument());
+        assertTrue(parser.isProvided(verbose));
+    }
+
+    @Test
+    public void testShortFlagClusterOfSwitchesOnly() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        BolParameter verbose = parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        BolParameter quiet = parser.addParameter(new BolParameter(false, "quiet", "q", ""));
+        IntParameter count = parser.addParameter(new IntParameter("count", "c", "", false));
+        parser.parseUnchecked(new String[]{"-c", "3", "-vq"});
+
+        assertTrue(verbose.getBoolean());
+        assertTrue(quiet.getBoolean());
+        assertEquals(3, count.getInt());
+
+        ArgsParser second = new ArgsParser();
+        BolParameter first = second.addParameter(new BolParameter(false, "first", "f", ""));
+        BolParameter last = second.addParameter(new BolParameter(true, "last", "l", ""));
+        IntParameter size = second.addParameter(new IntParameter("size", "s", "", false));
+        second.parseUnchecked(new String[]{"-fl", "false", "-s", "1"});
+        assertTrue(first.getBoolean());
+        assertFalse(last.getBoolean());
+        assertEquals(1, size.getInt());
+    }
+
+    @Test
+    public void testDefinedFlagWinsOverCluster() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        BolParameter verbose = parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        BolParameter quiet = parser.addParameter(new BolParameter(false, "quiet", "q", ""));
+        StrParameter both = parser.addParameter(new StrParameter("both", "vq", "", false));
+        parser.parseUnchecked(new String[]{"-vq", "x"});
+
+        assertEquals("x", both.getArgument());
+        assertFalse(verbose.getBoolean());
+        assertFalse(quiet.getBoolean());
+    }
+
+    @Test
+    public void testShortFlagClusterErrors() {
+        // only boolean switches may be switched on inside a cluster
+        assertThrows(UnknownFlagArgsException.class, () -> clusterParser().parseUnchecked(new String[]{"-ov", "x"}));
+        assertThrows(UnknownFlagArgsException.class, () -> clusterParser().parseUnchecked(new String[]{"-vx"}));
+        assertThrows(MissingArgArgsException.class, () -> clusterParser().parseUnchecked(new String[]{"-vo"}));
+        assertThrows(MissingArgArgsException.class, () -> clusterParser().parseUnchecked(new String[]{"-vo", "-q", "true"}));
+        assertThrows(FlagAlreadyProvidedArgsException.class,
+                     () -> clusterParser().parseUnchecked(new String[]{"-v", "true", "-qv"}));
+        assertThrows(FlagAlreadyProvidedArgsException.class,
+                     () -> clusterParser().parseUnchecked(new String[]{"-vv"}));
+    }
+
+    private static ArgsParser clusterParser() {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        parser.addParameter(new BolParameter(false, "quiet", "q", ""));
+        parser.addParameter(new StrParameter("output", "o", "", false));
+        return parser;
+    }
+}
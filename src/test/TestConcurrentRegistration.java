@@ -0,0 +1,125 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.UnknownFlagArgsException;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestConcurrentRegistration {
+
+    /**
+     * A string parameter that adds a new parameter to its parser while its argument is converted, i.e. in the middle
+     * of a parse.
+     */
+    private static final class RegisteringParameter extends Parameter<String> {
+        private final ArgsParser parser;
+
+        RegisteringParameter(ArgsParser parser) {
+            super("plugin", "p", "", false, String.class);
+            this.parser = parser;
+        }
+
+        @Override
+        protected String castDefaultToString(String defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        protected String castArgument(String argument) {
+            parser.addParameter(new IntParameter(argument, argument.substring(0, 1).toUpperCase(), "", false));
+            return argument;
+        }
+    }
+
+    @Test
+    public void testRunningParseKeepsItsDefinitions() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new RegisteringParameter(parser));
+
+        String[] args = {"--plugin", "level", "--level", "3"};
+        assertThrows(UnknownFlagArgsException.class, () -> parser.parseFresh(args));
+
+        ParseResult result = parser.parseFresh(new String[]{"--level", "3"});
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    public void testParameterAddedAfterParseIsPartOfTheNextParse() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", false));
+        ParseResult first = parser.parseReusing(new String[]{"--name", "a"});
+
+        IntParameter count = parser.addParameter(new IntParameter(7, "count", "c", ""));
+        Command run = parser.addCommand(new Command("run", "r", ""));
+        assertFalse(run.isProvided());
+        assertThrows(IllegalArgumentException.class, () -> parser.parseInto(first, new String[]{"--name", "b"}));
+
+        ParseResult second = parser.parseReusing(new String[]{"--name", "b", "run"});
+        assertNotSame(first, second);
+        assertEquals("a", first.get(name));
+        assertEquals("b", second.get(name));
+        assertEquals(7, second.get(count));
+        assertTrue(second.isProvided(run));
+        assertThrows(IllegalArgumentException.class, () -> first.get(count));
+    }
+
+    @Test
+    public void testParsingWhileOtherThreadsAddParameters() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter base = parser.addParameter(new IntParameter("base", "b", "", true));
+        StrArrParameter names = parser.addParameter(new StrArrParameter("names", "n", "", false));
+        Command run = parser.addCommand(new Command("run", "r", ""));
+
+        int plugins = 8;
+        int parametersPerPlugin = 250;
+        ExecutorService pool = Executors.newFixedThreadPool(plugins + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean registering = new AtomicBoolean(true);
+        List<Future<?>> registrations = new ArrayList<>();
+        try {
+            for (int t = 0; t < plugins; t++) {
+                int plugin = t;
+                registrations.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < parametersPerPlugin; i++) {
+                        parser.addParameter(new IntParameter(i, "plugin" + plugin + "x" + i, "p" + plugin + "x" + i, ""));
+                        if (i % 50 == 0) parser.addCommand(new Command("command" + plugin + "x" + i, "c" + plugin + "x" + i, ""));
+                    }
+                    return null;
+                }));
+            }
+
+            Future<Integer> parses = pool.submit(() -> {
+                start.await();
+                int count = 0;
+                while (registering.get() || count < 100) {
+                    ParseResult result = parser.parseFresh(new String[]{"--base", String.valueOf(count), "-n", "a", "b", "run"});
+                    assertEquals(count, result.get(base));
+                    assertArrayEquals(new String[]{"a", "b"}, result.get(names));
+                    assertTrue(result.isProvided(run));
+                    count++;
+                }
+                return count;
+            });
+
+            start.countDown();
+            for (Future<?> registration : registrations) registration.get(60, TimeUnit.SECONDS);
+            registering.set(false);
+            assertTrue(parses.get(60, TimeUnit.SECONDS) >= 100);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        ParseResult result = parser.parseFresh(new String[]{"--base", "1", "--plugin3x42", "5", "command7x200"});
+        assertEquals(2 + plugins * parametersPerPlugin, result.size());
+        assertEquals(1, result.get(base));
+        assertTrue(parser.checkIfCommandIsProvided("command7x200"));
+        assertEquals(Integer.valueOf(5), parser.getArgumentOf("--plugin3x42"));
+        assertEquals(Integer.valueOf(99), parser.getArgumentOf("--plugin0x99"));
+    }
+}
@@ -0,0 +1,126 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestConversionCache {
+
+    @Test
+    public void testCacheIsSharedAcrossParsers() throws Exception {
+        ConversionCache<Integer> cache = new ConversionCache<>(100);
+        for (int i = 0; i < 3; i++) {
+            ArgsParser parser = new ArgsParser();
+            IntParameter port = parser.addParameter(new IntParameter("port", "p", "", true));
+            IntParameter id = parser.addParameter(new IntParameter("id", "i", "", false));
+            port.setConversionCache(cache);
+            id.setConversionCache(cache);
+            parser.parseUnchecked(new String[]{"--port", "8080", "--id=" + (i % 2)});
+            assertEquals(8080, port.getInt());
+            assertEquals(i % 2, id.getInt());
+        }
+        assertEquals(3, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(3, cache.size());
+        assertEquals(0.5, cache.getHitRate());
+    }
+
+    @Test
+    public void testInvalidTokensAreNotCached() throws Exception {
+        ConversionCache<Integer> cache = new ConversionCache<>(10);
+        for (int i = 0; i < 2; i++) {
+            ArgsParser parser = new ArgsParser();
+            parser.addParameter(new IntParameter("port", "p", "", true)).setConversionCache(cache);
+            assertThrows(InvalidArgTypeArgsException.class, () -> parser.parseUnchecked(new String[]{"--port", "http"}));
+        }
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() throws Exception {
+        ConversionCache<String> cache = new ConversionCache<>(2);
+        ArgsParser parser = new ArgsParser();
+        StrParameter host = parser.addParameter(new StrParameter("host", "h2", "", true));
+        host.setConversionCache(cache);
+
+        for (String value : new String[]{"a", "b", "a", "c", "a", "b"}) parser.parseFresh(new String[]{"-h2", value});
+
+        // a stays cached because it was used more recently than b, b is converted again after c evicted it
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testPathChecksExpire() throws Exception {
+        Path file = Files.createTempFile("cache", ".txt");
+        try {
+            ConversionCache<Path> cache = new ConversionCache<>(10, Duration.ofMillis(200));
+            ArgsParser parser = new ArgsParser();
+            PthParameter input = parser.addParameter(new PthParameter("input", "i", "", true, true));
+            input.setConversionCache(cache);
+
+            parser.parseFresh(new String[]{"--input", file.toString()});
+            Files.delete(file);
+            // still cached, the existence is trusted until the entry expires
+            assertEquals(file, parser.parseFresh(new String[]{"--input", file.toString()}).get(input));
+            Thread.sleep(250);
+            assertThrows(NotExistingPathArgsException.class, () -> parser.parseFresh(new String[]{"--input", file.toString()}));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testUnsupportedCaches() {
+        IntArrParameter ids = new IntArrParameter("ids", "i", "", false);
+        assertThrows(IllegalArgumentException.class, () -> ids.setConversionCache(new ConversionCache<>(10)));
+
+        PthParameter checked = new PthParameter("input", "i", "", false, true);
+        assertThrows(IllegalArgumentException.class, () -> checked.setConversionCache(new ConversionCache<>(10)));
+        checked.setConversionCache(new ConversionCache<>(10, Duration.ofSeconds(1)));
+
+        PthParameter unchecked = new PthParameter("output", "o", "", false, false);
+        unchecked.setConversionCache(new ConversionCache<>(10));
+
+        assertThrows(IllegalArgumentException.class, () -> new ConversionCache<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new ConversionCache<Integer>(1, Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        ConversionCache<Integer> cache = new ConversionCache<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Long>> sums = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                sums.add(executor.submit(() -> {
+                    ArgsParser parser = new ArgsParser();
+                    IntParameter value = parser.addParameter(new IntParameter("value", "v", "", true));
+                    value.setConversionCache(cache);
+                    long sum = 0;
+                    for (int i = 0; i < 2_000; i++) sum += parser.parseFresh(new String[]{"-v", Integer.toString(i % 100)}).getInt(value);
+                    return sum;
+                }));
+            }
+            for (Future<Long> sum : sums) assertEquals(99_000L, sum.get());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(8_000, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.size() <= 64);
+    }
+}
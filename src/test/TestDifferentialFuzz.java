@@ -0,0 +1,29 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.InvalidArgTypeArgsException;
+import ArgsParser.ParameterTypes.IntArrParameter;
+import benchmarks.DifferentialFuzz;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestDifferentialFuzz {
+
+    @Test
+    public void testEnginesMatchTheReference() {
+        List<DifferentialFuzz.Divergence> divergences = new DifferentialFuzz(DifferentialFuzz.engines()).run(0, 300);
+        assertTrue(divergences.isEmpty(), divergences.size() + " divergences, first:\n"
+                                          + (divergences.isEmpty() ? "" : divergences.get(0)));
+    }
+
+    @Test
+    public void testFailedArrayConversionDoesNotLeakIntoTheNextParse() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntArrParameter ids = parser.addParameter(new IntArrParameter("ids", "i", "", false));
+
+        assertThrows(InvalidArgTypeArgsException.class, () -> parser.parseFresh(new String[]{"--ids", "x", "2", "3"}));
+
+        assertArrayEquals(new Integer[]{1}, parser.parseFresh(new String[]{"--ids", "1"}).get(ids));
+    }
+}
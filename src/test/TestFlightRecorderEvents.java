@@ -0,0 +1,156 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestFlightRecorderEvents {
+
+    @Test
+    public void testParseConversionAndPathCheckEvents() throws Exception {
+        Path existing = Files.createTempFile("argsparser", ".txt");
+        List<RecordedEvent> events = record(() -> {
+            ArgsParser parser = new ArgsParser();
+            parser.addParameter(new IntParameter("count", "c", "", true));
+            parser.addParameter(new PthParameter("input", "i", "", false, true));
+            parser.parseUnchecked(new String[]{"--count=7", "-i", existing.toString()});
+
+            ArgsParser failing = new ArgsParser();
+            failing.addParameter(new IntParameter("count", "c", "", true));
+            assertThrows(InvalidArgTypeArgsException.class, () -> failing.parseUnchecked(new String[]{"-c", "x"}));
+        });
+        Files.delete(existing);
+
+        List<RecordedEvent> parses = ofType(events, "ArgsParser.Parse");
+        assertEquals(2, parses.size());
+        assertEquals(3, parses.get(0).getInt("tokenCount"));
+        assertEquals(2, parses.get(0).getInt("parameterCount"));
+        assertEquals(2, parses.get(0).getInt("providedCount"));
+        assertEquals("success", parses.get(0).getString("outcome"));
+        assertEquals("InvalidArgTypeArgsException", parses.get(1).getString("outcome"));
+
+        List<RecordedEvent> conversions = ofType(events, "ArgsParser.Conversion");
+        assertEquals(3, conversions.size());
+        assertEquals("--count", conversions.get(0).getString("flag"));
+        assertEquals("Integer", conversions.get(0).getString("type"));
+        assertEquals(1, conversions.get(0).getInt("tokenLength"));
+        assertTrue(conversions.get(0).getBoolean("success"));
+        assertFalse(conversions.get(2).getBoolean("success"));
+
+        List<RecordedEvent> pathChecks = ofType(events, "ArgsParser.PathCheck");
+        assertEquals(1, pathChecks.size());
+        assertEquals("--input", pathChecks.get(0).getString("flag"));
+        assertEquals(existing.toString(), pathChecks.get(0).getString("path"));
+        assertTrue(pathChecks.get(0).getBoolean("exists"));
+    }
+
+    @Test
+    public void testHelpEvent() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            ArgsParser parser = new ArgsParser();
+            parser.addParameter(new IntParameter("count", "c", "", true));
+            parser.addCommand(new Command("run", "r", ""));
+            assertThrows(CalledForHelpNotification.class, () -> parser.parseUnchecked(new String[]{"--help"}));
+            assertThrows(CalledForHelpNotification.class, () -> parser.parseFresh(new String[]{"-c", "--help"}));
+        });
+
+        List<RecordedEvent> helps = ofType(events, "ArgsParser.Help");
+        assertEquals(2, helps.size());
+        assertNull(helps.get(0).getString("flag"));
+        assertEquals(1, helps.get(0).getInt("parameterCount"));
+        assertEquals(1, helps.get(0).getInt("commandCount"));
+        assertTrue(helps.get(0).getInt("messageLength") > 0);
+        assertEquals("--count", helps.get(1).getString("flag"));
+        assertEquals("CalledForHelpNotification", ofType(events, "ArgsParser.Parse").get(0).getString("outcome"));
+    }
+
+    @Test
+    public void testDisabledEventsAreNotRecorded() throws Exception {
+        Path file = Files.createTempFile("argsparser", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("ArgsParser.Parse");
+            recording.disable("ArgsParser.Conversion");
+            recording.start();
+            ArgsParser parser = new ArgsParser();
+            parser.addParameter(new IntParameter("count", "c", "", true));
+            parser.parseUnchecked(new String[]{"-c", "1"});
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        assertEquals(1, ofType(events, "ArgsParser.Parse").size());
+        assertTrue(ofType(events, "ArgsParser.Conversion").isEmpty());
+    }
+
+    /**
+     * Parses, converts, checks a path and renders the help in a JVM that never starts a recording.
+     */
+    public static class ParseWithoutRecording {
+        public static void main(String[] args) throws Exception {
+            Path existing = Files.createTempFile("argsparser", ".txt");
+            ArgsParser parser = new ArgsParser();
+            parser.addParameter(new IntParameter("count", "c", "", true));
+            parser.addParameter(new PthParameter("input", "i", "", false, true));
+            parser.parseUnchecked(new String[]{"--count=7", "-i", existing.toString()});
+            try {
+                parser.parseFresh(new String[]{"--help"});
+            } catch (CalledForHelpNotification expected) {
+                // rendered the help
+            }
+            Files.delete(existing);
+        }
+    }
+
+    @Test
+    public void testNoEventClassIsLoadedWithoutRecording() throws Exception {
+        Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                                             "-cp", System.getProperty("java.class.path"),
+                                             "-Xlog:class+load=info:stdout",
+                                             ParseWithoutRecording.class.getName())
+                .redirectErrorStream(true).start();
+        String log = new String(process.getInputStream().readAllBytes());
+        assertEquals(0, process.waitFor(), log);
+        assertTrue(log.contains(ParseWithoutRecording.class.getName()));
+
+        // loading an event class would start up the Flight Recorder
+        assertFalse(Pattern.compile("\\] ArgsParser\\.\\w*Event ").matcher(log).find());
+        assertFalse(log.contains("] jdk.jfr.Event "));
+    }
+
+    private interface Recorded {
+        void run() throws Exception;
+    }
+
+    private static List<RecordedEvent> record(Recorded recorded) throws Exception {
+        Path file = Files.createTempFile("argsparser", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : new String[]{"ArgsParser.Parse", "ArgsParser.Conversion", "ArgsParser.PathCheck",
+                                            "ArgsParser.Help"}) {
+                recording.enable(name).withThreshold(java.time.Duration.ZERO);
+            }
+            recording.start();
+            recorded.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        events.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+        return events;
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+}
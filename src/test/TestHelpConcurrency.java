@@ -0,0 +1,146 @@
+import ArgsParser.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestHelpConcurrency {
+
+    private static final Class<?>[] CUSTOM_TYPES = {
+            Short.class, Byte.class, BigDecimal.class, BigInteger.class, UUID.class, URI.class, URL.class,
+            Duration.class, Instant.class, Month.class, DayOfWeek.class, Currency.class, ZoneId.class,
+            Short[].class, Byte[].class, BigDecimal[].class
+    };
+
+    private static final class CustomParameter<T> extends Parameter<T> {
+        CustomParameter(String fullFlag, String shortFlag, Class<T> type) {
+            super(fullFlag, shortFlag, "a value of type " + type.getSimpleName(), false, type);
+        }
+
+        @Override
+        protected String castDefaultToString(T defaultValue) {
+            return String.valueOf(defaultValue);
+        }
+
+        @Override
+        protected T castArgument(String argument) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Builds a parser with a seed dependent choice of custom and build-in types and flag lengths, so that the
+     * column widths of the help differ between parsers.
+     */
+    private static ArgsParser parser(int seed) {
+        Random random = new Random(seed);
+        ArgsParser parser = new ArgsParser();
+        int parameters = 1 + random.nextInt(6);
+        for (int i = 0; i < parameters; i++) {
+            String fullFlag = "option" + "x".repeat(random.nextInt(20)) + i;
+            String shortFlag = "o" + "y".repeat(random.nextInt(8)) + i;
+            if (random.nextBoolean()) {
+                parser.addParameter(custom(fullFlag, shortFlag, CUSTOM_TYPES[random.nextInt(CUSTOM_TYPES.length)]));
+            } else {
+                parser.addParameter(new IntArrParameter(fullFlag, shortFlag, "integers", false));
+            }
+        }
+        if (random.nextBoolean()) parser.addCommand(new Command("run" + "z".repeat(random.nextInt(10)), "r", "runs"));
+        return parser;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Parameter<?> custom(String fullFlag, String shortFlag, Class<?> type) {
+        return new CustomParameter(fullFlag, shortFlag, type);
+    }
+
+    private static String help(ArgsParser parser) {
+        CalledForHelpNotification help = assertThrows(CalledForHelpNotification.class,
+                                                      () -> parser.parseUnchecked(new String[]{"--help"}));
+        return help.getMessage();
+    }
+
+    @Test
+    public void testConcurrentHelpRenderingMatchesSequentialRendering() throws Exception {
+        int threads = 16;
+        int parsersPerThread = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<Integer, String>>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int firstSeed = t * parsersPerThread;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    Map<Integer, String> messages = new HashMap<>();
+                    for (int seed = firstSeed; seed < firstSeed + parsersPerThread; seed++) {
+                        messages.put(seed, help(parser(seed)));
+                    }
+                    return messages;
+                }));
+            }
+            start.countDown();
+
+            for (Future<Map<Integer, String>> future : futures) {
+                for (Map.Entry<Integer, String> message : future.get(60, TimeUnit.SECONDS).entrySet()) {
+                    assertEquals(help(parser(message.getKey())), message.getValue(), "seed " + message.getKey());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testEveryAbbreviationBelongsToOneType() {
+        ArgsParser parser = new ArgsParser();
+        for (int i = 0; i < CUSTOM_TYPES.length; i++) parser.addParameter(custom("custom" + i, "c" + i, CUSTOM_TYPES[i]));
+        parser.addParameter(new IntParameter("integer", "i", "", false));
+        parser.addParameter(new StrArrParameter("strings", "s", "", false));
+        String message = help(parser);
+
+        Map<String, String> typeByAbbreviation = new HashMap<>();
+        Matcher matcher = Pattern.compile("(\\[[^]\\s]+])=(\\w+)").matcher(message);
+        while (matcher.find()) {
+            String previous = typeByAbbreviation.put(matcher.group(1), matcher.group(2));
+            assertTrue(previous == null || previous.equals(matcher.group(2)),
+                       matcher.group(1) + " is used for " + previous + " and " + matcher.group(2));
+        }
+        assertEquals("Integer", typeByAbbreviation.get("[i]"));
+        assertEquals("String", typeByAbbreviation.get("[s+]"));
+        assertNotEquals(abbreviationOf(message, "BigDecimal"), abbreviationOf(message, "BigInteger"));
+    }
+
+    @Test
+    public void testAbbreviationIsAssignedWhenTheParameterIsAdded() {
+        ArgsParser first = new ArgsParser();
+        first.addParameter(custom("first", "f", OptionalDouble.class));
+        ArgsParser second = new ArgsParser();
+        second.addParameter(custom("second", "s", OptionalDouble.class));
+
+        // rendering order does not matter, both parsers show the abbreviation assigned at addParameter
+        String secondHelp = help(second);
+        String firstHelp = help(first);
+        assertEquals(abbreviationOf(firstHelp, "OptionalDouble"), abbreviationOf(secondHelp, "OptionalDouble"));
+    }
+
+    private static String abbreviationOf(String message, String typeName) {
+        Matcher matcher = Pattern.compile("(\\[[^]\\s]+])=" + typeName + "\\b").matcher(message);
+        assertTrue(matcher.find(), typeName + " is not in the help");
+        return matcher.group(1);
+    }
+}
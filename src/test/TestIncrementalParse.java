@@ -0,0 +1,106 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestIncrementalParse {
+
+    /**
+     * IntParameter that counts how often an argument was converted, all conversions of IntParameter end up in the
+     * CharSequence version of castArgument.
+     */
+    private static class CountingIntParameter extends IntParameter {
+        private int conversions = 0;
+
+        CountingIntParameter(String fullFlag, String shortFlag, String description, boolean isMandatory) {
+            super(fullFlag, shortFlag, description, isMandatory);
+        }
+
+        @Override
+        protected Integer castArgument(CharSequence source, int from, int to) throws InvalidArgTypeArgsException {
+            conversions++;
+            return super.castArgument(source, from, to);
+        }
+    }
+
+    @Test
+    public void testUnchangedTokensAreNotConvertedAgain() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        CountingIntParameter width = parser.addParameter(new CountingIntParameter("width", "w", "", true));
+        CountingIntParameter height = parser.addParameter(new CountingIntParameter("height", "h2", "", true));
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", false));
+
+        ParseResult first = parser.parseIncremental(new String[]{"--width", "3", "--height", "4", "--name", "a"});
+        assertEquals(1, width.conversions);
+        assertEquals(1, height.conversions);
+
+        // same values in a different order and with other flag spellings are carried over
+        ParseResult second = parser.parseIncremental(new String[]{"-h2", "4", "--width=3", "--name", "b"});
+        assertEquals(1, width.conversions);
+        assertEquals(1, height.conversions);
+        assertEquals(3, second.getInt(width));
+        assertEquals(4, second.getInt(height));
+        assertEquals("b", second.get(name));
+        assertEquals(ArgumentSource.COMMAND_LINE, second.getSource(width));
+        assertEquals("a", first.get(name));
+
+        ParseResult third = parser.parseIncremental(new String[]{"--width", "5", "--height", "4"});
+        assertEquals(2, width.conversions);
+        assertEquals(1, height.conversions);
+        assertEquals(5, third.getInt(width));
+        assertNull(third.get(name));
+        assertFalse(third.isProvided(name));
+    }
+
+    @Test
+    public void testArraysCompareAllValueTokens() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntArrParameter ids = parser.addParameter(new IntArrParameter("ids", "i", "", false));
+
+        Integer[] first = parser.parseIncremental(new String[]{"--ids", "1", "2", "3"}).get(ids);
+        assertSame(first, parser.parseIncremental(new String[]{"--ids=1", "2", "3"}).get(ids));
+        assertArrayEquals(new Integer[]{1, 2}, parser.parseIncremental(new String[]{"--ids", "1", "2"}).get(ids));
+        assertArrayEquals(new Integer[]{1, 2, 4}, parser.parseIncremental(new String[]{"--ids", "1", "2", "4"}).get(ids));
+    }
+
+    @Test
+    public void testStructureIsValidatedOnEveryParse() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        CountingIntParameter width = parser.addParameter(new CountingIntParameter("width", "w", "", true));
+        parser.addParameter(new StrParameter("name", "n", "", false));
+
+        parser.parseIncremental(new String[]{"--width", "3"});
+        assertThrows(TooManyArgumentsArgsException.class, () -> parser.parseIncremental(new String[]{"--width", "3", "4"}));
+        assertThrows(MandatoryArgNotProvidedArgsException.class, () -> parser.parseIncremental(new String[]{"--name", "x"}));
+        assertEquals(1, width.conversions);
+        assertThrows(InvalidArgTypeArgsException.class, () -> parser.parseIncremental(new String[]{"--width", "x"}));
+        assertEquals(2, width.conversions);
+
+        // failed parses are not remembered
+        assertEquals(3, parser.parseIncremental(new String[]{"--width", "3"}).getInt(width));
+        assertEquals(2, width.conversions);
+    }
+
+    @Test
+    public void testCarriedOverPathsAreNotCheckedAgain() throws Exception {
+        Path directory = Files.createTempDirectory("incremental");
+        Path file = Files.createFile(directory.resolve("input.txt"));
+        try {
+            ArgsParser parser = new ArgsParser();
+            PthArrParameter inputs = parser.addParameter(new PthArrParameter("inputs", "i", "", true, true));
+
+            parser.parseIncremental(new String[]{"--inputs", file.toString()});
+            Files.delete(file);
+            assertArrayEquals(new Path[]{file}, parser.parseIncremental(new String[]{"--inputs", file.toString()}).get(inputs));
+            assertThrows(NotExistingPathArgsException.class, () -> parser.parseFresh(new String[]{"--inputs", file.toString()}));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+        }
+    }
+}
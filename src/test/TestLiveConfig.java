@@ -0,0 +1,204 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.InvalidArgTypeArgsException;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLiveConfig {
+
+    @Test
+    public void testListenersGetTheChangedParameters() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter level = parser.addParameter(new IntParameter(1, "level", "l", ""));
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", true));
+        Path file = Files.createTempDirectory("live").resolve("daemon.args");
+        Files.writeString(file, "--level 3\n--name 'first daemon' # comment\n");
+
+        LiveConfig config = new LiveConfig(parser, file);
+        List<Object> changes = new ArrayList<>();
+        config.addListener((parameter, previous, current) -> changes.addAll(List.of(parameter, previous, current)));
+        List<Integer> levels = new ArrayList<>();
+        config.onChange(level, (previous, current) -> levels.add(current));
+
+        ParseResult first = config.reload();
+        assertEquals(3, first.get(level));
+        assertEquals("first daemon", config.get(name));
+        assertTrue(changes.isEmpty());
+
+        Files.writeString(file, "--name 'first daemon'\n");
+        config.reload();
+        assertEquals(List.of(level, 3, 1), changes);
+        assertEquals(List.of(1), levels);
+        assertEquals(3, first.get(level));
+        assertEquals(1, config.get(level));
+    }
+
+    @Test
+    public void testInvalidFileKeepsThePreviousResult() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter level = parser.addParameter(new IntParameter(1, "level", "l", ""));
+        Path file = Files.createTempDirectory("live").resolve("daemon.args");
+        LiveConfig config = new LiveConfig(parser, file);
+        assertThrows(IllegalStateException.class, config::current);
+
+        Files.writeString(file, "--level 3");
+        ParseResult loaded = config.reload();
+        Files.writeString(file, "--level three");
+        assertThrows(InvalidArgTypeArgsException.class, config::reload);
+        assertSame(loaded, config.current());
+        assertEquals(3, config.get(level));
+    }
+
+    @Test
+    public void testPublishedResultsAreReadOnly() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter level = parser.addParameter(new IntParameter(1, "level", "l", ""));
+        Path file = Files.createTempDirectory("live").resolve("daemon.args");
+        Files.writeString(file, "--level 3");
+        LiveConfig config = new LiveConfig(parser, file);
+        ParseResult published = config.reload();
+
+        assertTrue(published.isReadOnly());
+        assertThrows(IllegalStateException.class, published::reset);
+        assertThrows(IllegalArgumentException.class, () -> parser.parseInto(published, new String[]{"--level", "4"}));
+        ParseResult reused = parser.parseReusing(new String[]{"--level", "5"});
+        assertNotSame(published, reused);
+        assertEquals(3, published.get(level));
+        assertEquals(3, config.get(level));
+    }
+
+    @Test
+    public void testPropertiesFile() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter level = parser.addParameter(new IntParameter(1, "level", "l", ""));
+        IntArrParameter ids = parser.addParameter(new IntArrParameter("ids", "i", "", false));
+        Command run = parser.addCommand(new Command("run", "r", ""));
+        Command stop = parser.addCommand(new Command("stop", "s", ""));
+        Path file = Files.createTempDirectory("live").resolve("daemon.properties");
+        Files.writeString(file, "level = 5\n--ids = 1 2 3\nrun = true\nstop = false\n");
+
+        ParseResult result = new LiveConfig(parser, file).reload();
+        assertEquals(5, result.get(level));
+        assertArrayEquals(new Integer[]{1, 2, 3}, result.get(ids));
+        assertTrue(result.isProvided(run));
+        assertFalse(result.isProvided(stop));
+    }
+
+    @Test
+    public void testReadersAlwaysSeeACompleteResult() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter first = parser.addParameter(new IntParameter(0, "first", "f", ""));
+        IntParameter second = parser.addParameter(new IntParameter(0, "second", "s", ""));
+        Path file = Files.createTempDirectory("live").resolve("daemon.args");
+        Files.writeString(file, "--first 0 --second 0");
+        LiveConfig config = new LiveConfig(parser, file);
+        config.reload();
+
+        AtomicBoolean reloading = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> reads = new ArrayList<>();
+        try {
+            for (int t = 0; t < 4; t++) {
+                reads.add(readers.submit(() -> {
+                    int count = 0;
+                    while (reloading.get()) {
+                        ParseResult result = config.current();
+                        assertEquals(result.get(first), result.get(second));
+                        count++;
+                    }
+                    return count;
+                }));
+            }
+            for (int version = 1; version <= 200; version++) {
+                Files.writeString(file, "--first " + version + " --second " + version);
+                config.reload();
+            }
+            reloading.set(false);
+            for (Future<Integer> read : reads) assertTrue(read.get(30, TimeUnit.SECONDS) > 0);
+        } finally {
+            readers.shutdownNow();
+        }
+        assertEquals(200, config.get(second));
+    }
+
+    /**
+     * A string parameter that deletes the configuration and its directory while its first argument is converted, so
+     * that the directory cannot be watched after the first load.
+     */
+    private static final class DeletingParameter extends Parameter<String> {
+        private final Path file;
+        private boolean deleted = false;
+
+        DeletingParameter(Path file) {
+            super("name", "n", "", false, String.class);
+            this.file = file;
+        }
+
+        @Override
+        protected String castDefaultToString(String defaultValue) {
+            return defaultValue;
+        }
+
+        @Override
+        protected String castArgument(String argument) {
+            if (deleted) return argument;
+            try {
+                Files.delete(file);
+                Files.delete(file.getParent());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            deleted = true;
+            return argument;
+        }
+    }
+
+    @Test
+    public void testFailedStartCanBeRetried() throws Exception {
+        Path file = Files.createTempDirectory("live").resolve("daemon.args");
+        Files.writeString(file, "--name first");
+        ArgsParser parser = new ArgsParser();
+        DeletingParameter name = parser.addParameter(new DeletingParameter(file));
+
+        try (LiveConfig config = new LiveConfig(parser, file)) {
+            assertThrows(IOException.class, config::start);
+            config.close();
+
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, "--name second");
+            config.start();
+            assertEquals("second", config.get(name));
+        }
+    }
+
+    @Test
+    public void testWatcherReloadsModifiedFile() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter level = parser.addParameter(new IntParameter(1, "level", "l", ""));
+        Path file = Files.createTempDirectory("live").resolve("daemon.args");
+        Files.writeString(file, "--level 2");
+
+        BlockingQueue<Integer> levels = new LinkedBlockingQueue<>();
+        try (LiveConfig config = new LiveConfig(parser, file)) {
+            config.onChange(level, (previous, current) -> levels.add(current));
+            config.start();
+            assertEquals(2, config.get(level));
+            assertThrows(IllegalStateException.class, config::start);
+
+            Path update = Files.writeString(file.resolveSibling("update.tmp"), "--level 7");
+            Files.move(update, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            assertEquals(7, levels.poll(30, TimeUnit.SECONDS));
+            assertEquals(7, config.get(level));
+        }
+    }
+}
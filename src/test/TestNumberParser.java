@@ -0,0 +1,92 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestNumberParser {
+
+    private static long parseInt(String text) {
+        return NumberParser.parseInt(text, 0, text.length());
+    }
+
+    private static double parseDouble(String text) {
+        long bits = NumberParser.parseDoubleBits(text, 0, text.length());
+        assertNotEquals(NumberParser.INVALID_DOUBLE_BITS, bits, text);
+        return Double.longBitsToDouble(bits);
+    }
+
+    private static float parseFloat(String text) {
+        long bits = NumberParser.parseFloatBits(text, 0, text.length());
+        assertNotEquals(NumberParser.INVALID_FLOAT_BITS, bits, text);
+        return Float.intBitsToFloat((int) bits);
+    }
+
+    @Test
+    public void testValidInts() {
+        assertEquals(0, parseInt("0"));
+        assertEquals(42, parseInt("+42"));
+        assertEquals(-17, parseInt("-17"));
+        assertEquals(Integer.MAX_VALUE, parseInt("2147483647"));
+        assertEquals(Integer.MIN_VALUE, parseInt("-2147483648"));
+        assertEquals(123, NumberParser.parseInt("--x=123", 4, 7));
+    }
+
+    @Test
+    public void testInvalidInts() {
+        for (String text : new String[]{"", "+", "-", "1.5", "12a", "2147483648", "-2147483649", " 1", "99999999999999999999"}) {
+            assertEquals(NumberParser.INVALID_INT, parseInt(text), text);
+        }
+    }
+
+    @Test
+    public void testValidDoubles() {
+        for (String text : new String[]{"0", "-0.0", "1.5", "3.141592653589793", "1e10", "-2.5E-3", ".5", "5.",
+                                        "1.7976931348623157e308", "4.9e-324", "2.2250738585072014E-308", "1e400",
+                                        "123456789012345678901234567890", "0x1.8p1", "NaN", "-Infinity", "2.5d"}) {
+            assertEquals(Double.parseDouble(text), parseDouble(text), text);
+        }
+    }
+
+    @Test
+    public void testInvalidDoubles() {
+        for (String text : new String[]{"", ".", "e5", "1e", "1.2.3", "one", "--1"}) {
+            assertEquals(NumberParser.INVALID_DOUBLE_BITS, NumberParser.parseDoubleBits(text, 0, text.length()), text);
+        }
+    }
+
+    @Test
+    public void testFloats() {
+        for (String text : new String[]{"0", "1.1", "-3.4028235e38", "1.4e-45", "16777217", "0.1f"}) {
+            assertEquals(Float.parseFloat(text), parseFloat(text), text);
+        }
+        assertEquals(NumberParser.INVALID_FLOAT_BITS, NumberParser.parseFloatBits("x", 0, 1));
+    }
+
+    @Test
+    public void testParametersUseNumberParser() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter count = parser.addParameter(new IntParameter("count", "c", "", true));
+        DblArrParameter weights = parser.addParameter(new DblArrParameter("weights", "w", "", true));
+        FltParameter ratio = parser.addParameter(new FltParameter("ratio", "r", "", true));
+        parser.parseUnchecked(new String[]{"-c", "12", "-w", "0.1", "1e-3", "-r", "0.75"});
+
+        assertEquals(12, count.getArgument());
+        assertArrayEquals(new Double[]{0.1, 1e-3}, weights.getArgument());
+        assertEquals(0.75f, ratio.getArgument());
+    }
+
+    @Test
+    public void testInvalidParameterArguments() {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntArrParameter("ints", "i", "", true));
+        assertThrows(InvalidArgTypeArgsException.class,
+                     () -> parser.parseUnchecked(new String[]{"--ints", "1", "two"}));
+
+        ArgsParser secondParser = new ArgsParser();
+        secondParser.addParameter(new FltParameter("ratio", "r", "", true));
+        assertThrows(InvalidArgTypeArgsException.class,
+                     () -> secondParser.parseUnchecked(new String[]{"--ratio", "1,5"}));
+    }
+}
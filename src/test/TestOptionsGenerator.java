@@ -0,0 +1,136 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestOptionsGenerator {
+
+    public static ArgsParser spec() {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntParameter(4, "threads", "t", "worker threads"));
+        parser.addParameter(new PthParameter("input", "i", "input file", true, false));
+        parser.addParameter(new DblParameter("ratio", "r", "", false));
+        parser.addParameter(new StrArrParameter(new String[]{"a", "b"}, "tags", "tg", "tags \"quoted\""));
+        parser.addParameter(new FltArrParameter("weights", "w", "", false));
+        parser.addParameter(new ChrParameter('+', "separator", "sep", ""));
+        parser.addParameter(new BolParameter("output-enabled", "o", "", false));
+        Command run = parser.addCommand(new Command("run", "ru", ""));
+        Command stop = parser.addCommand(new Command("stop", "st", ""));
+        parser.toggle(run, stop);
+        return parser;
+    }
+
+    public static ArgsParser customSpec() {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new RngParameter("shards", "s", "", true));
+        return parser;
+    }
+
+    private static Class<?> compile(String factory, String className) throws Exception {
+        Path directory = Files.createTempDirectory("options");
+        String source = OptionsGenerator.generate((ArgsParser) TestOptionsGenerator.class.getMethod(factory).invoke(null),
+                                                  "TestOptionsGenerator." + factory + "()", className);
+        Path file = directory.resolve(className + ".java");
+        Files.writeString(file, source);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int status = compiler.run(null, null, null, "-classpath", System.getProperty("java.class.path"),
+                                  "-d", directory.toString(), file.toString());
+        assertEquals(0, status, source);
+        URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, TestOptionsGenerator.class.getClassLoader());
+        return loader.loadClass(className);
+    }
+
+    private static Object parse(Class<?> options, String... args) throws Throwable {
+        Method parse = options.getMethod("parseUnchecked", String[].class);
+        try {
+            return parse.invoke(null, (Object) args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object field(Object options, String name) throws Exception {
+        return options.getClass().getField(name).get(options);
+    }
+
+    @Test
+    public void testGeneratedFields() throws Throwable {
+        Class<?> options = compile("spec", "GeneratedOptions");
+        assertEquals(int.class, options.getField("threads").getType());
+        assertEquals(Path.class, options.getField("input").getType());
+        assertEquals(Double.class, options.getField("ratio").getType());
+        assertEquals(char.class, options.getField("separator").getType());
+        assertEquals(Boolean.class, options.getField("outputEnabled").getType());
+        assertEquals(boolean.class, options.getField("run").getType());
+    }
+
+    @Test
+    public void testFastPathMatchesGenericParser() throws Throwable {
+        Class<?> options = compile("spec", "GeneratedOptions");
+        String[][] argsList = {
+                {"-i", "in.txt"},
+                {"--input", "in.txt", "-t", "12", "-r", "1e-3", "run"},
+                {"-i", "x", "-tg", "c", "d", "e", "-w", "0.5", "1.5", "stop", "-sep", ";"},
+                {"ru", "-o", "true", "-i", "y"},
+        };
+        for (String[] args : argsList) {
+            Object parsed = parse(options, args);
+            ArgsParser parser = spec();
+            parser.parseUnchecked(args);
+            assertEquals(parser.<Integer>getArgumentOf("--threads"), field(parsed, "threads"));
+            assertEquals(parser.<Path>getArgumentOf("--input"), field(parsed, "input"));
+            assertEquals(parser.<Double>getArgumentOf("--ratio"), field(parsed, "ratio"));
+            assertArrayEquals(parser.<String[]>getArgumentOf("--tags"), (String[]) field(parsed, "tags"));
+            assertArrayEquals(parser.<Float[]>getArgumentOf("--weights"), (Float[]) field(parsed, "weights"));
+            assertEquals(parser.<Character>getArgumentOf("--separator"), field(parsed, "separator"));
+            assertEquals(parser.<Boolean>getArgumentOf("--output-enabled"), field(parsed, "outputEnabled"));
+            assertEquals(parser.checkIfCommandIsProvided("run"), field(parsed, "run"));
+            assertEquals(parser.checkIfCommandIsProvided("stop"), field(parsed, "stop"));
+        }
+    }
+
+    @Test
+    public void testErrorsAreReportedByGenericParser() throws Throwable {
+        Class<?> options = compile("spec", "GeneratedOptions");
+        assertThrows(MandatoryArgNotProvidedArgsException.class, () -> parse(options, "-t", "3"));
+        assertThrows(NoArgumentsProvidedArgsException.class, () -> parse(options));
+        assertThrows(InvalidArgTypeArgsException.class, () -> parse(options, "-i", "x", "-t", "three"));
+        assertThrows(UnknownFlagArgsException.class, () -> parse(options, "-i", "x", "--unknown", "1"));
+        assertThrows(FlagAlreadyProvidedArgsException.class, () -> parse(options, "-i", "x", "-i", "y"));
+        assertThrows(TooManyArgumentsArgsException.class, () -> parse(options, "-i", "x", "y"));
+        assertThrows(MissingArgArgsException.class, () -> parse(options, "-i"));
+        assertThrows(ToggleArgsException.class, () -> parse(options, "-i", "x", "run", "stop"));
+        assertThrows(CalledForHelpNotification.class, () -> parse(options, "--help"));
+    }
+
+    @Test
+    public void testCustomTypesUseGenericParser() throws Throwable {
+        Class<?> options = compile("customSpec", "GeneratedCustomOptions");
+        Object parsed = parse(options, "--shards", "0-9");
+        assertEquals(new Range(0, 9, 1), field(parsed, "shards"));
+    }
+
+    @Test
+    public void testWriteFromFactoryMethod() throws Exception {
+        Path directory = Files.createTempDirectory("options");
+        Path file = OptionsGenerator.write("TestOptionsGenerator", "spec", "com.example.CliOptions", directory);
+        assertEquals(directory.resolve("com/example/CliOptions.java"), file);
+        String source = Files.readString(file);
+        assertTrue(source.startsWith("// Generated by ArgsParser.OptionsGenerator from TestOptionsGenerator.spec()"));
+        assertTrue(source.contains("package com.example;"));
+        assertThrows(NoSuchMethodException.class,
+                     () -> OptionsGenerator.write("TestOptionsGenerator", "missing", "com.example.CliOptions", directory));
+    }
+}
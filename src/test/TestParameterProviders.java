@@ -0,0 +1,211 @@
+import ArgsParser.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestParameterProviders {
+
+    static final AtomicInteger levelCreated = new AtomicInteger();
+    static final AtomicInteger compressCreated = new AtomicInteger();
+    static final AtomicInteger verboseCreated = new AtomicInteger();
+    static final AtomicInteger neverUsedInitialised = new AtomicInteger();
+    static final AtomicInteger throwingCreated = new AtomicInteger();
+
+    @Provides(fullFlags = "level", shortFlags = "l")
+    public static class LevelProvider implements ParameterProvider {
+        public LevelProvider() {
+            levelCreated.incrementAndGet();
+        }
+
+        @Override
+        public void contribute(ArgsParser parser) {
+            parser.addParameter(new IntParameter(1, "level", "l", "compression level"));
+        }
+    }
+
+    @Provides(commands = {"compress", "c"})
+    public static class CompressProvider implements ParameterProvider {
+        public CompressProvider() {
+            compressCreated.incrementAndGet();
+        }
+
+        @Override
+        public void contribute(ArgsParser parser) {
+            parser.addCommand(new Command("compress", "c", "compresses the input"));
+        }
+    }
+
+    @Provides(fullFlags = {"verbose", "quiet"}, shortFlags = {"v", "q"})
+    public static class SwitchProvider implements ParameterProvider {
+        public SwitchProvider() {
+            verboseCreated.incrementAndGet();
+        }
+
+        @Override
+        public void contribute(ArgsParser parser) {
+            parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+            parser.addParameter(new BolParameter(false, "quiet", "q", ""));
+        }
+    }
+
+    @Provides(fullFlags = "never", shortFlags = "n")
+    public static class NeverUsedProvider implements ParameterProvider {
+        static {
+            neverUsedInitialised.incrementAndGet();
+        }
+
+        @Override
+        public void contribute(ArgsParser parser) {
+            parser.addParameter(new IntParameter(1, "never", "n", ""));
+        }
+    }
+
+    @Provides(fullFlags = "missing", shortFlags = "m")
+    public static class BrokenProvider implements ParameterProvider {
+        @Override
+        public void contribute(ArgsParser parser) {
+            parser.addParameter(new IntParameter(1, "other", "o", ""));
+        }
+    }
+
+    @Provides(fullFlags = {"half", "rest"}, shortFlags = {"a", "r"})
+    public static class ThrowingProvider implements ParameterProvider {
+        public ThrowingProvider() {
+            throwingCreated.incrementAndGet();
+        }
+
+        @Override
+        public void contribute(ArgsParser parser) {
+            parser.addParameter(new IntParameter(1, "half", "a", ""));
+            throw new IllegalArgumentException("rest is not ready!");
+        }
+    }
+
+    public static class EagerProvider implements ParameterProvider {
+        @Override
+        public void contribute(ArgsParser parser) {
+            parser.addParameter(new StrParameter("eager", "e", "", false));
+        }
+    }
+
+    /**
+     * @return a class loader that lists the given classes as {@link ParameterProvider}s
+     */
+    private static ClassLoader providers(Class<?>... providers) throws Exception {
+        Path directory = Files.createTempDirectory("providers");
+        Path services = directory.resolve("META-INF/services");
+        Files.createDirectories(services);
+        List<String> names = Arrays.stream(providers).map(Class::getName).toList();
+        Files.write(services.resolve(ParameterProvider.class.getName()), names);
+        return new URLClassLoader(new URL[]{directory.toUri().toURL()}, TestParameterProviders.class.getClassLoader());
+    }
+
+    private static ArgsParser parser(Class<?>... providers) throws Exception {
+        levelCreated.set(0);
+        compressCreated.set(0);
+        verboseCreated.set(0);
+        throwingCreated.set(0);
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new StrParameter("input", "i", "", false));
+        assertEquals(providers.length, parser.addProviders(providers(providers)));
+        return parser;
+    }
+
+    @Test
+    public void testProvidersAreOnlyCreatedForTheirFlags() throws Exception {
+        ArgsParser parser = parser(LevelProvider.class, CompressProvider.class, SwitchProvider.class,
+                                   NeverUsedProvider.class);
+
+        ParseResult result = parser.parseFresh(new String[]{"--input", "a.txt"});
+        assertEquals(1, result.size());
+        assertEquals(0, levelCreated.get() + compressCreated.get() + verboseCreated.get());
+        // discovering a provider loads its class, but does not initialise it
+        assertEquals(0, neverUsedInitialised.get());
+
+        parser.parseFresh(new String[]{"--input", "a.txt", "--level", "9"});
+        assertEquals(Integer.valueOf(9), parser.getArgumentOf("--level"));
+        parser.parseFresh(new String[]{"-l", "3"});
+        assertEquals(1, levelCreated.get());
+        assertEquals(0, compressCreated.get() + verboseCreated.get());
+    }
+
+    @Test
+    public void testInlineValuesClustersAndCommandsCreateTheirProviders() throws Exception {
+        ArgsParser parser = parser(LevelProvider.class, CompressProvider.class, SwitchProvider.class);
+
+        parser.parseFresh(new String[]{"--level=4"});
+        assertEquals(1, levelCreated.get());
+
+        parser.parseFresh(new String[]{"-vq"});
+        assertEquals(1, verboseCreated.get());
+        assertEquals(Boolean.TRUE, parser.getArgumentOf("--quiet"));
+
+        parser.parseFresh(new String[]{"c"});
+        assertEquals(1, compressCreated.get());
+        assertTrue(parser.checkIfCommandIsProvided("compress"));
+    }
+
+    @Test
+    public void testHelpCreatesAllProviders() throws Exception {
+        ArgsParser parser = parser(LevelProvider.class, CompressProvider.class, SwitchProvider.class);
+
+        CalledForHelpNotification help = assertThrows(CalledForHelpNotification.class,
+                                                      () -> parser.parseFresh(new String[]{"--help"}));
+        assertTrue(help.getMessage().contains("--level"));
+        assertTrue(help.getMessage().contains("--verbose"));
+        assertTrue(help.getMessage().contains("compress"));
+        assertEquals(3, levelCreated.get() + compressCreated.get() + verboseCreated.get());
+    }
+
+    @Test
+    public void testDeclaredNamesAreReserved() throws Exception {
+        ArgsParser parser = parser(LevelProvider.class);
+        assertThrows(IllegalArgumentException.class, () -> parser.addParameter(new IntParameter("level", "x", "", false)));
+        assertThrows(IllegalArgumentException.class, () -> parser.addProviders(providers(LevelProvider.class)));
+
+        ArgsParser defined = new ArgsParser();
+        defined.addCommand(new Command("compress", "x", ""));
+        assertThrows(IllegalArgumentException.class, () -> defined.addProviders(providers(CompressProvider.class)));
+    }
+
+    @Test
+    public void testProvidersWithoutAnnotationAreCreatedRightAway() throws Exception {
+        ArgsParser parser = parser(EagerProvider.class);
+        assertEquals(2, parser.newResult().size());
+    }
+
+    @Test
+    public void testProviderHasToAddItsDeclaredFlags() throws Exception {
+        ArgsParser parser = parser(BrokenProvider.class);
+        assertThrows(IllegalStateException.class, () -> parser.parseFresh(new String[]{"--missing", "1"}));
+    }
+
+    @Test
+    public void testFailedProviderFailsEveryParseThatNeedsIt() throws Exception {
+        ArgsParser parser = parser(ThrowingProvider.class, LevelProvider.class);
+
+        IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+                                                        () -> parser.parseFresh(new String[]{"--half", "1"}));
+        // the names stay declared, also the ones the provider added before it failed
+        IllegalStateException again = assertThrows(IllegalStateException.class,
+                                                   () -> parser.parseFresh(new String[]{"--rest", "2"}));
+        assertSame(failure, again.getCause());
+        assertThrows(IllegalStateException.class, () -> parser.parseFresh(new String[]{"--half", "1"}));
+        assertThrows(IllegalStateException.class, () -> parser.parseFresh(new String[]{"--help"}));
+        assertThrows(IllegalArgumentException.class, () -> parser.addParameter(new IntParameter("rest", "x", "", false)));
+        assertEquals(1, throwingCreated.get());
+
+        // parses that do not need the provider still work
+        parser.parseFresh(new String[]{"--level", "2"});
+        assertEquals(Integer.valueOf(2), parser.getArgumentOf("--level"));
+    }
+}
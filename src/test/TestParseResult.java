@@ -0,0 +1,103 @@
+import ArgsParser.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestParseResult {
+
+    @Test
+    public void testAccessByHandle() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", true));
+        IntParameter count = parser.addParameter(new IntParameter(3, "count", "c", ""));
+        DblParameter ratio = parser.addParameter(new DblParameter("ratio", "r", "", false));
+        IntArrParameter ids = parser.addParameter(new IntArrParameter("ids", "i", "", false));
+        parser.parseUnchecked(new String[]{"--name", "job", "-i", "1", "2", "3"});
+
+        assertEquals("job", parser.getArgument(name));
+        assertEquals(3, parser.getArgument(count));
+        assertNull(parser.getArgument(ratio));
+        assertArrayEquals(new Integer[]{1, 2, 3}, parser.getArgument(ids));
+
+        assertTrue(parser.isProvided(name));
+        assertFalse(parser.isProvided(count));
+        assertTrue(parser.isProvided(ids));
+
+        assertEquals(ArgumentSource.COMMAND_LINE, parser.getSourceOf(name));
+        assertEquals(ArgumentSource.DEFAULT, parser.getSourceOf(count));
+        assertEquals(ArgumentSource.NONE, parser.getSourceOf(ratio));
+
+        ParseResult result = parser.getParseResult();
+        assertEquals(4, result.size());
+        assertEquals("job", result.get(name));
+        assertEquals(name.getArgument(), result.get(name));
+    }
+
+    @Test
+    public void testManyParametersUseAllProvidedBits() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter[] parameters = new IntParameter[130];
+        String[] args = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = parser.addParameter(new IntParameter("p" + i, "p" + i, "", false));
+        }
+        int argsLength = 0;
+        for (int i = 0; i < parameters.length; i += 2) {
+            args[argsLength++] = "--p" + i;
+            args[argsLength++] = Integer.toString(i);
+        }
+        parser.parseUnchecked(java.util.Arrays.copyOf(args, argsLength));
+
+        for (int i = 0; i < parameters.length; i++) {
+            assertEquals(i % 2 == 0, parser.isProvided(parameters[i]));
+            assertEquals(i % 2 == 0 ? Integer.valueOf(i) : null, parser.getArgument(parameters[i]));
+        }
+    }
+
+    @Test
+    public void testValuesFromSource() throws Exception {
+        Path file = Files.createTempFile("values", ".txt");
+        Files.writeString(file, "4 5 6");
+
+        ArgsParser parser = new ArgsParser();
+        IntArrParameter ints = parser.addParameter(new IntArrParameter("ints", "i", "", true));
+        parser.parseUnchecked(new String[]{"--ints", "--values-from", file.toString()});
+
+        assertEquals(ArgumentSource.VALUES_FILE, parser.getSourceOf(ints));
+        assertArrayEquals(new Integer[]{4, 5, 6}, parser.getArgument(ints));
+    }
+
+    @Test
+    public void testForeignHandle() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new StrParameter("name", "n", "", false));
+        ArgsParser otherParser = new ArgsParser();
+        StrParameter other = otherParser.addParameter(new StrParameter("name", "n", "", false));
+        parser.parseUnchecked(new String[]{"--name", "job"});
+
+        assertThrows(IllegalArgumentException.class, () -> parser.getArgument(other));
+        assertThrows(IllegalArgumentException.class, () -> parser.isProvided(new StrParameter("x", "x", "", false)));
+    }
+
+    @Test
+    public void testAccessBeforeParse() {
+        ArgsParser parser = new ArgsParser();
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", false));
+        assertThrows(IllegalStateException.class, () -> parser.getArgument(name));
+        assertThrows(IllegalStateException.class, parser::getParseResult);
+    }
+
+    @Test
+    public void testGetArgumentOfShortFlag() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new StrParameter("name", "n", "", false));
+        parser.parseUnchecked(new String[]{"--name", "job"});
+
+        assertEquals("job", parser.getArgumentOf("--name"));
+        assertEquals("job", parser.getArgumentOf("-n"));
+    }
+}
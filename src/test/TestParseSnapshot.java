@@ -0,0 +1,136 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestParseSnapshot {
+
+    /**
+     * IntParameter that counts how often an argument was converted.
+     */
+    private static class CountingIntParameter extends IntParameter {
+        private int conversions = 0;
+
+        CountingIntParameter(String fullFlag, String shortFlag, String description, boolean isMandatory) {
+            super(fullFlag, shortFlag, description, isMandatory);
+        }
+
+        @Override
+        protected Integer castArgument(String argument) throws InvalidArgTypeArgsException {
+            conversions++;
+            return super.castArgument(argument);
+        }
+    }
+
+    private static long countSnapshots(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".argsnap")).count();
+        }
+    }
+
+    @Test
+    public void testSnapshotIsRestoredWithoutConversion() throws Exception {
+        Path cache = Files.createTempDirectory("argsnap");
+        Path file = Files.createTempFile("argsnap", ".txt");
+        String[] args = {"--count", "5", "--file", file.toString(), "--names", "a", "b", "run"};
+
+        ArgsParser firstParser = new ArgsParser();
+        CountingIntParameter firstCount = firstParser.addParameter(new CountingIntParameter("count", "c", "", true));
+        firstParser.addParameter(new PthParameter("file", "f", "", true, true));
+        firstParser.addParameter(new StrArrParameter("names", "n", "", false));
+        firstParser.addCommand(new Command("run", "r", ""));
+        firstParser.parseCached(args, cache);
+
+        assertEquals(1, firstCount.conversions);
+        assertEquals(1, countSnapshots(cache));
+
+        ArgsParser secondParser = new ArgsParser();
+        CountingIntParameter secondCount = secondParser.addParameter(new CountingIntParameter("count", "c", "", true));
+        PthParameter secondFile = secondParser.addParameter(new PthParameter("file", "f", "", true, true));
+        StrArrParameter secondNames = secondParser.addParameter(new StrArrParameter("names", "n", "", false));
+        Command secondRun = secondParser.addCommand(new Command("run", "r", ""));
+        secondParser.parseCached(args, cache);
+
+        assertEquals(0, secondCount.conversions);
+        assertEquals(5, secondCount.getArgument());
+        assertTrue(secondCount.isProvided());
+        assertEquals(file, secondFile.getArgument());
+        assertArrayEquals(new String[]{"a", "b"}, secondNames.getArgument());
+        assertTrue(secondRun.isProvided());
+    }
+
+    @Test
+    public void testChangedModificationTimeInvalidatesSnapshot() throws Exception {
+        Path cache = Files.createTempDirectory("argsnap");
+        Path file = Files.createTempFile("argsnap", ".txt");
+        String[] args = {"--count", "5", "--file", file.toString()};
+
+        ArgsParser firstParser = new ArgsParser();
+        firstParser.addParameter(new CountingIntParameter("count", "c", "", true));
+        firstParser.addParameter(new PthParameter("file", "f", "", true, true));
+        firstParser.parseCached(args, cache);
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() - 60_000));
+
+        ArgsParser secondParser = new ArgsParser();
+        CountingIntParameter secondCount = secondParser.addParameter(new CountingIntParameter("count", "c", "", true));
+        secondParser.addParameter(new PthParameter("file", "f", "", true, true));
+        secondParser.parseCached(args, cache);
+
+        assertEquals(1, secondCount.conversions);
+        assertEquals(5, secondCount.getArgument());
+
+        Files.delete(file);
+
+        ArgsParser thirdParser = new ArgsParser();
+        thirdParser.addParameter(new CountingIntParameter("count", "c", "", true));
+        thirdParser.addParameter(new PthParameter("file", "f", "", true, true));
+        assertThrows(NotExistingPathArgsException.class, () -> thirdParser.parseCached(args, cache));
+    }
+
+    @Test
+    public void testChangedSpecDoesNotUseSnapshot() throws Exception {
+        Path cache = Files.createTempDirectory("argsnap");
+        String[] args = {"--count", "5"};
+
+        ArgsParser firstParser = new ArgsParser();
+        firstParser.addParameter(new CountingIntParameter("count", "c", "", true));
+        firstParser.parseCached(args, cache);
+
+        ArgsParser secondParser = new ArgsParser();
+        CountingIntParameter secondCount = secondParser.addParameter(new CountingIntParameter("count", "c", "", true));
+        secondParser.addParameter(new StrParameter("name", "n", "", true));
+        assertThrows(MandatoryArgNotProvidedArgsException.class, () -> secondParser.parseCached(args, cache));
+        assertEquals(1, secondCount.conversions);
+    }
+
+    @Test
+    public void testFailedParseIsNotCached() throws Exception {
+        Path cache = Files.createTempDirectory("argsnap");
+        String[] args = {"--count", "five"};
+
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntParameter("count", "c", "", true));
+        assertThrows(InvalidArgTypeArgsException.class, () -> parser.parseCached(args, cache));
+        assertEquals(0, countSnapshots(cache));
+    }
+
+    @Test
+    public void testParseCachedOnlyOnce() throws Exception {
+        Path cache = Files.createTempDirectory("argsnap");
+        String[] args = {"--count", "5"};
+
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntParameter("count", "c", "", true));
+        parser.parseCached(args, cache);
+        assertThrows(IllegalStateException.class, () -> parser.parseCached(args, cache));
+    }
+}
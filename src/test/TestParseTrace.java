@@ -0,0 +1,156 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestParseTrace {
+
+    @Test
+    public void testRecordsDecisionPerToken() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter count = parser.addParameter(new IntParameter("count", "c", "", false));
+        IntArrParameter ids = parser.addParameter(new IntArrParameter("ids", "i", "", false));
+        BolParameter verbose = parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        BolParameter quiet = parser.addParameter(new BolParameter(false, "quiet", "q", ""));
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", false));
+        Command run = parser.addCommand(new Command("run", "r", ""));
+        ParseTrace trace = parser.enableTrace(16);
+        assertSame(trace, parser.getTrace());
+
+        parser.parseUnchecked(new String[]{"-c", "42", "--ids", "1", "2", "run", "-vq", "--name=job"});
+
+        assertEquals(7, trace.size());
+        assertEquals(ParseTrace.Decision.FLAG, trace.getDecision(0));
+        assertEquals("--count", trace.getTarget(0));
+        assertEquals(ParseTrace.Decision.ARGUMENT, trace.getDecision(1));
+        assertEquals("42", trace.getToken(1));
+        assertTrue(trace.getConversionNanos(1) > 0);
+        assertEquals(ParseTrace.Decision.FLAG, trace.getDecision(2));
+        assertEquals(ParseTrace.Decision.ARGUMENT, trace.getDecision(3));
+        assertEquals("--ids", trace.getTarget(3));
+        assertEquals(ParseTrace.Decision.COMMAND, trace.getDecision(4));
+        assertEquals("run", trace.getTarget(4));
+        assertEquals(ParseTrace.Decision.SHORT_FLAG_CLUSTER, trace.getDecision(5));
+        assertEquals("--quiet", trace.getTarget(5));
+        assertEquals(ParseTrace.Decision.INLINE_ARGUMENT, trace.getDecision(6));
+        assertEquals("--name", trace.getTarget(6));
+        assertTrue(trace.dump().contains("SHORT_FLAG_CLUSTER"));
+        assertEquals("job", name.getArgument());
+        assertTrue(run.isProvided());
+        assertTrue(verbose.getBoolean() && quiet.getBoolean());
+        assertEquals(42, count.getInt());
+        assertArrayEquals(new Integer[]{1, 2}, ids.getArgument());
+    }
+
+    @Test
+    public void testRecordsErrors() {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntParameter("count", "c", "", false));
+        parser.addParameter(new StrParameter("name", "n", "", false));
+        parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        parser.addParameter(new IntArrParameter("ids", "i", "", false));
+        ParseTrace trace = parser.enableTrace(8);
+
+        assertThrows(InvalidArgTypeArgsException.class, () -> parser.parseFresh(new String[]{"-c", "x"}));
+        assertEquals(ParseTrace.Decision.INVALID_ARGUMENT, trace.getDecision(trace.size() - 1));
+
+        assertThrows(UnknownFlagArgsException.class, () -> parser.parseFresh(new String[]{"-c", "1", "--unknown"}));
+        assertEquals(ParseTrace.Decision.UNKNOWN_FLAG, trace.getDecision(trace.size() - 1));
+        assertEquals("--unknown", trace.getToken(trace.size() - 1));
+
+        assertThrows(FlagAlreadyProvidedArgsException.class, () -> parser.parseFresh(new String[]{"-c", "1", "-c", "2"}));
+        assertEquals(ParseTrace.Decision.DUPLICATE_FLAG, trace.getDecision(trace.size() - 1));
+
+        assertThrows(TooManyArgumentsArgsException.class, () -> parser.parseFresh(new String[]{"-c", "1", "2"}));
+        assertEquals(ParseTrace.Decision.TOO_MANY_ARGUMENTS, trace.getDecision(trace.size() - 1));
+
+        assertThrows(MissingArgArgsException.class, () -> parser.parseFresh(new String[]{"-c", "-n", "x"}));
+        assertEquals(ParseTrace.Decision.MISSING_ARGUMENT, trace.getDecision(trace.size() - 1));
+        assertEquals("--count", trace.getTarget(trace.size() - 1));
+
+        assertThrows(MissingArgArgsException.class, () -> parser.parseFresh(new String[]{"-n", "x", "-vc"}));
+        assertEquals(ParseTrace.Decision.MISSING_ARGUMENT, trace.getDecision(trace.size() - 1));
+        assertEquals("-vc", trace.getToken(trace.size() - 1));
+        assertEquals("--count", trace.getTarget(trace.size() - 1));
+
+        assertThrows(MissingArgArgsException.class, () -> parser.parseFresh(new String[]{"-i", "--values-from"}));
+        assertEquals(ParseTrace.Decision.MISSING_ARGUMENT, trace.getDecision(trace.size() - 1));
+        assertEquals("--values-from", trace.getToken(trace.size() - 1));
+        assertEquals("--ids", trace.getTarget(trace.size() - 1));
+
+        assertThrows(CalledForHelpNotification.class, () -> parser.parseFresh(new String[]{"-c", "--help"}));
+        assertEquals(ParseTrace.Decision.HELP, trace.getDecision(trace.size() - 1));
+
+        // the ring buffer only kept the newest entries
+        assertEquals(8, trace.size());
+    }
+
+    @Test
+    public void testRingBufferOverwritesOldestEntries() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntParameter("count", "c", "", false));
+        ParseTrace trace = parser.enableTrace(3);
+
+        parser.parseFresh(new String[]{"-c", "1"});
+        parser.parseFresh(new String[]{"-c", "2"});
+
+        assertEquals(3, trace.size());
+        assertEquals("1", trace.getToken(0));
+        assertEquals("-c", trace.getToken(1));
+        assertEquals("2", trace.getToken(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> trace.getToken(3));
+
+        trace.clear();
+        assertEquals(0, trace.size());
+        parser.disableTrace();
+        parser.parseFresh(new String[]{"-c", "3"});
+        assertNull(parser.getTrace());
+        assertEquals(0, trace.size());
+        assertThrows(IllegalArgumentException.class, () -> new ParseTrace(0));
+    }
+
+    @Test
+    public void testExplainParseFlag() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter count = parser.addParameter(new IntParameter("count", "c", "", true));
+        ParseTrace trace = parser.enableTrace(16);
+
+        PrintStream out = System.out;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(printed, true));
+        try {
+            parser.parse(new String[]{"--explain-parse", "-c", "5"});
+        } finally {
+            System.setOut(out);
+        }
+
+        assertEquals(5, count.getInt());
+        String explanation = printed.toString();
+        assertTrue(explanation.contains("[0] -c"));
+        assertTrue(explanation.contains("[1] 5"));
+        // the explained parse has a trace of its own, the enabled trace keeps recording the following parses
+        assertSame(trace, parser.getTrace());
+        assertEquals(0, trace.size());
+        parser.parseFresh(new String[]{"-c", "1"});
+        assertEquals(2, trace.size());
+        assertEquals("1", trace.getToken(1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new ArgsParser().addParameter(new StrParameter("explain-parse", "e", "", false)));
+    }
+
+    @Test
+    public void testExplainParseFlagOnlyTracesOneParse() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntParameter("count", "c", "", true));
+
+        parser.parseUnchecked(new String[]{"--explain-parse", "-c", "5"});
+        assertNull(parser.getTrace());
+        parser.parseFresh(new String[]{"-c", "6"});
+        assertNull(parser.getTrace());
+    }
+}
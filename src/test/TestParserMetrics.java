@@ -0,0 +1,104 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestParserMetrics {
+
+    @Test
+    public void testCountsParsesErrorsAndHelp() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter count = parser.addParameter(new IntParameter("count", "c", "", true));
+        ParserMetrics metrics = parser.enableMetrics();
+        assertSame(metrics, parser.enableMetrics());
+
+        parser.parseFresh(new String[]{"-c", "1"});
+        parser.parseFresh(new String[]{"-c", "2"});
+        assertThrows(InvalidArgTypeArgsException.class, () -> parser.parseFresh(new String[]{"-c", "x"}));
+        assertThrows(InvalidArgTypeArgsException.class, () -> parser.parseFresh(new String[]{"-c", "y"}));
+        assertThrows(UnknownFlagArgsException.class, () -> parser.parseFresh(new String[]{"--unknown"}));
+        assertThrows(CalledForHelpNotification.class, () -> parser.parseFresh(new String[]{"--help"}));
+
+        assertEquals(6, metrics.getParseCount());
+        assertEquals(3, metrics.getErrorCount());
+        assertEquals(Map.of("InvalidArgTypeArgsException", 2L, "UnknownFlagArgsException", 1L), metrics.getErrorCounts());
+        assertEquals(1, metrics.getHelpCount());
+        assertTrue(metrics.getParseLatencyP50Nanos() > 0);
+        assertTrue(metrics.getParseLatencyP99Nanos() >= metrics.getParseLatencyP50Nanos());
+        assertTrue(metrics.getParseLatencyMaxNanos() >= metrics.getParseLatencyP99Nanos());
+
+        metrics.reset();
+        assertEquals(0, metrics.getParseCount());
+        assertTrue(metrics.getErrorCounts().isEmpty());
+        assertEquals(0, metrics.getParseLatencyMaxNanos());
+    }
+
+    @Test
+    public void testConversionCacheStats() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter first = parser.addParameter(new IntParameter("first", "f", "", false));
+        IntParameter second = parser.addParameter(new IntParameter("second", "s", "", false));
+        ConversionCache<Integer> cache = new ConversionCache<>(16);
+        first.setConversionCache(cache);
+        second.setConversionCache(cache);
+        ParserMetrics metrics = parser.enableMetrics();
+
+        parser.parseFresh(new String[]{"-f", "1", "-s", "1"});
+        parser.parseFresh(new String[]{"-f", "2", "-s", "1"});
+
+        // the shared cache is counted once
+        assertEquals(2, metrics.getConversionCacheHitCount());
+        assertEquals(2, metrics.getConversionCacheMissCount());
+        assertEquals(0, metrics.getConversionCacheEvictionCount());
+        assertEquals(0.5, metrics.getConversionCacheHitRate());
+    }
+
+    @Test
+    public void testRegisterAsMBean() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntParameter("count", "c", "", true));
+        ParserMetrics metrics = parser.enableMetrics();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        ObjectName name = metrics.register("admin console");
+        try {
+            assertThrows(IllegalStateException.class, () -> metrics.register("admin console"));
+            assertThrows(IllegalStateException.class, () -> new ArgsParser().enableMetrics().register("admin console"));
+            assertThrows(CalledForHelpNotification.class, () -> parser.parseFresh(new String[]{"--help"}));
+            assertThrows(MissingArgArgsException.class, () -> parser.parseFresh(new String[]{"-c"}));
+
+            assertEquals("Parser", name.getKeyProperty("type"));
+            assertEquals(2L, server.getAttribute(name, "ParseCount"));
+            assertEquals(1L, server.getAttribute(name, "HelpCount"));
+            TabularData errorCounts = (TabularData) server.getAttribute(name, "ErrorCounts");
+            assertEquals(1, errorCounts.size());
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "ParseCount"));
+        } finally {
+            metrics.unregister();
+        }
+        assertFalse(server.isRegistered(name));
+        metrics.unregister();
+        assertThrows(IllegalArgumentException.class, () -> metrics.register(" "));
+    }
+
+    @Test
+    public void testHistogramPercentiles() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntParameter("count", "c", "", true));
+        ParserMetrics metrics = parser.enableMetrics();
+        assertEquals(0, metrics.getParseLatencyP50Nanos());
+        assertEquals(0, metrics.getParseLatencyP99Nanos());
+        for (int i = 0; i < 200; i++) parser.parseFresh(new String[]{"-c", Integer.toString(i)});
+        assertEquals(200, metrics.getParseCount());
+        assertTrue(metrics.getParseLatencyP50Nanos() <= metrics.getParseLatencyP99Nanos());
+    }
+}
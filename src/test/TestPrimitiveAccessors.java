@@ -0,0 +1,65 @@
+import ArgsParser.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPrimitiveAccessors {
+
+    @Test
+    public void testProvidedArguments() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter count = parser.addParameter(new IntParameter("count", "c", "", true));
+        DblParameter ratio = parser.addParameter(new DblParameter("ratio", "r", "", true));
+        FltParameter scale = parser.addParameter(new FltParameter("scale", "s", "", true));
+        BolParameter verbose = parser.addParameter(new BolParameter("verbose", "v", "", true));
+        ChrParameter separator = parser.addParameter(new ChrParameter("separator", "sep", "", true));
+        parser.parseUnchecked(new String[]{"-c", "42", "-r", "0.1", "-s", "2.5", "-v", "true", "-sep", ";"});
+
+        assertEquals(42, count.getInt());
+        assertEquals(0.1, ratio.getDouble());
+        assertEquals(2.5f, scale.getFloat());
+        assertTrue(verbose.getBoolean());
+        assertEquals(';', separator.getChar());
+
+        ParseResult result = parser.getParseResult();
+        assertEquals(42, result.getInt(count));
+        assertEquals(0.1, result.getDouble(ratio));
+        assertEquals(2.5f, result.getFloat(scale));
+        assertTrue(result.getBoolean(verbose));
+        assertEquals(';', result.getChar(separator));
+    }
+
+    @Test
+    public void testDefaultValues() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter count = parser.addParameter(new IntParameter(-7, "count", "c", ""));
+        DblParameter ratio = parser.addParameter(new DblParameter(-0.0, "ratio", "r", ""));
+        BolParameter verbose = parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        parser.parseUnchecked(new String[]{"-c", "3"});
+
+        assertEquals(3, count.getInt());
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(ratio.getDouble()));
+        assertFalse(verbose.getBoolean());
+    }
+
+    @Test
+    public void testMissingArgument() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter count = parser.addParameter(new IntParameter("count", "c", "", false));
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", false));
+        parser.parseUnchecked(new String[]{"-n", "x"});
+
+        assertNull(count.getArgument());
+        assertThrows(IllegalStateException.class, count::getInt);
+        assertThrows(IllegalStateException.class, () -> parser.getParseResult().getInt(count));
+    }
+
+    @Test
+    public void testAccessBeforeParse() {
+        ArgsParser parser = new ArgsParser();
+        IntParameter count = parser.addParameter(new IntParameter(1, "count", "c", ""));
+        assertThrows(IllegalStateException.class, count::getInt);
+        assertThrows(IllegalStateException.class, () -> new IntParameter(1, "other", "o", "").getInt());
+    }
+}
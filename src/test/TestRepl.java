@@ -0,0 +1,126 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestRepl {
+
+    @Test
+    public void testParseFreshKeepsEarlierResults() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", true));
+        IntParameter count = parser.addParameter(new IntParameter(1, "count", "c", ""));
+        Command verbose = parser.addCommand(new Command("verbose", "v", ""));
+
+        ParseResult first = parser.parseFresh(new String[]{"--name", "a", "--count", "5", "verbose"});
+        ParseResult second = parser.parseFresh(new String[]{"--name", "b"});
+
+        assertEquals("a", first.get(name));
+        assertEquals(5, first.getInt(count));
+        assertTrue(first.isProvided(verbose));
+
+        assertEquals("b", second.get(name));
+        assertEquals(1, second.getInt(count));
+        assertFalse(second.isProvided(count));
+        assertFalse(second.isProvided(verbose));
+
+        // handles always read the latest result
+        assertEquals("b", name.getArgument());
+        assertEquals(1, count.getInt());
+        assertFalse(verbose.isProvided());
+    }
+
+    @Test
+    public void testParseFreshAfterFailedParse() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", true));
+        StrParameter mode = parser.addParameter(new StrParameter("mode", "m", "", true));
+
+        MandatoryArgNotProvidedArgsException missing = assertThrows(MandatoryArgNotProvidedArgsException.class,
+                () -> parser.parseFresh(new String[]{"--name", "a"}));
+        assertTrue(missing.getMessage().contains("--mode"));
+        assertFalse(missing.getMessage().contains("--name"));
+
+        // the failed line must neither leak values nor shrink the set of mandatory parameters
+        assertThrows(MandatoryArgNotProvidedArgsException.class, () -> parser.parseFresh(new String[]{"--mode", "x"}));
+        ParseResult result = parser.parseFresh(new String[]{"-n", "b", "-m", "y"});
+        assertEquals("b", result.get(name));
+        assertEquals("y", result.get(mode));
+    }
+
+    @Test
+    public void testReplDispatchesEveryLine() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", true));
+        StrArrParameter tags = parser.addParameter(new StrArrParameter("tags", "t", "", false));
+        Command stop = parser.addCommand(new Command("stop", "s", ""));
+
+        String input = """
+                --name plain
+                # a comment line
+
+                --name 'single quoted' --tags a "b c" d\\ e  # trailing comment
+                --name "escaped \\"quote\\"" --tags multi\\
+                line
+                --unknown x
+                --name "spans
+                two lines"
+                --name last stop
+                --name never
+                """;
+        List<String> names = new ArrayList<>();
+        List<String[]> tagLists = new ArrayList<>();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        int handled = new Repl(parser, result -> {
+            names.add(result.get(name));
+            tagLists.add(result.get(tags));
+            return !result.isProvided(stop);
+        }, null).run(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                     new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        assertEquals(5, handled);
+        assertEquals(List.of("plain", "single quoted", "escaped \"quote\"", "spans\ntwo lines", "last"), names);
+        assertNull(tagLists.get(0));
+        assertArrayEquals(new String[]{"a", "b c", "d e"}, tagLists.get(1));
+        assertArrayEquals(new String[]{"multiline"}, tagLists.get(2));
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("--unknown"));
+    }
+
+    @Test
+    public void testReplReportsHandlerErrorsAndHelp() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter number = parser.addParameter(new IntParameter("number", "n", "the number", false));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        int handled = new Repl(parser, result -> {
+            if (result.getInt(number) == 0) throw new ArithmeticException("division by zero");
+            return true;
+        }).run(new ByteArrayInputStream("-n 0\n--help\n-n 2".getBytes(StandardCharsets.UTF_8)),
+               new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertEquals(2, handled);
+        assertTrue(printed.startsWith("> "));
+        assertTrue(printed.contains("division by zero"));
+        assertTrue(printed.contains("the number"));
+    }
+
+    @Test
+    public void testUnterminatedQuote() {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new StrParameter("name", "n", "", false));
+        assertThrows(EOFException.class, () -> new Repl(parser, result -> true)
+                .run(new ByteArrayInputStream("--name 'open".getBytes(StandardCharsets.UTF_8)), new PrintStream(new ByteArrayOutputStream())));
+    }
+}
@@ -0,0 +1,128 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import benchmarks.AllocationMeter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestResultReuse {
+
+    @Test
+    public void testResetRestoresDefaults() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", false));
+        IntParameter count = parser.addParameter(new IntParameter(3, "count", "c", ""));
+        Command verbose = parser.addCommand(new Command("verbose", "v", ""));
+        ParseResult result = parser.parseFresh(new String[]{"--name", "job", "-c", "7", "verbose"});
+
+        result.reset();
+
+        assertNull(result.get(name));
+        assertFalse(result.isProvided(name));
+        assertEquals(ArgumentSource.NONE, result.getSource(name));
+        assertEquals(3, result.getInt(count));
+        assertFalse(result.isProvided(count));
+        assertEquals(ArgumentSource.DEFAULT, result.getSource(count));
+        assertFalse(result.isProvided(verbose));
+    }
+
+    @Test
+    public void testParseIntoPooledResults() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", false));
+        IntArrParameter ids = parser.addParameter(new IntArrParameter("ids", "i", "", false));
+        Command verbose = parser.addCommand(new Command("verbose", "v", ""));
+        ParseResult first = parser.newResult();
+        ParseResult second = parser.newResult();
+
+        assertSame(first, parser.parseInto(first, new String[]{"--name", "a", "-i", "1", "2", "verbose"}));
+        assertSame(second, parser.parseInto(second, new String[]{"-i", "3"}));
+
+        assertEquals("a", first.get(name));
+        assertArrayEquals(new Integer[]{1, 2}, first.get(ids));
+        assertTrue(first.isProvided(verbose));
+        assertNull(second.get(name));
+        assertArrayEquals(new Integer[]{3}, second.get(ids));
+        assertFalse(second.isProvided(verbose));
+        assertNull(name.getArgument());
+        assertFalse(verbose.isProvided());
+
+        parser.parseInto(first, new String[]{"--name", "b"});
+        assertEquals("b", first.get(name));
+        assertNull(first.get(ids));
+        assertFalse(first.isProvided(verbose));
+        assertEquals("b", name.getArgument());
+    }
+
+    @Test
+    public void testParseReusingReusesTheResult() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter count = parser.addParameter(new IntParameter("count", "c", "", true));
+        ParseResult result = parser.parseReusing(new String[]{"-c", "1"});
+
+        assertSame(result, parser.parseReusing(new String[]{"-c", "2"}));
+        assertEquals(2, result.getInt(count));
+        assertThrows(MissingArgArgsException.class, () -> parser.parseReusing(new String[]{"-c"}));
+        assertEquals(4, parser.parseReusing(new String[]{"-c", "4"}).getInt(count));
+    }
+
+    @Test
+    public void testParseIntoRejectsForeignResults() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntParameter("count", "c", "", false));
+        ArgsParser other = new ArgsParser();
+        other.addParameter(new IntParameter("count", "c", "", false));
+        ParseResult outdated = parser.newResult();
+        parser.addParameter(new IntParameter("size", "s", "", false));
+
+        assertThrows(IllegalArgumentException.class, () -> parser.parseInto(other.newResult(), new String[]{"-c", "1"}));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseInto(outdated, new String[]{"-c", "1"}));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseInto(null, new String[]{"-c", "1"}));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseInto(parser.newResult(), null));
+    }
+
+    @Test
+    public void testSteadyStateParsingAllocatesNothing() throws Exception {
+        AllocationMeter meter = AllocationMeter.create();
+        if (meter == null) return; // allocation cannot be measured on this JVM
+
+        ArgsParser parser = new ArgsParser();
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", true));
+        IntParameter count = parser.addParameter(new IntParameter(1, "count", "c", ""));
+        BolParameter verbose = parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        BolParameter quiet = parser.addParameter(new BolParameter(false, "quiet", "q", ""));
+        Command run = parser.addCommand(new Command("run", "r", ""));
+        String[][] commandLines = {
+                {"--name", "job", "-c", "42", "run"},
+                {"-n", "job", "--count=7", "-vq"},
+                {"run", "--name", "other", "--verbose", "true"},
+        };
+        ParseResult result = parser.newResult();
+
+        long checksum = 0;
+        for (int i = 0; i < 50_000; i++) checksum += parseAll(parser, result, commandLines, name, count, verbose, run);
+
+        int parses = 30_000 * commandLines.length;
+        long before = meter.allocatedBytes();
+        for (int i = 0; i < 30_000; i++) checksum += parseAll(parser, result, commandLines, name, count, verbose, run);
+        long allocated = meter.allocatedBytes() - before;
+
+        assertTrue(checksum > 0);
+        assertFalse(result.getBoolean(quiet));
+        // a single allocation per parse would exceed this by far, the slack absorbs the measurement itself
+        assertTrue(allocated < parses, "steady-state parsing allocated " + allocated + " bytes in " + parses + " parses");
+    }
+
+    private static long parseAll(ArgsParser parser, ParseResult result, String[][] commandLines, StrParameter name,
+                                 IntParameter count, BolParameter verbose, Command run) throws Exception {
+        long checksum = 0;
+        for (String[] args : commandLines) {
+            parser.parseInto(result, args);
+            checksum += result.get(name).length() + result.getInt(count);
+            if (result.getBoolean(verbose)) checksum++;
+            if (result.isProvided(run)) checksum++;
+        }
+        return checksum;
+    }
+}
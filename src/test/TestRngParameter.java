@@ -0,0 +1,98 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestRngParameter {
+
+    private static Range parse(String argument) throws Exception {
+        ArgsParser parser = new ArgsParser();
+        RngParameter range = parser.addParameter(new RngParameter("range", "r", "", true));
+        parser.parseUnchecked(new String[]{"--range", argument});
+        return range.getArgument();
+    }
+
+    @Test
+    public void testNotations() throws Exception {
+        assertEquals(new Range(0, 99999, 1), parse("0-99999"));
+        assertEquals(new Range(1, 1000000, 3), parse("1..1000000:3"));
+        assertEquals(new Range(100, 0, -10), parse("100..0:-10"));
+        assertEquals(new Range(10, 1, -1), parse("10..1"));
+        assertEquals(new Range(7, 7, 1), parse("7"));
+    }
+
+    @Test
+    public void testInvalidNotations() {
+        for (String argument : new String[]{"a-b", "1..", "..5", "1..5:0", "1..5:x", "1-2-3", "5:2", "1..2..3"}) {
+            ArgsParser parser = new ArgsParser();
+            parser.addParameter(new RngParameter("range", "r", "", true));
+            assertThrows(InvalidArgTypeArgsException.class,
+                         () -> parser.parseUnchecked(new String[]{"--range", argument}), argument);
+        }
+    }
+
+    @Test
+    public void testValues() throws Exception {
+        Range range = parse("1..10:3");
+        assertEquals(4, range.size());
+        assertEquals(10, range.getEnd());
+        assertArrayEquals(new long[]{1, 4, 7, 10}, range.longStream().toArray());
+        assertArrayEquals(new int[]{1, 4, 7, 10}, range.intStream().toArray());
+
+        PrimitiveIterator.OfInt iterator = parse("3..0").intIterator();
+        assertEquals(3, iterator.nextInt());
+        assertEquals(2, iterator.nextInt());
+        assertEquals(1, iterator.nextInt());
+        assertEquals(0, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+
+        assertEquals(6, new Range(0, 8, 3).getEnd());
+        assertTrue(new Range(5, 1, 1).isEmpty());
+        assertEquals(0, new Range(5, 1, 1).longStream().count());
+    }
+
+    @Test
+    public void testLargeRangeNeedsConstantMemory() {
+        Range range = new Range(0, 999_999_999, 1);
+        assertEquals(1_000_000_000L, range.size());
+        assertEquals(999_999_999L * 1_000_000_000L / 2, range.longStream().parallel().sum());
+        assertEquals(1_000_000_000L, range.intStream().parallel().count());
+    }
+
+    @Test
+    public void testSpliteratorSplitsEvenly() {
+        Spliterator.OfLong spliterator = new Range(0, 99, 1).longStream().spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.SORTED));
+        Spliterator.OfLong prefix = spliterator.trySplit();
+        assertEquals(50, prefix.estimateSize());
+        assertEquals(50, spliterator.estimateSize());
+        long[] first = new long[1];
+        spliterator.tryAdvance((long value) -> first[0] = value);
+        assertEquals(50, first[0]);
+    }
+
+    @Test
+    public void testExtremeBounds() {
+        Range range = new Range(Long.MAX_VALUE - 2, Long.MAX_VALUE, 1);
+        assertArrayEquals(new long[]{Long.MAX_VALUE - 2, Long.MAX_VALUE - 1, Long.MAX_VALUE}, range.longStream().toArray());
+        assertFalse(range.fitsInt());
+        assertThrows(ArithmeticException.class, range::intStream);
+        assertThrows(ArithmeticException.class, () -> new Range(Long.MIN_VALUE, Long.MAX_VALUE, 1));
+        assertEquals(3, new Range(Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE).size());
+    }
+
+    @Test
+    public void testDefaultAndHelp() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        RngParameter shards = parser.addParameter(new RngParameter(new Range(0, 9, 1), "shards", "s", ""));
+        parser.parseUnchecked(new String[]{});
+        assertEquals(10, shards.getArgument().size());
+        assertFalse(shards.isProvided());
+        assertEquals("0..9:1", shards.getArgument().toString());
+    }
+}
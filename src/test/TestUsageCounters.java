@@ -0,0 +1,80 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestUsageCounters {
+
+    @Test
+    public void testCountsProvidedParametersAndCommands() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter count = parser.addParameter(new IntParameter("count", "c", "", false));
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", false));
+        Command run = parser.addCommand(new Command("run", "r", ""));
+        parser.enableUsageCounters();
+        BolParameter verbose = parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        Command stop = parser.addCommand(new Command("stop", "s", ""));
+
+        parser.parseFresh(new String[]{"-c", "1", "run"});
+        parser.parseFresh(new String[]{"--count=2", "-v", "true", "r"});
+        parser.parseFresh(new String[]{"-v", "false"});
+        // failed parses are not counted
+        assertThrows(InvalidArgTypeArgsException.class, () -> parser.parseFresh(new String[]{"-n", "x", "-c", "y"}));
+
+        assertEquals(2, count.getUsageCount());
+        assertEquals(0, name.getUsageCount());
+        assertEquals(2, verbose.getUsageCount());
+        assertEquals(2, run.getUsageCount());
+        assertEquals(0, stop.getUsageCount());
+
+        UsageSnapshot snapshot = parser.getUsageSnapshot();
+        assertEquals(3, snapshot.parseCount());
+        assertEquals(List.of("--count", "--name", "--verbose"), List.copyOf(snapshot.parameterCounts().keySet()));
+        assertEquals(Map.of("--count", 2L, "--name", 0L, "--verbose", 2L), snapshot.parameterCounts());
+        assertEquals(Map.of("run", 2L, "stop", 0L), snapshot.commandCounts());
+        assertEquals(List.of("--name"), snapshot.unusedParameters());
+        assertEquals(List.of("stop"), snapshot.unusedCommands());
+
+        parser.resetUsageCounters();
+        assertEquals(0, parser.getUsageSnapshot().parseCount());
+        assertEquals(0, count.getUsageCount());
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter count = parser.addParameter(new IntParameter("count", "c", "", false));
+        parser.parseFresh(new String[]{"-c", "1"});
+
+        assertEquals(0, count.getUsageCount());
+        assertThrows(IllegalStateException.class, parser::getUsageSnapshot);
+    }
+
+    @Test
+    public void testReorderByUsageKeepsLookups() throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter[] parameters = new IntParameter[300];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = parser.addParameter(new IntParameter("p" + i, "q" + i, "", false));
+        }
+        BolParameter verbose = parser.addParameter(new BolParameter(false, "verbose", "v", ""));
+        BolParameter quiet = parser.addParameter(new BolParameter(false, "quiet", "x", ""));
+        parser.enableUsageCounters();
+        for (int i = 0; i < 10; i++) parser.parseFresh(new String[]{"--p299", Integer.toString(i), "-q7", "1"});
+
+        parser.reorderByUsage();
+        parser.parseFresh(new String[]{"-q299", "5", "--p7=6", "--p0", "1", "-vx"});
+
+        assertEquals(5, parameters[299].getInt());
+        assertEquals(6, parameters[7].getInt());
+        assertEquals(1, parameters[0].getInt());
+        assertTrue(verbose.getBoolean() && quiet.getBoolean());
+        assertEquals(11, parameters[299].getUsageCount());
+        assertThrows(UnknownFlagArgsException.class, () -> parser.parseFresh(new String[]{"--p300", "1"}));
+    }
+}
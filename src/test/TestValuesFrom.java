@@ -0,0 +1,154 @@
+import ArgsParser.*;
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.ParameterTypes.*;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestValuesFrom {
+
+    @Test
+    public void testIntValuesFromTextFile() throws Exception {
+        Path file = Files.createTempFile("values", ".txt");
+        Files.writeString(file, "1 2\n3,-4\t+5\n\n");
+
+        ArgsParser parser = new ArgsParser();
+        IntArrParameter ints = parser.addParameter(new IntArrParameter("ints", "i", "", true));
+        parser.parseUnchecked(new String[]{"--ints", "--values-from", file.toString()});
+
+        assertTrue(ints.isProvided());
+        assertArrayEquals(new int[]{1, 2, 3, -4, 5}, ints.getIntValues());
+        assertArrayEquals(new Integer[]{1, 2, 3, -4, 5}, ints.getArgument());
+
+        // the returned array is a copy of the parsed values
+        ints.getIntValues()[0] = 42;
+        assertEquals(1, ints.getIntValues()[0]);
+        assertEquals(1, ints.getIntBuffer().get(0));
+        assertTrue(ints.getIntBuffer().isReadOnly());
+    }
+
+    @Test
+    public void testLargeIntTextFileIsParsedInOrder() throws Exception {
+        Path file = Files.createTempFile("values", ".txt");
+        int count = 1_000_000;
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) text.append(i).append('\n');
+        Files.writeString(file, text);
+
+        ArgsParser parser = new ArgsParser();
+        IntArrParameter ints = parser.addParameter(new IntArrParameter("ints", "i", "", true));
+        parser.parseUnchecked(new String[]{"-i", "--values-from", file.toString()});
+
+        int[] values = ints.getIntValues();
+        assertEquals(count, values.length);
+        for (int i = 0; i < count; i++) assertEquals(i, values[i]);
+    }
+
+    @Test
+    public void testDoubleValuesFromBinaryFile() throws Exception {
+        Path file = Files.createTempFile("values", ".bin");
+        ByteBuffer bytes = ByteBuffer.allocate(3 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putDouble(1.5).putDouble(-2.25).putDouble(1e10);
+        Files.write(file, bytes.array());
+
+        ArgsParser parser = new ArgsParser();
+        DblArrParameter doubles = parser.addParameter(new DblArrParameter("doubles", "d", "", false));
+        StrParameter name = parser.addParameter(new StrParameter("name", "n", "", false));
+        parser.parseUnchecked(new String[]{"--doubles", "--values-from", file.toString(), "--name", "sweep"});
+
+        assertEquals(3, doubles.getDoubleBuffer().remaining());
+        assertEquals(-2.25, doubles.getDoubleBuffer().get(1));
+        assertArrayEquals(new double[]{1.5, -2.25, 1e10}, doubles.getDoubleValues());
+        assertEquals("sweep", name.getArgument());
+    }
+
+    @Test
+    public void testInvalidValueInFile() throws Exception {
+        Path file = Files.createTempFile("values", ".txt");
+        Files.writeString(file, "1 2 three");
+
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntArrParameter("ints", "i", "", true));
+        assertThrows(InvalidArgTypeArgsException.class,
+                     () -> parser.parseUnchecked(new String[]{"--ints", "--values-from", file.toString()}));
+    }
+
+    @Test
+    public void testValuesFromNotExistingFile() {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntArrParameter("ints", "i", "", true));
+        assertThrows(NotExistingPathArgsException.class,
+                     () -> parser.parseUnchecked(new String[]{"--ints", "--values-from", "no/such/file.txt"}));
+    }
+
+    @Test
+    public void testValuesFromAtWrongPosition() throws Exception {
+        Path file = Files.createTempFile("values", ".txt");
+        Files.writeString(file, "1 2");
+
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntArrParameter("ints", "i", "", true));
+        parser.addParameter(new StrArrParameter("names", "n", "", false));
+        assertThrows(ValuesFromAtWrongPositionArgsException.class,
+                     () -> parser.parseUnchecked(new String[]{"--ints", "1", "--values-from", file.toString()}));
+
+        ArgsParser secondParser = new ArgsParser();
+        secondParser.addParameter(new StrArrParameter("names", "n", "", false));
+        assertThrows(ValuesFromAtWrongPositionArgsException.class,
+                     () -> secondParser.parseUnchecked(new String[]{"--names", "--values-from", file.toString()}));
+    }
+
+    @Test
+    public void testValueAfterValuesFromFile() throws Exception {
+        Path file = Files.createTempFile("values", ".txt");
+        Files.writeString(file, "1 2");
+
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntArrParameter("ints", "i", "", true));
+        assertThrows(TooManyArgumentsArgsException.class,
+                     () -> parser.parseUnchecked(new String[]{"--ints", "--values-from", file.toString(), "3"}));
+    }
+
+    @Test
+    public void testEarlierResultsKeepTheirValuesFromFile() throws Exception {
+        Path file = Files.createTempFile("values", ".txt");
+        Files.writeString(file, "5 6 7");
+
+        ArgsParser parser = new ArgsParser();
+        IntArrParameter ids = parser.addParameter(new IntArrParameter("ids", "i", "", false));
+        ParseResult first = parser.parseFresh(new String[]{"--ids", "--values-from", file.toString()});
+        ParseResult second = parser.parseFresh(new String[]{"--ids", "1"});
+
+        assertArrayEquals(new Integer[]{5, 6, 7}, first.get(ids));
+        assertEquals(ArgumentSource.VALUES_FILE, first.getSource(ids));
+        assertArrayEquals(new Integer[]{1}, second.get(ids));
+        assertArrayEquals(new int[]{1}, ids.getIntValues());
+
+        parser.parseInto(second, new String[]{"--ids", "--values-from", file.toString()});
+        assertArrayEquals(new int[]{5, 6, 7}, ids.getIntValues());
+        assertArrayEquals(new Integer[]{5, 6, 7}, second.get(ids));
+        parser.parseInto(second, new String[]{"--ids", "2"});
+        assertArrayEquals(new Integer[]{2}, ids.getArgument());
+        assertArrayEquals(new Integer[]{5, 6, 7}, first.get(ids));
+    }
+
+    @Test
+    public void testValuesFromWithoutFile() {
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new IntArrParameter("ints", "i", "", true));
+        assertThrows(MissingArgArgsException.class,
+                     () -> parser.parseUnchecked(new String[]{"--ints", "--values-from"}));
+    }
+
+    @Test
+    public void testValuesFromIsReserved() {
+        ArgsParser parser = new ArgsParser();
+        assertThrows(IllegalArgumentException.class,
+                     () -> parser.addParameter(new IntArrParameter("values-from", "v", "", true)));
+    }
+}
@@ -0,0 +1,37 @@
+package benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads the number of bytes allocated by the current thread from the {@link com.sun.management.ThreadMXBean}, e.g.
+ * to check that a warmed up parse path allocates nothing.
+ */
+public final class AllocationMeter {
+
+    private final com.sun.management.ThreadMXBean threads;
+
+    private AllocationMeter(com.sun.management.ThreadMXBean threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * @return a meter with enabled allocation measurement, or null if this JVM cannot measure the allocations of
+     * a thread
+     */
+    public static AllocationMeter create() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean threads) || !threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return new AllocationMeter(threads);
+    }
+
+    /**
+     * @return the number of bytes the current thread allocated so far
+     */
+    public long allocatedBytes() {
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,57 @@
+package benchmarks;
+
+import ArgsParser.ArgsParser;
+import ArgsParser.ParseResult;
+import ArgsParser.ParameterTypes.IntParameter;
+
+/**
+ * Compares reading an argument by flag name with reading it by parameter handle,
+ * as done by request handlers that read their configuration in an inner loop.
+ * Run the main method, the results are printed in ns per read.
+ */
+public class ArgumentAccessBenchmark {
+
+    private static final int READS = 10_000_000;
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter[] parameters = new IntParameter[32];
+        String[] argv = new String[parameters.length * 2];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = parser.addParameter(new IntParameter("parameter" + i, "p" + i, "", false));
+            argv[2 * i] = "--parameter" + i;
+            argv[2 * i + 1] = Integer.toString(i);
+        }
+        parser.parseUnchecked(argv);
+        ParseResult result = parser.getParseResult();
+        IntParameter last = parameters[parameters.length - 1];
+
+        long sink = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < READS; i++) sink += parser.<Integer>getArgumentOf("--parameter31");
+            long byFlag = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < READS; i++) sink += parser.getArgument(last);
+            long byHandle = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < READS; i++) sink += result.get(last);
+            long byResult = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < READS; i++) sink += last.getInt();
+            long unboxed = System.nanoTime() - start;
+
+            if (round == ROUNDS - 1) {
+                System.out.printf("getArgumentOf(String)    %6.2f ns/read%n", (double) byFlag / READS);
+                System.out.printf("getArgument(Parameter)   %6.2f ns/read%n", (double) byHandle / READS);
+                System.out.printf("ParseResult.get          %6.2f ns/read%n", (double) byResult / READS);
+                System.out.printf("IntParameter.getInt      %6.2f ns/read%n", (double) unboxed / READS);
+            }
+        }
+        if (sink == 0) System.out.println();
+    }
+}
@@ -0,0 +1,256 @@
+package benchmarks;
+
+import ArgsParser.ArgsException;
+import ArgsParser.ArgsExceptions.*;
+import benchmarks.SpecGenerator.ParameterSpec;
+import benchmarks.SpecGenerator.Spec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * Generates command lines for a {@link Spec}: valid ones, and invalid ones that differ from a valid one by exactly
+ * one {@link Mutation}, so the {@link ArgsException} they cause is known in advance.
+ *
+ * <p>
+ * A command line is a shuffled sequence of groups: every mandatory parameter and the requested number of optional
+ * parameters with their values, as {@code --full v}, {@code -short v} or {@code --full=v}, and a random choice of
+ * commands that respects the toggles. Generation is deterministic for a seed.
+ * </p>
+ */
+public final class ArgvGenerator {
+
+    /**
+     * The single change that makes a command line invalid.
+     */
+    public enum Mutation {
+        UNKNOWN_FLAG(UnknownFlagArgsException.class),
+        MISSING_ARGUMENT(MissingArgArgsException.class),
+        INVALID_ARGUMENT(InvalidArgTypeArgsException.class),
+        DUPLICATE_FLAG(FlagAlreadyProvidedArgsException.class),
+        MISSING_MANDATORY(MandatoryArgNotProvidedArgsException.class),
+        TOGGLE_CONFLICT(ToggleArgsException.class),
+        TOO_MANY_ARGUMENTS(TooManyArgumentsArgsException.class);
+
+        private final Class<? extends ArgsException> expected;
+
+        Mutation(Class<? extends ArgsException> expected) {
+            this.expected = expected;
+        }
+    }
+
+    /**
+     * @param expected the exception a parse of args throws
+     */
+    public record Invalid(String[] args, Mutation mutation, Class<? extends ArgsException> expected) {
+    }
+
+    private final Spec spec;
+    private final Random random;
+
+    public ArgvGenerator(Spec spec, long seed) {
+        this.spec = spec;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * @param optionalParameters number of optional parameters to provide besides all mandatory ones, at most all
+     * @param arrayValues number of values of each array parameter
+     * @return a command line that parses without error, never empty
+     */
+    public String[] valid(int optionalParameters, int arrayValues) {
+        List<Integer> chosen = chooseParameters(optionalParameters);
+        List<Integer> commands = chooseCommands();
+        if (chosen.isEmpty() && commands.isEmpty()) {
+            if (!spec.commands().isEmpty()) commands.add(random.nextInt(spec.commands().size()));
+            else chosen.add(random.nextInt(spec.parameters().size()));
+        }
+        return assemble(chosen, commands, arrayValues, new ArrayList<>());
+    }
+
+    /**
+     * @param optionalParameters number of optional parameters to provide besides all mandatory ones, at most all
+     * @param arrayValues number of values of each array parameter
+     * @return a command line with one random mutation that applies to the specification
+     */
+    public Invalid invalid(int optionalParameters, int arrayValues) {
+        List<Mutation> applicable = new ArrayList<>();
+        for (Mutation mutation : Mutation.values()) {
+            if (applies(mutation)) applicable.add(mutation);
+        }
+        return invalid(applicable.get(random.nextInt(applicable.size())), optionalParameters, arrayValues);
+    }
+
+    /**
+     * @param mutation the mutation to apply
+     * @param optionalParameters number of optional parameters to provide besides all mandatory ones, at most all
+     * @param arrayValues number of values of each array parameter
+     * @return a command line with the given mutation
+     * @throws IllegalArgumentException if the mutation does not apply to the specification
+     */
+    public Invalid invalid(Mutation mutation, int optionalParameters, int arrayValues) {
+        if (!applies(mutation)) throw new IllegalArgumentException(mutation + " does not apply to this specification!");
+        List<Integer> chosen = chooseParameters(optionalParameters);
+        List<Integer> commands = chooseCommands();
+        List<List<String>> appended = new ArrayList<>();
+        Class<? extends ArgsException> expected = mutation.expected;
+
+        switch (mutation) {
+            case UNKNOWN_FLAG -> appended.add(List.of("--undefined-flag"));
+            case MISSING_ARGUMENT -> {
+                List<Integer> unused = unused(chosen);
+                if (unused.isEmpty()) {
+                    int index = pick(parameter -> !parameter.mandatory());
+                    chosen.remove(Integer.valueOf(index));
+                    unused.add(index);
+                }
+                ParameterSpec parameter = spec.parameters().get(unused.get(random.nextInt(unused.size())));
+                appended.add(List.of(random.nextBoolean() ? "--" + parameter.fullFlag() : "-" + parameter.shortFlag()));
+            }
+            case INVALID_ARGUMENT -> {
+                int index = pick(parameter -> parameter.type().invalidValue() != null);
+                chosen.remove(Integer.valueOf(index));
+                List<String> group = group(spec.parameters().get(index), arrayValues);
+                group.set(group.size() - 1, withValue(group.get(group.size() - 1),
+                                                      spec.parameters().get(index).type().invalidValue()));
+                appended.add(group);
+            }
+            case DUPLICATE_FLAG -> {
+                if (chosen.isEmpty()) chosen.add(random.nextInt(spec.parameters().size()));
+                appended.add(group(spec.parameters().get(chosen.get(random.nextInt(chosen.size()))), arrayValues));
+            }
+            case MISSING_MANDATORY -> {
+                List<Integer> mandatory = new ArrayList<>();
+                for (int index : chosen) if (spec.parameters().get(index).mandatory()) mandatory.add(index);
+                chosen.remove(mandatory.get(random.nextInt(mandatory.size())));
+                if (chosen.isEmpty() && commands.isEmpty()) expected = NoArgumentsProvidedArgsException.class;
+            }
+            case TOGGLE_CONFLICT -> {
+                int[] toggle = spec.toggles().get(random.nextInt(spec.toggles().size()));
+                for (int command : toggle) commands.remove(Integer.valueOf(command));
+                commands.add(toggle[0]);
+                commands.add(toggle[1 + random.nextInt(toggle.length - 1)]);
+            }
+            case TOO_MANY_ARGUMENTS -> {
+                int index = pick(parameter -> !parameter.type().isArray());
+                chosen.remove(Integer.valueOf(index));
+                List<String> group = group(spec.parameters().get(index), arrayValues);
+                group.add(spec.parameters().get(index).type().value(random));
+                appended.add(group);
+            }
+        }
+        return new Invalid(assemble(chosen, commands, arrayValues, appended), mutation, expected);
+    }
+
+    private boolean applies(Mutation mutation) {
+        return switch (mutation) {
+            case UNKNOWN_FLAG -> true;
+            case MISSING_ARGUMENT -> spec.parameters().stream().anyMatch(parameter -> !parameter.mandatory());
+            case INVALID_ARGUMENT -> spec.parameters().stream().anyMatch(parameter -> parameter.type().invalidValue() != null);
+            case DUPLICATE_FLAG -> !spec.parameters().isEmpty();
+            case MISSING_MANDATORY -> spec.parameters().stream().anyMatch(ParameterSpec::mandatory);
+            case TOGGLE_CONFLICT -> !spec.toggles().isEmpty();
+            case TOO_MANY_ARGUMENTS -> spec.parameters().stream().anyMatch(parameter -> !parameter.type().isArray());
+        };
+    }
+
+    private int pick(Predicate<ParameterSpec> filter) {
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < spec.parameters().size(); i++) {
+            if (filter.test(spec.parameters().get(i))) candidates.add(i);
+        }
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    /**
+     * @return the indices of all mandatory and the given number of random optional parameters
+     */
+    private List<Integer> chooseParameters(int optionalParameters) {
+        List<Integer> chosen = new ArrayList<>();
+        List<Integer> optional = new ArrayList<>();
+        for (int i = 0; i < spec.parameters().size(); i++) {
+            if (spec.parameters().get(i).mandatory()) chosen.add(i);
+            else optional.add(i);
+        }
+        Collections.shuffle(optional, random);
+        chosen.addAll(optional.subList(0, Math.min(optionalParameters, optional.size())));
+        return chosen;
+    }
+
+    private List<Integer> unused(List<Integer> chosen) {
+        List<Integer> unused = new ArrayList<>();
+        for (int i = 0; i < spec.parameters().size(); i++) {
+            if (!chosen.contains(i)) unused.add(i);
+        }
+        return unused;
+    }
+
+    /**
+     * @return at most one command of each toggle and every other command with a probability of one half
+     */
+    private List<Integer> chooseCommands() {
+        boolean[] toggled = new boolean[spec.commands().size()];
+        List<Integer> commands = new ArrayList<>();
+        for (int[] toggle : spec.toggles()) {
+            for (int command : toggle) toggled[command] = true;
+            if (random.nextBoolean()) commands.add(toggle[random.nextInt(toggle.length)]);
+        }
+        for (int i = 0; i < toggled.length; i++) {
+            if (!toggled[i] && random.nextBoolean()) commands.add(i);
+        }
+        return commands;
+    }
+
+    /**
+     * @return the flag of the parameter in a random form followed by its values
+     */
+    private List<String> group(ParameterSpec parameter, int arrayValues) {
+        int values = parameter.type().isArray() ? Math.max(1, arrayValues) : 1;
+        List<String> group = new ArrayList<>(values + 1);
+        int form = random.nextInt(3);
+        if (form == 2) {
+            group.add("--" + parameter.fullFlag() + "=" + parameter.type().value(random));
+            values--;
+        } else {
+            group.add(form == 0 ? "--" + parameter.fullFlag() : "-" + parameter.shortFlag());
+        }
+        for (int i = 0; i < values; i++) group.add(parameter.type().value(random));
+        return group;
+    }
+
+    /**
+     * @return the token with its value replaced, keeping the flag of an inline {@code --flag=value}
+     */
+    private static String withValue(String token, String value) {
+        return token.startsWith("--") ? token.substring(0, token.indexOf('=') + 1) + value : value;
+    }
+
+    /**
+     * Shuffles the groups of the chosen parameters and commands and appends the extra groups.
+     */
+    private String[] assemble(List<Integer> parameters, List<Integer> commands, int arrayValues,
+                              List<List<String>> appended) {
+        List<List<String>> groups = new ArrayList<>();
+        for (int index : parameters) groups.add(group(spec.parameters().get(index), arrayValues));
+        for (int index : commands) {
+            groups.add(List.of(random.nextBoolean() ? spec.commands().get(index) : spec.shortCommand(index)));
+        }
+        Collections.shuffle(groups, random);
+        groups.addAll(appended);
+
+        List<String> args = new ArrayList<>();
+        for (List<String> group : groups) args.addAll(group);
+        return args.toArray(new String[0]);
+    }
+
+    /**
+     * @return the args as one line, quoting empty tokens
+     */
+    public static String describe(String[] args) {
+        return String.join(" ", Arrays.stream(args).map(arg -> arg.isEmpty() ? "''" : arg).toList());
+    }
+}
@@ -0,0 +1,103 @@
+package benchmarks;
+
+import ArgsParser.ArgsParser;
+import ArgsParser.Bind;
+import ArgsParser.Binder;
+import ArgsParser.ParameterTypes.IntParameter;
+
+/**
+ * Compares binding 16 int options through the {@link Binder} with writing them by hand.
+ * Run the main method, the results are printed in ns per bound option.
+ */
+public class BinderBenchmark {
+
+    private static final int OPTIONS = 16;
+    private static final int BINDS = 1_000_000;
+    private static final int ROUNDS = 10;
+
+    public static class Options {
+        @Bind("o0")
+        int o0;
+        @Bind("o1")
+        int o1;
+        @Bind("o2")
+        int o2;
+        @Bind("o3")
+        int o3;
+        @Bind("o4")
+        int o4;
+        @Bind("o5")
+        int o5;
+        @Bind("o6")
+        int o6;
+        @Bind("o7")
+        int o7;
+        @Bind("o8")
+        int o8;
+        @Bind("o9")
+        int o9;
+        @Bind("o10")
+        int o10;
+        @Bind("o11")
+        int o11;
+        @Bind("o12")
+        int o12;
+        @Bind("o13")
+        int o13;
+        @Bind("o14")
+        int o14;
+        @Bind("o15")
+        int o15;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ArgsParser parser = new ArgsParser();
+        IntParameter[] parameters = new IntParameter[OPTIONS];
+        String[] argv = new String[OPTIONS * 2];
+        for (int i = 0; i < OPTIONS; i++) {
+            parameters[i] = parser.addParameter(new IntParameter("o" + i, "s" + i, "", true));
+            argv[2 * i] = "--o" + i;
+            argv[2 * i + 1] = Integer.toString(i);
+        }
+        parser.parseUnchecked(argv);
+        Binder<Options> binder = Binder.of(Options.class);
+
+        long sink = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < BINDS; i++) sink += binder.bind(parser).o15;
+            long bound = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < BINDS; i++) sink += manual(parser, parameters).o15;
+            long manual = System.nanoTime() - start;
+
+            if (round == ROUNDS - 1) {
+                System.out.printf("Binder.bind    %6.2f ns/option%n", (double) bound / BINDS / OPTIONS);
+                System.out.printf("manual writes  %6.2f ns/option%n", (double) manual / BINDS / OPTIONS);
+            }
+        }
+        if (sink == 0) System.out.println();
+    }
+
+    private static Options manual(ArgsParser parser, IntParameter[] parameters) {
+        Options options = new Options();
+        options.o0 = parser.getArgument(parameters[0]);
+        options.o1 = parser.getArgument(parameters[1]);
+        options.o2 = parser.getArgument(parameters[2]);
+        options.o3 = parser.getArgument(parameters[3]);
+        options.o4 = parser.getArgument(parameters[4]);
+        options.o5 = parser.getArgument(parameters[5]);
+        options.o6 = parser.getArgument(parameters[6]);
+        options.o7 = parser.getArgument(parameters[7]);
+        options.o8 = parser.getArgument(parameters[8]);
+        options.o9 = parser.getArgument(parameters[9]);
+        options.o10 = parser.getArgument(parameters[10]);
+        options.o11 = parser.getArgument(parameters[11]);
+        options.o12 = parser.getArgument(parameters[12]);
+        options.o13 = parser.getArgument(parameters[13]);
+        options.o14 = parser.getArgument(parameters[14]);
+        options.o15 = parser.getArgument(parameters[15]);
+        return options;
+    }
+}
@@ -0,0 +1,203 @@
+package benchmarks;
+
+import ArgsParser.ArgsException;
+import ArgsParser.ArgsParser;
+import ArgsParser.ParameterTypes.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures what a short-lived command line tool pays for parsing: every sample forks a fresh JVM that builds a
+ * specification of 10, 100 or 1,000 parameters of all build-in types and parses one command line, either
+ * successfully or ending in an {@link ArgsException}.
+ *
+ * <p>Per scenario one JSON object is printed per line, so that startup regressions can be compared by scripts:</p>
+ * <pre>
+ * {"parameters":100,"outcome":"ok","runs":10,"timeToResultMs":{"min":..,"median":..,"max":..},
+ *  "parseMs":{"min":..,"median":..,"max":..},"classesLoaded":..,"argsParserClassesLoaded":..,"peakRssKb":..}
+ * </pre>
+ * <ul>
+ *     <li>timeToResultMs: from forking the JVM until it reported the parsed result, JVM startup included</li>
+ *     <li>parseMs: inside the fresh JVM, from building the specification until the parse returned or threw</li>
+ *     <li>classesLoaded: classes loaded until the parse returned, from a separate run with class load logging</li>
+ *     <li>peakRssKb: peak resident set size (VmHWM) of the JVM, -1 where /proc is not available</li>
+ * </ul>
+ * Run the main method, optionally with the number of runs per scenario as first argument.
+ */
+public class ColdStartBenchmark {
+
+    private static final int[] SIZES = {10, 100, 1_000};
+    private static final String[] OUTCOMES = {"ok", "error"};
+    private static final int DEFAULT_RUNS = 10;
+    private static final String RESULT_MARKER = "cold-start-result";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 3 && args[0].equals("--child")) {
+            child(Integer.parseInt(args[1]), args[2]);
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        for (int size : SIZES) {
+            for (String outcome : OUTCOMES) {
+                System.out.println(scenario(size, outcome, runs));
+            }
+        }
+    }
+
+    private static String scenario(int size, String outcome, int runs) throws Exception {
+        double[] timeToResult = new double[runs];
+        double[] parse = new double[runs];
+        long peakRss = -1;
+        for (int run = 0; run < runs; run++) {
+            long start = System.nanoTime();
+            String[] result = fork(size, outcome, false).result;
+            timeToResult[run] = (System.nanoTime() - start) / 1e6;
+            parse[run] = Long.parseLong(result[1]) / 1e6;
+            peakRss = Math.max(peakRss, Long.parseLong(result[2]));
+        }
+
+        ChildOutput logged = fork(size, outcome, true);
+        return "{\"parameters\":" + size + ",\"outcome\":\"" + outcome + "\",\"runs\":" + runs
+               + ",\"timeToResultMs\":" + summary(timeToResult) + ",\"parseMs\":" + summary(parse)
+               + ",\"classesLoaded\":" + logged.classesLoaded
+               + ",\"argsParserClassesLoaded\":" + logged.argsParserClassesLoaded
+               + ",\"peakRssKb\":" + peakRss + "}";
+    }
+
+    private static String summary(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return String.format("{\"min\":%.2f,\"median\":%.2f,\"max\":%.2f}",
+                             sorted[0], sorted[sorted.length / 2], sorted[sorted.length - 1]);
+    }
+
+    private record ChildOutput(String[] result, int classesLoaded, int argsParserClassesLoaded) {
+    }
+
+    /**
+     * Runs one scenario in a fresh JVM with the class path of this JVM.
+     *
+     * @param logClassLoading true to count the loaded classes, which slows the child down
+     */
+    private static ChildOutput fork(int size, String outcome, boolean logClassLoading) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (logClassLoading) command.add("-Xlog:class+load=info:stdout");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ColdStartBenchmark.class.getName());
+        command.add("--child");
+        command.add(Integer.toString(size));
+        command.add(outcome);
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String[] result = null;
+        int classesLoaded = 0;
+        int argsParserClassesLoaded = 0;
+        List<String> unexpected = new ArrayList<>();
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (line.startsWith(RESULT_MARKER)) {
+                    result = line.split(" ");
+                } else if (line.contains("[class,load]")) {
+                    // classes loaded after the result line belong to reading /proc and exiting
+                    if (result == null) {
+                        classesLoaded++;
+                        if (line.contains(" ArgsParser.")) argsParserClassesLoaded++;
+                    }
+                } else {
+                    unexpected.add(line);
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result == null) {
+            throw new IOException("Benchmark JVM failed: " + String.join("\n", unexpected));
+        }
+        return new ChildOutput(result, classesLoaded, argsParserClassesLoaded);
+    }
+
+    /**
+     * Body of the forked JVM: builds the specification, parses once and reports
+     * {@code cold-start-result <parse nanos> <peak RSS kB>}.
+     */
+    private static void child(int size, String outcome) throws Exception {
+        long start = System.nanoTime();
+        ArgsParser parser = new ArgsParser();
+        List<String> argv = new ArrayList<>();
+        for (int i = 0; i < size; i++) addParameter(parser, i, argv);
+        if (outcome.equals("error")) argv.add("--not-defined");
+
+        try {
+            parser.parseUnchecked(argv.toArray(new String[0]));
+        } catch (ArgsException e) {
+            if (outcome.equals("ok")) throw e;
+            if (e.getMessage().isEmpty()) throw new IllegalStateException("no error message");
+        }
+        long parseNanos = System.nanoTime() - start;
+
+        System.out.println(RESULT_MARKER + " " + parseNanos + " " + peakRssKb());
+    }
+
+    /**
+     * Adds the i-th parameter, cycling through the build-in types. Every tenth parameter is provided in argv.
+     */
+    private static void addParameter(ArgsParser parser, int i, List<String> argv) {
+        String name = "option" + i;
+        String shortName = "o" + i;
+        boolean provided = i % 10 == 0;
+        switch (i % 8) {
+            case 0 -> {
+                parser.addParameter(new StrParameter(name, shortName, "a string", false));
+                if (provided) argv.addAll(List.of("--" + name, "value" + i));
+            }
+            case 1 -> {
+                parser.addParameter(new IntParameter(i, name, shortName, "an integer"));
+                if (provided) argv.addAll(List.of("-" + shortName, Integer.toString(i)));
+            }
+            case 2 -> {
+                parser.addParameter(new DblParameter(name, shortName, "a double", false));
+                if (provided) argv.add("--" + name + "=" + i + ".5");
+            }
+            case 3 -> {
+                parser.addParameter(new FltParameter(name, shortName, "a float", false));
+                if (provided) argv.addAll(List.of("--" + name, i + ".25"));
+            }
+            case 4 -> {
+                parser.addParameter(new BolParameter(false, name, shortName, "a switch"));
+                if (provided) argv.addAll(List.of("--" + name, "true"));
+            }
+            case 5 -> {
+                parser.addParameter(new ChrParameter(name, shortName, "a character", false));
+                if (provided) argv.addAll(List.of("--" + name, "c"));
+            }
+            case 6 -> {
+                parser.addParameter(new PthParameter(name, shortName, "a path", false, false));
+                if (provided) argv.addAll(List.of("--" + name, "/tmp/file" + i));
+            }
+            default -> {
+                parser.addParameter(new IntArrParameter(name, shortName, "integers", false));
+                if (provided) argv.addAll(List.of("--" + name, "1", "2", "3"));
+            }
+        }
+    }
+
+    private static long peakRssKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmHWM:")) return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        } catch (IOException | RuntimeException e) {
+            // no /proc on this platform
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,284 @@
+package benchmarks;
+
+import ArgsParser.ArgsParser;
+import ArgsParser.Parameter;
+import ArgsParser.ParameterTypes.Range;
+import ArgsParser.ParseResult;
+import benchmarks.SpecGenerator.Built;
+import benchmarks.SpecGenerator.ParameterSpec;
+import benchmarks.SpecGenerator.Spec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Differential fuzzer: parses generated command lines against generated specifications with the frozen
+ * {@link ReferenceParser} and with every parse engine of {@link #engines()}, and reports every command line on
+ * which an engine returns other values or throws another exception than the reference.
+ *
+ * <p>
+ * Each specification gets valid and invalid command lines of the {@link ArgvGenerator} and random sequences of
+ * flags, values, commands, help flags, short flag clusters and unusual numbers. An engine keeps its parser over all
+ * command lines of a specification, so state leaking from one parse into the next is found as well.
+ * </p>
+ * Run the main method, optionally with the number of specifications and the seed as arguments. It prints the
+ * divergences and the throughput of every engine.
+ */
+public class DifferentialFuzz {
+
+    private static final int DEFAULT_SPECS = 2_000;
+    private static final int COMMAND_LINES_PER_SPEC = 40;
+    private static final int MAX_PRINTED_DIVERGENCES = 20;
+    private static final String[] UNUSUAL_TOKENS = {"+5", "007", "1e3", "0x10", "NaN", "Infinity", "1_000", "",
+                                                    " 5", "5.", ".5", "9999999999", "--", "-", "=", "-=5", "--=5"};
+
+    /**
+     * Result of one parse: the simple name of the thrown exception, or the provided parameters by full flag with
+     * their {@link #normalize(Object) normalized} values and the provided commands.
+     */
+    public record Outcome(String failure, Map<String, Object> values, Set<String> commands) {
+
+        public static Outcome failed(String failure) {
+            return new Outcome(failure, Map.of(), Set.of());
+        }
+
+        /**
+         * @return the value in a comparable form: arrays as lists and ranges as {@code start..end:step}
+         */
+        public static Object normalize(Object value) {
+            if (value instanceof Object[] array) return normalize(Arrays.asList(array));
+            if (value instanceof List<?> list) return list.stream().map(Outcome::normalize).toList();
+            if (value instanceof Range range) return range.getStart() + ".." + range.getEnd() + ":" + range.getStep();
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return failure != null ? failure : values + " " + commands;
+        }
+    }
+
+    /**
+     * A parse engine under test, holding one parser of a specification.
+     */
+    @FunctionalInterface
+    public interface Engine {
+        Outcome parse(String[] args);
+    }
+
+    /**
+     * @param engine name of the diverging engine
+     */
+    public record Divergence(String engine, Spec spec, String[] args, Outcome expected, Outcome actual) {
+        @Override
+        public String toString() {
+            return engine + ": " + ArgvGenerator.describe(args) + "\n  expected " + expected + "\n  actual   " + actual;
+        }
+    }
+
+    /**
+     * @return the engines compared with the reference by name, a new engine is added here
+     */
+    public static Map<String, Function<Spec, Engine>> engines() {
+        Map<String, Function<Spec, Engine>> engines = new LinkedHashMap<>();
+        engines.put("parseUnchecked", spec -> args -> {
+            // the classic one-shot parse, a new parser per command line
+            Built built = spec.build();
+            try {
+                built.parser().parseUnchecked(args);
+            } catch (Exception e) {
+                return Outcome.failed(e.getClass().getSimpleName());
+            }
+            Map<String, Object> values = new TreeMap<>();
+            for (int i = 0; i < built.parameters().size(); i++) {
+                Parameter<?> parameter = built.parameters().get(i);
+                if (parameter.isProvided()) {
+                    values.put(spec.parameters().get(i).fullFlag(), Outcome.normalize(parameter.getArgument()));
+                }
+            }
+            Set<String> commands = new TreeSet<>();
+            for (int i = 0; i < built.commands().size(); i++) {
+                if (built.commands().get(i).isProvided()) commands.add(spec.commands().get(i));
+            }
+            return new Outcome(null, values, commands);
+        });
+        engines.put("parseFresh", resultEngine(ArgsParser::parseFresh));
+        engines.put("parseReusing", resultEngine(ArgsParser::parseReusing));
+        engines.put("parseIncremental", resultEngine(ArgsParser::parseIncremental));
+        return engines;
+    }
+
+    @FunctionalInterface
+    private interface ResultParse {
+        ParseResult parse(ArgsParser parser, String[] args) throws Exception;
+    }
+
+    private static Function<Spec, Engine> resultEngine(ResultParse parse) {
+        return spec -> {
+            Built built = spec.build();
+            return args -> {
+                ParseResult result;
+                try {
+                    result = parse.parse(built.parser(), args);
+                } catch (Exception e) {
+                    return Outcome.failed(e.getClass().getSimpleName());
+                }
+                Map<String, Object> values = new TreeMap<>();
+                for (int i = 0; i < built.parameters().size(); i++) {
+                    Parameter<?> parameter = built.parameters().get(i);
+                    if (result.isProvided(parameter)) {
+                        values.put(spec.parameters().get(i).fullFlag(), Outcome.normalize(result.get(parameter)));
+                    }
+                }
+                Set<String> commands = new TreeSet<>();
+                for (int i = 0; i < built.commands().size(); i++) {
+                    if (result.isProvided(built.commands().get(i))) commands.add(spec.commands().get(i));
+                }
+                return new Outcome(null, values, commands);
+            };
+        };
+    }
+
+    private final Map<String, Function<Spec, Engine>> engines;
+    private final Map<String, Long> nanos = new LinkedHashMap<>();
+    private long parses;
+
+    /**
+     * @param engines the engines to compare with the reference
+     */
+    public DifferentialFuzz(Map<String, Function<Spec, Engine>> engines) {
+        this.engines = engines;
+        nanos.put("reference", 0L);
+        for (String name : engines.keySet()) nanos.put(name, 0L);
+    }
+
+    /**
+     * Fuzzes the given number of specifications.
+     *
+     * @param seed seed of the first specification, the following ones use the next seeds
+     * @param specs number of specifications
+     * @return all divergences from the reference
+     */
+    public List<Divergence> run(long seed, int specs) {
+        List<Divergence> divergences = new ArrayList<>();
+        for (long specSeed = seed; specSeed < seed + specs; specSeed++) {
+            Random random = new Random(specSeed);
+            Spec spec = new SpecGenerator(specSeed).mandatoryRatio(random.nextDouble() * 0.3)
+                                                   .letterShortFlags(random.nextBoolean())
+                                                   .generate(1 + random.nextInt(30), random.nextInt(6));
+            List<String[]> commandLines = commandLines(spec, random);
+
+            ReferenceParser reference = new ReferenceParser(spec);
+            List<Outcome> expected = new ArrayList<>(commandLines.size());
+            long start = System.nanoTime();
+            for (String[] args : commandLines) expected.add(reference.parse(args));
+            nanos.merge("reference", System.nanoTime() - start, Long::sum);
+
+            for (Map.Entry<String, Function<Spec, Engine>> entry : engines.entrySet()) {
+                Engine engine = entry.getValue().apply(spec);
+                for (int i = 0; i < commandLines.size(); i++) {
+                    String[] args = commandLines.get(i).clone();
+                    start = System.nanoTime();
+                    Outcome actual = engine.parse(args);
+                    nanos.merge(entry.getKey(), System.nanoTime() - start, Long::sum);
+                    if (!actual.equals(expected.get(i))) {
+                        divergences.add(new Divergence(entry.getKey(), spec, commandLines.get(i), expected.get(i), actual));
+                    }
+                }
+            }
+            parses += commandLines.size();
+        }
+        return divergences;
+    }
+
+    /**
+     * @return parses per second of the reference and every engine over all runs
+     */
+    public Map<String, Double> throughput() {
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        nanos.forEach((name, elapsed) -> throughput.put(name, elapsed == 0 ? 0 : parses * 1e9 / elapsed));
+        return throughput;
+    }
+
+    private static List<String[]> commandLines(Spec spec, Random random) {
+        ArgvGenerator generator = new ArgvGenerator(spec, random.nextLong());
+        List<String[]> commandLines = new ArrayList<>(COMMAND_LINES_PER_SPEC);
+        for (int i = 0; i < COMMAND_LINES_PER_SPEC; i++) {
+            int optional = random.nextInt(6);
+            int arrayValues = random.nextInt(4);
+            switch (i % 4) {
+                case 0 -> commandLines.add(generator.valid(optional, arrayValues));
+                case 1 -> commandLines.add(generator.invalid(optional, arrayValues).args());
+                default -> commandLines.add(randomTokens(spec, random));
+            }
+        }
+        return commandLines;
+    }
+
+    /**
+     * @return up to 10 tokens drawn from flags, values, commands and corner cases of the specification
+     */
+    private static String[] randomTokens(Spec spec, Random random) {
+        List<ParameterSpec> parameters = spec.parameters();
+        String[] args = new String[random.nextInt(11)];
+        for (int i = 0; i < args.length; i++) {
+            ParameterSpec parameter = parameters.get(random.nextInt(parameters.size()));
+            args[i] = switch (random.nextInt(10)) {
+                case 0, 1 -> "--" + parameter.fullFlag();
+                case 2 -> "-" + parameter.shortFlag();
+                case 3 -> "--" + parameter.fullFlag() + "=" + value(parameter, random);
+                case 4, 5 -> value(parameter, random);
+                case 6 -> spec.commands().isEmpty() ? "--undefined"
+                                                    : random.nextBoolean() ? spec.commands().get(0) : spec.shortCommand(0);
+                case 7 -> random.nextBoolean() ? "-h" : "--help";
+                case 8 -> cluster(spec, random);
+                default -> UNUSUAL_TOKENS[random.nextInt(UNUSUAL_TOKENS.length)];
+            };
+        }
+        return args;
+    }
+
+    private static String value(ParameterSpec parameter, Random random) {
+        String invalid = parameter.type().invalidValue();
+        return invalid != null && random.nextInt(5) == 0 ? invalid : parameter.type().value(random);
+    }
+
+    /**
+     * @return a dash followed by 2 or 3 letters, mostly single letter short flags of the specification
+     */
+    private static String cluster(Spec spec, Random random) {
+        StringBuilder cluster = new StringBuilder("-");
+        int letters = 2 + random.nextInt(2);
+        for (int i = 0; i < letters; i++) {
+            ParameterSpec parameter = spec.parameters().get(random.nextInt(spec.parameters().size()));
+            cluster.append(parameter.shortFlag().length() == 1 && random.nextInt(4) > 0
+                           ? parameter.shortFlag().charAt(0) : (char) ('a' + random.nextInt(26)));
+        }
+        return cluster.toString();
+    }
+
+    public static void main(String[] args) {
+        int specs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SPECS;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+        DifferentialFuzz fuzz = new DifferentialFuzz(engines());
+        List<Divergence> divergences = fuzz.run(seed, specs);
+        for (int i = 0; i < Math.min(MAX_PRINTED_DIVERGENCES, divergences.size()); i++) {
+            System.out.println(divergences.get(i));
+        }
+        System.out.printf("%d specifications, %d command lines, %d divergences%n",
+                          specs, fuzz.parses, divergences.size());
+
+        double reference = fuzz.throughput().get("reference");
+        fuzz.throughput().forEach((name, perSecond) -> System.out.printf("%-18s %12.0f parses/s %8.2fx reference%n",
+                                                                         name, perSecond, perSecond / reference));
+    }
+}
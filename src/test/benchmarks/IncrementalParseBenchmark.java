@@ -0,0 +1,60 @@
+package benchmarks;
+
+import ArgsParser.ArgsParser;
+import ArgsParser.ParameterTypes.IntParameter;
+import ArgsParser.ParameterTypes.PthArrParameter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compares full re-parses with incremental re-parses of command lines that only differ in one cheap token,
+ * while an array of checked paths stays the same, as in interactive or watch modes.
+ * Run the main method, the results are printed in us per parse.
+ */
+public class IncrementalParseBenchmark {
+
+    private static final int FILES = 200;
+    private static final int PARSES = 2_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("incremental-benchmark");
+        String[] argv = new String[FILES + 3];
+        argv[0] = "--inputs";
+        for (int i = 0; i < FILES; i++) argv[i + 1] = Files.createFile(directory.resolve("file" + i)).toString();
+        argv[FILES + 1] = "--threads";
+
+        ArgsParser parser = new ArgsParser();
+        parser.addParameter(new PthArrParameter("inputs", "i", "", true, true));
+        IntParameter threads = parser.addParameter(new IntParameter("threads", "t", "", true));
+
+        long sink = 0;
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < PARSES; i++) {
+                    argv[FILES + 2] = Integer.toString(i & 15);
+                    sink += parser.parseFresh(argv).getInt(threads);
+                }
+                long fresh = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (int i = 0; i < PARSES; i++) {
+                    argv[FILES + 2] = Integer.toString(i & 15);
+                    sink += parser.parseIncremental(argv).getInt(threads);
+                }
+                long incremental = System.nanoTime() - start;
+
+                if (round == ROUNDS - 1) {
+                    System.out.printf("parseFresh        %8.2f us/parse%n", fresh / 1000.0 / PARSES);
+                    System.out.printf("parseIncremental  %8.2f us/parse%n", incremental / 1000.0 / PARSES);
+                }
+            }
+        } finally {
+            for (int i = 0; i < FILES; i++) Files.delete(directory.resolve("file" + i));
+            Files.delete(directory);
+        }
+        if (sink == 0) System.out.println();
+    }
+}
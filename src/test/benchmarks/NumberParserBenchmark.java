@@ -0,0 +1,86 @@
+package benchmarks;
+
+import ArgsParser.ParameterTypes.NumberParser;
+
+import java.util.Random;
+
+/**
+ * Compares the {@link NumberParser} with {@link Integer#parseInt(String)} and {@link Double#parseDouble(String)}
+ * for valid and invalid input. Run the main method, the results are printed in ns per value.
+ */
+public class NumberParserBenchmark {
+
+    private static final int VALUES = 1_000_000;
+    private static final int ROUNDS = 10;
+
+    private static long sink = 0;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        String[] ints = new String[VALUES];
+        String[] doubles = new String[VALUES];
+        String[] invalid = new String[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            ints[i] = Integer.toString(random.nextInt());
+            doubles[i] = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+            invalid[i] = ints[i] + "x";
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            boolean print = round == ROUNDS - 1;
+            report(print, "valid int    / Integer.parseInt", measure(() -> jdkInts(ints)));
+            report(print, "valid int    / NumberParser    ", measure(() -> fastInts(ints)));
+            report(print, "valid double / Double.parseDbl ", measure(() -> jdkDoubles(doubles)));
+            report(print, "valid double / NumberParser    ", measure(() -> fastDoubles(doubles)));
+            report(print, "invalid int  / Integer.parseInt", measure(() -> jdkInts(invalid)));
+            report(print, "invalid int  / NumberParser    ", measure(() -> fastInts(invalid)));
+            report(print, "invalid dbl  / Double.parseDbl ", measure(() -> jdkDoubles(invalid)));
+            report(print, "invalid dbl  / NumberParser    ", measure(() -> fastDoubles(invalid)));
+        }
+        if (sink == 1) System.out.println();
+    }
+
+    private static long measure(Runnable benchmark) {
+        long start = System.nanoTime();
+        benchmark.run();
+        return System.nanoTime() - start;
+    }
+
+    private static void report(boolean print, String name, long nanos) {
+        if (print) System.out.printf("%s %8.1f ns/value%n", name, (double) nanos / VALUES);
+    }
+
+    private static void jdkInts(String[] values) {
+        for (String value : values) {
+            try {
+                sink += Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                sink--;
+            }
+        }
+    }
+
+    private static void fastInts(String[] values) {
+        for (String value : values) {
+            long result = NumberParser.parseInt(value, 0, value.length());
+            sink += result == NumberParser.INVALID_INT ? -1 : result;
+        }
+    }
+
+    private static void jdkDoubles(String[] values) {
+        for (String value : values) {
+            try {
+                sink += Double.doubleToRawLongBits(Double.parseDouble(value));
+            } catch (NumberFormatException e) {
+                sink--;
+            }
+        }
+    }
+
+    private static void fastDoubles(String[] values) {
+        for (String value : values) {
+            long bits = NumberParser.parseDoubleBits(value, 0, value.length());
+            sink += bits == NumberParser.INVALID_DOUBLE_BITS ? -1 : bits;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package benchmarks;
+
+import ArgsParser.ArgsExceptions.*;
+import ArgsParser.CalledForHelpNotification;
+import ArgsParser.ParameterTypes.Range;
+import benchmarks.DifferentialFuzz.Outcome;
+import benchmarks.SpecGenerator.Spec;
+import benchmarks.SpecGenerator.Type;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Frozen reference of the parse semantics of {@link ArgsParser.ArgsParser}: a deliberately plain transcription of
+ * {@code parseUnchecked} (help calls, the initial token, {@code parseArguments}, mandatory parameters and toggles)
+ * that only works on the data of a {@link Spec}. Values are converted with the JDK instead of the parameter types.
+ *
+ * <p>
+ * It must not follow optimizations of the parser, only changes of its semantics. The only part that is not modelled
+ * is reading values with {@code --values-from}, which the fuzzer does not generate.
+ * </p>
+ */
+public final class ReferenceParser {
+
+    private static final String VALUES_FROM = "--values-from";
+
+    private final Spec spec;
+    private final Map<String, Integer> flags = new HashMap<>();
+    private final Map<Character, Integer> letterFlags = new HashMap<>();
+    private final Map<String, Integer> commands = new HashMap<>();
+
+    // state of the current parse, indexed like the parameters and commands of the spec
+    private Object[] values;
+    private boolean[] provided;
+    private boolean[] commandProvided;
+
+    public ReferenceParser(Spec spec) {
+        this.spec = spec;
+        for (int i = 0; i < spec.parameters().size(); i++) {
+            SpecGenerator.ParameterSpec parameter = spec.parameters().get(i);
+            flags.put("--" + parameter.fullFlag(), i);
+            flags.put("-" + parameter.shortFlag(), i);
+            if (parameter.shortFlag().length() == 1) letterFlags.put(parameter.shortFlag().charAt(0), i);
+        }
+        for (int i = 0; i < spec.commands().size(); i++) {
+            commands.put(spec.commands().get(i), i);
+            commands.put(spec.shortCommand(i), i);
+        }
+    }
+
+    /**
+     * @param args the command line
+     * @return the provided parameters and commands, or the simple name of the exception the parse has to throw
+     */
+    public Outcome parse(String[] args) {
+        values = new Object[spec.parameters().size()];
+        provided = new boolean[values.length];
+        commandProvided = new boolean[spec.commands().size()];
+        try {
+            run(args);
+        } catch (Failure failure) {
+            return Outcome.failed(failure.getMessage());
+        }
+
+        Map<String, Object> providedValues = new TreeMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if (provided[i]) providedValues.put(spec.parameters().get(i).fullFlag(), Outcome.normalize(values[i]));
+        }
+        TreeSet<String> providedCommands = new TreeSet<>();
+        for (int i = 0; i < commandProvided.length; i++) {
+            if (commandProvided[i]) providedCommands.add(spec.commands().get(i));
+        }
+        return new Outcome(null, providedValues, providedCommands);
+    }
+
+    private void run(String[] args) throws Failure {
+        if (args.length == 0) {
+            if (spec.parameters().stream().anyMatch(SpecGenerator.ParameterSpec::mandatory)) {
+                throw new Failure(NoArgumentsProvidedArgsException.class);
+            }
+            return;
+        }
+
+        // help is only valid alone or directly after a single flag or command
+        if (args.length == 1 && isHelp(args[0])) throw new Failure(CalledForHelpNotification.class);
+        if (args.length == 2 && isHelp(args[1])) {
+            if (flags.containsKey(args[0]) || commands.containsKey(args[0])) {
+                throw new Failure(CalledForHelpNotification.class);
+            }
+            throw new Failure(UnknownFlagArgsException.class);
+        }
+
+        String first = args[0];
+        if (!flags.containsKey(first) && !commands.containsKey(first) && !isHelp(first)
+            && inlineParameter(first) < 0 && !isCluster(first)) {
+            throw new Failure(UnknownFlagArgsException.class);
+        }
+
+        int current = -1;
+        boolean lastWasFlag = false;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            boolean valuesFrom = VALUES_FROM.equals(arg);
+            boolean isFlag = arg.startsWith("-") && !valuesFrom;
+            Integer known = flags.get(arg);
+
+            if (isFlag && known == null && !isHelp(arg)) {
+                int inline = inlineParameter(arg);
+                if (inline >= 0 || isCluster(arg)) {
+                    if (lastWasFlag) throw new Failure(MissingArgArgsException.class);
+                    if (inline >= 0) {
+                        if (provided[inline]) throw new Failure(FlagAlreadyProvidedArgsException.class);
+                        int last = isArray(inline) ? lastArrayValue(args, i) : i;
+                        setValue(inline, arg.substring(arg.indexOf('=') + 1));
+                        for (int k = i + 1; k <= last; k++) setValue(inline, args[k]);
+                        provided[inline] = true;
+                        i = last;
+                        current = inline;
+                        lastWasFlag = false;
+                    } else {
+                        for (int c = 1; c < arg.length() - 1; c++) setSwitch(letterFlags.get(arg.charAt(c)));
+                        current = letterFlags.get(arg.charAt(arg.length() - 1));
+                        if (provided[current]) throw new Failure(FlagAlreadyProvidedArgsException.class);
+                        boolean valueFollows = i + 1 < args.length && !args[i + 1].startsWith("-")
+                                               && !commands.containsKey(args[i + 1]);
+                        lastWasFlag = valueFollows || !isSwitch(current);
+                        if (!lastWasFlag) setSwitch(current);
+                        else if (i == args.length - 1) throw new Failure(MissingArgArgsException.class);
+                    }
+                    continue;
+                }
+            }
+
+            if (isFlag) current = known != null ? known : -1;
+            boolean isCommand = commands.containsKey(arg);
+            boolean isLast = i == args.length - 1;
+            boolean argumentSet = current >= 0 && values[current] != null;
+            boolean alreadyProvided = known != null && provided[current];
+            boolean helpAtWrongPosition = isHelp(arg) && (i > 1 || (i == 0 && args.length == 2));
+
+            if (helpAtWrongPosition) {
+                throw new Failure(HelpAtWrongPositionArgsException.class);
+            } else if (valuesFrom) {
+                if (!lastWasFlag || current < 0 || !supportsValuesFrom(current)) {
+                    throw new Failure(ValuesFromAtWrongPositionArgsException.class);
+                }
+                if (isLast) throw new Failure(MissingArgArgsException.class);
+                throw new UnsupportedOperationException("--values-from is not modelled");
+            } else if (isFlag && known == null) {
+                throw new Failure(UnknownFlagArgsException.class);
+            } else if (isFlag && alreadyProvided) {
+                throw new Failure(FlagAlreadyProvidedArgsException.class);
+            } else if (argumentSet && !isFlag && !isCommand) {
+                throw new Failure(TooManyArgumentsArgsException.class);
+            } else if (isFlag && lastWasFlag) {
+                throw new Failure(MissingArgArgsException.class);
+            } else if (isLast && isFlag) {
+                throw new Failure(MissingArgArgsException.class);
+            } else if (isCommand) {
+                commandProvided[commands.get(arg)] = true;
+            } else if (lastWasFlag && current >= 0) {
+                int last = isArray(current) ? lastArrayValue(args, i) : i;
+                for (int k = i; k <= last; k++) setValue(current, args[k]);
+                provided[current] = true;
+                i = last;
+            }
+            lastWasFlag = isFlag;
+        }
+
+        for (int i = 0; i < provided.length; i++) {
+            if (spec.parameters().get(i).mandatory() && !provided[i]) {
+                throw new Failure(MandatoryArgNotProvidedArgsException.class);
+            }
+        }
+        for (int[] toggle : spec.toggles()) {
+            int providedCommands = 0;
+            for (int command : toggle) if (commandProvided[command]) providedCommands++;
+            if (providedCommands > 1) throw new Failure(ToggleArgsException.class);
+        }
+    }
+
+    private static boolean isHelp(String arg) {
+        return "--help".equals(arg) || "-h".equals(arg);
+    }
+
+    private Type type(int parameter) {
+        return spec.parameters().get(parameter).type();
+    }
+
+    private boolean isArray(int parameter) {
+        return type(parameter).isArray();
+    }
+
+    private boolean isSwitch(int parameter) {
+        return type(parameter) == Type.BOL;
+    }
+
+    private boolean supportsValuesFrom(int parameter) {
+        return type(parameter) == Type.INT_ARR || type(parameter) == Type.DBL_ARR;
+    }
+
+    /**
+     * @return the parameter of a {@code --flag=value} token, -1 if the token has no such form
+     */
+    private int inlineParameter(String arg) {
+        if (!arg.startsWith("-")) return -1;
+        int separator = arg.indexOf('=');
+        if (separator <= 1) return -1;
+        Integer parameter = flags.get(arg.substring(0, separator));
+        return parameter != null ? parameter : -1;
+    }
+
+    private boolean isCluster(String arg) {
+        if (arg.length() < 3 || arg.charAt(0) != '-' || arg.charAt(1) == '-') return false;
+        for (int i = 1; i < arg.length(); i++) {
+            Integer parameter = letterFlags.get(arg.charAt(i));
+            if (parameter == null) return false;
+            if (i < arg.length() - 1 && !isSwitch(parameter)) return false;
+        }
+        return true;
+    }
+
+    private int lastArrayValue(String[] args, int i) {
+        while (i + 1 < args.length && !args[i + 1].startsWith("-") && !commands.containsKey(args[i + 1])) i++;
+        return i;
+    }
+
+    private void setSwitch(int parameter) throws Failure {
+        if (provided[parameter]) throw new Failure(FlagAlreadyProvidedArgsException.class);
+        setValue(parameter, "true");
+        provided[parameter] = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setValue(int parameter, String token) throws Failure {
+        Object value = convert(type(parameter), token);
+        if (!isArray(parameter)) {
+            values[parameter] = value;
+            return;
+        }
+        if (values[parameter] == null) values[parameter] = new ArrayList<>();
+        ((List<Object>) values[parameter]).add(value);
+    }
+
+    private static Object convert(Type type, String token) throws Failure {
+        try {
+            return switch (type) {
+                case STR, STR_ARR -> token;
+                case INT, INT_ARR -> Integer.valueOf(token);
+                case DBL, DBL_ARR -> Double.valueOf(token);
+                case FLT, FLT_ARR -> Float.valueOf(token);
+                case BOL, BOL_ARR -> Boolean.parseBoolean(token);
+                case CHR, CHR_ARR -> {
+                    if (token.isEmpty()) throw new Failure(InvalidArgTypeArgsException.class);
+                    yield token.charAt(0);
+                }
+                case PTH, PTH_ARR -> Path.of(token);
+                case RNG -> range(token);
+            };
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            // includes NumberFormatException and InvalidPathException
+            throw new Failure(InvalidArgTypeArgsException.class);
+        }
+    }
+
+    /**
+     * Ranges are {@code start..end[:step]}, {@code start-end[:step]} or a single value, the step defaults to the
+     * direction from start to end.
+     */
+    private static Range range(String token) throws Failure {
+        int colon = token.indexOf(':');
+        String bounds = colon < 0 ? token : token.substring(0, colon);
+        int dots = bounds.indexOf("..");
+        int separator = dots >= 0 ? dots : (bounds.length() > 1 ? bounds.indexOf('-', 1) : -1);
+        if (separator < 0) {
+            if (colon >= 0) throw new Failure(InvalidArgTypeArgsException.class);
+            long value = Long.parseLong(token);
+            return new Range(value, value, 1);
+        }
+        long start = Long.parseLong(bounds.substring(0, separator));
+        long end = Long.parseLong(bounds.substring(separator + (dots >= 0 ? 2 : 1)));
+        long step = colon < 0 ? (end < start ? -1 : 1) : Long.parseLong(token.substring(colon + 1));
+        return new Range(start, end, step);
+    }
+
+    /**
+     * Ends a parse with the exception the parser has to throw, carried as its simple name.
+     */
+    private static final class Failure extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private Failure(Class<? extends Throwable> type) {
+            super(type.getSimpleName(), null, false, false);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package benchmarks;
+
+import ArgsParser.ArgsParser;
+import benchmarks.SpecGenerator.Spec;
+import benchmarks.SpecGenerator.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sweeps the size of generated specifications and command lines to show how parsing scales: the number of
+ * parameters of the specification, the number of provided parameters and the number of values per array parameter.
+ * Each point parses a corpus of generated valid command lines with {@link ArgsParser#parseFresh(String[])}.
+ *
+ * <p>
+ * Run the main method, every point is printed as one CSV line {@code sweep,x,tokens,parses/s,ns/token,relative}.
+ * {@code relative} is the ns per token compared to the first point of the sweep, it stays flat for linear costs
+ * and grows for superlinear ones.
+ * </p>
+ */
+public class ScalingBenchmark {
+
+    private static final int CORPUS = 32;
+    private static final long WARMUP_NANOS = 300_000_000L;
+    private static final long MEASURE_NANOS = 700_000_000L;
+
+    private static long sink;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("sweep,x,tokens,parses/s,ns/token,relative");
+
+        // parameters of the specification, 10 of them provided
+        double first = 0;
+        for (int parameters : new int[]{10, 100, 1_000, 10_000}) {
+            Spec spec = new SpecGenerator(parameters).mandatoryRatio(0).generate(parameters, 8);
+            first = report("parameters", parameters, spec, 10, 4, first);
+        }
+
+        // provided parameters of a specification with 2,000 parameters
+        first = 0;
+        Spec wide = new SpecGenerator(2_000).mandatoryRatio(0).generate(2_000, 8);
+        for (int provided : new int[]{1, 10, 100, 1_000}) {
+            first = report("provided", provided, wide, provided, 1, first);
+        }
+
+        // values per array of a specification with one parameter per array type, all provided
+        first = 0;
+        List<Type> arrays = new ArrayList<>();
+        for (Type type : Type.values()) if (type.isArray()) arrays.add(type);
+        Spec arraySpec = new SpecGenerator(1).mandatoryRatio(0).generate(arrays, 0);
+        for (int values : new int[]{1, 10, 100, 1_000, 10_000}) {
+            first = report("arrayValues", values, arraySpec, arrays.size(), values, first);
+        }
+
+        if (sink == 0) System.out.println();
+    }
+
+    /**
+     * Measures one point and prints it.
+     *
+     * @param first ns per token of the first point of the sweep, 0 if this is the first point
+     * @return ns per token of the first point of the sweep
+     */
+    private static double report(String sweep, int x, Spec spec, int provided, int arrayValues, double first)
+            throws Exception {
+        ArgsParser parser = spec.newParser();
+        ArgvGenerator generator = new ArgvGenerator(spec, x);
+        String[][] corpus = new String[CORPUS][];
+        long tokens = 0;
+        for (int i = 0; i < CORPUS; i++) {
+            corpus[i] = generator.valid(provided, arrayValues);
+            tokens += corpus[i].length;
+        }
+
+        run(parser, corpus, WARMUP_NANOS);
+        long start = System.nanoTime();
+        long rounds = run(parser, corpus, MEASURE_NANOS);
+        long elapsed = System.nanoTime() - start;
+
+        double parsesPerSecond = rounds * CORPUS * 1e9 / elapsed;
+        double nsPerToken = (double) elapsed / (rounds * tokens);
+        if (first == 0) first = nsPerToken;
+        System.out.printf("%s,%d,%d,%.0f,%.2f,%.2f%n", sweep, x, tokens / CORPUS, parsesPerSecond, nsPerToken,
+                          nsPerToken / first);
+        return first;
+    }
+
+    /**
+     * Parses the whole corpus until the time is over.
+     *
+     * @return number of times the corpus was parsed
+     */
+    private static long run(ArgsParser parser, String[][] corpus, long nanos) throws Exception {
+        long end = System.nanoTime() + nanos;
+        long rounds = 0;
+        do {
+            for (String[] args : corpus) sink += parser.parseFresh(args).size();
+            rounds++;
+        } while (System.nanoTime() < end);
+        return rounds;
+    }
+}
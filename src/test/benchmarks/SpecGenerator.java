@@ -0,0 +1,224 @@
+package benchmarks;
+
+import ArgsParser.ArgsParser;
+import ArgsParser.Command;
+import ArgsParser.Parameter;
+import ArgsParser.ParameterTypes.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates random but valid {@link ArgsParser} specifications for benchmarks and fuzzing: parameters of all
+ * parameter types, some of them mandatory, and commands, some of them in toggles.
+ * Specifications are plain data, {@link Spec#newParser()} builds a parser from them, so the same specification can
+ * be built any number of times. Generation is deterministic for a seed.
+ */
+public final class SpecGenerator {
+
+    /**
+     * The parameter types with the tokens the generators use for them. No generated token starts with {@code -}.
+     */
+    public enum Type {
+        STR(false), INT(false), DBL(false), FLT(false), BOL(false), CHR(false), PTH(false), RNG(false),
+        STR_ARR(true), INT_ARR(true), DBL_ARR(true), FLT_ARR(true), BOL_ARR(true), CHR_ARR(true), PTH_ARR(true);
+
+        private final boolean array;
+
+        Type(boolean array) {
+            this.array = array;
+        }
+
+        public boolean isArray() {
+            return array;
+        }
+
+        /**
+         * @return a new parameter of this type, paths are not checked
+         */
+        public Parameter<?> create(String fullFlag, String shortFlag, boolean mandatory) {
+            return switch (this) {
+                case STR -> new StrParameter(fullFlag, shortFlag, "a string", mandatory);
+                case INT -> new IntParameter(fullFlag, shortFlag, "an integer", mandatory);
+                case DBL -> new DblParameter(fullFlag, shortFlag, "a double", mandatory);
+                case FLT -> new FltParameter(fullFlag, shortFlag, "a float", mandatory);
+                case BOL -> new BolParameter(fullFlag, shortFlag, "a boolean", mandatory);
+                case CHR -> new ChrParameter(fullFlag, shortFlag, "a character", mandatory);
+                case PTH -> new PthParameter(fullFlag, shortFlag, "a path", mandatory, false);
+                case RNG -> new RngParameter(fullFlag, shortFlag, "a range", mandatory);
+                case STR_ARR -> new StrArrParameter(fullFlag, shortFlag, "strings", mandatory);
+                case INT_ARR -> new IntArrParameter(fullFlag, shortFlag, "integers", mandatory);
+                case DBL_ARR -> new DblArrParameter(fullFlag, shortFlag, "doubles", mandatory);
+                case FLT_ARR -> new FltArrParameter(fullFlag, shortFlag, "floats", mandatory);
+                case BOL_ARR -> new BolArrParameter(fullFlag, shortFlag, "booleans", mandatory);
+                case CHR_ARR -> new ChrArrParameter(fullFlag, shortFlag, "characters", mandatory);
+                case PTH_ARR -> new PthArrParameter(fullFlag, shortFlag, "paths", mandatory, false);
+            };
+        }
+
+        /**
+         * @return a random token that converts to a value of this type
+         */
+        public String value(Random random) {
+            return switch (this) {
+                case STR, STR_ARR -> "text" + random.nextInt(1_000);
+                case INT, INT_ARR -> Integer.toString(random.nextInt(100_000));
+                case DBL, DBL_ARR -> random.nextInt(1_000) + "." + random.nextInt(1_000);
+                case FLT, FLT_ARR -> random.nextInt(100) + "." + random.nextInt(100);
+                case BOL, BOL_ARR -> random.nextBoolean() ? "true" : "false";
+                case CHR, CHR_ARR -> String.valueOf((char) ('a' + random.nextInt(26)));
+                case PTH, PTH_ARR -> "/tmp/input" + random.nextInt(1_000);
+                case RNG -> {
+                    int start = random.nextInt(100);
+                    yield start + ".." + (start + random.nextInt(100)) + (random.nextBoolean() ? ":" + (1 + random.nextInt(5)) : "");
+                }
+            };
+        }
+
+        /**
+         * @return a token that cannot be converted to a value of this type, null if every token converts
+         */
+        public String invalidValue() {
+            return switch (this) {
+                case INT, INT_ARR, DBL, DBL_ARR, FLT, FLT_ARR, RNG -> "x1";
+                case CHR, CHR_ARR -> "";
+                default -> null;
+            };
+        }
+    }
+
+    /**
+     * @param fullFlag full flag without leading dashes
+     * @param shortFlag short flag without leading dash
+     */
+    public record ParameterSpec(Type type, String fullFlag, String shortFlag, boolean mandatory) {
+    }
+
+    /**
+     * @param commands full names of the commands, the short name of the i-th command is {@code c<i>}
+     * @param toggles indices of the commands of each toggle, a command is in at most one toggle
+     */
+    public record Spec(List<ParameterSpec> parameters, List<String> commands, List<int[]> toggles) {
+
+        public ArgsParser newParser() {
+            return build().parser();
+        }
+
+        /**
+         * @return a new parser together with its parameters and commands, in the order of this specification
+         */
+        public Built build() {
+            ArgsParser parser = new ArgsParser();
+            List<Parameter<?>> added = new ArrayList<>(parameters.size());
+            for (ParameterSpec parameter : parameters) {
+                added.add(parser.addParameter(parameter.type().create(parameter.fullFlag(), parameter.shortFlag(),
+                                                                      parameter.mandatory())));
+            }
+            List<Command> addedCommands = new ArrayList<>(commands.size());
+            for (int i = 0; i < commands.size(); i++) {
+                addedCommands.add(parser.addCommand(new Command(commands.get(i), shortCommand(i), "a command")));
+            }
+            for (int[] toggle : toggles) {
+                Command[] toggled = new Command[toggle.length];
+                for (int i = 0; i < toggle.length; i++) toggled[i] = addedCommands.get(toggle[i]);
+                parser.toggle(toggled);
+            }
+            return new Built(parser, List.copyOf(added), List.copyOf(addedCommands));
+        }
+
+        public String shortCommand(int index) {
+            return "c" + index;
+        }
+    }
+
+    /**
+     * A parser built from a {@link Spec}.
+     */
+    public record Built(ArgsParser parser, List<Parameter<?>> parameters, List<Command> commands) {
+    }
+
+    private static final String SHORT_FLAG_LETTERS = "abcdefgijklmnopqrstuvwxyz";
+
+    private final Random random;
+    private double mandatoryRatio = 0.1;
+    private double toggleRatio = 0.5;
+    private boolean letterShortFlags;
+
+    public SpecGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * @param ratio share of the parameters that are mandatory
+     * @return this generator
+     */
+    public SpecGenerator mandatoryRatio(double ratio) {
+        mandatoryRatio = ratio;
+        return this;
+    }
+
+    /**
+     * @param ratio share of the commands that are part of a toggle
+     * @return this generator
+     */
+    public SpecGenerator toggleRatio(double ratio) {
+        toggleRatio = ratio;
+        return this;
+    }
+
+    /**
+     * @param enabled true to give the first 25 parameters single letter short flags ({@code -a} .. {@code -z}
+     *                without the reserved {@code -h}), which can be combined to short flag clusters
+     * @return this generator
+     */
+    public SpecGenerator letterShortFlags(boolean enabled) {
+        letterShortFlags = enabled;
+        return this;
+    }
+
+    /**
+     * @param parameters number of parameters, their types are drawn uniformly from all types
+     * @param commands number of commands
+     * @return a new specification
+     */
+    public Spec generate(int parameters, int commands) {
+        Type[] all = Type.values();
+        List<Type> types = new ArrayList<>(parameters);
+        for (int i = 0; i < parameters; i++) types.add(all[random.nextInt(all.length)]);
+        return generate(types, commands);
+    }
+
+    /**
+     * @param types the type of each parameter
+     * @param commands number of commands
+     * @return a new specification with one parameter per entry of types
+     */
+    public Spec generate(List<Type> types, int commands) {
+        List<ParameterSpec> parameterSpecs = new ArrayList<>(types.size());
+        for (int i = 0; i < types.size(); i++) {
+            Type type = types.get(i);
+            String fullFlag = type.name().toLowerCase().replace('_', '-') + "-" + i;
+            String shortFlag = letterShortFlags && i < SHORT_FLAG_LETTERS.length()
+                               ? String.valueOf(SHORT_FLAG_LETTERS.charAt(i)) : "p" + i;
+            parameterSpecs.add(new ParameterSpec(type, fullFlag, shortFlag, random.nextDouble() < mandatoryRatio));
+        }
+
+        List<String> commandNames = new ArrayList<>(commands);
+        for (int i = 0; i < commands; i++) commandNames.add("command" + i);
+
+        // consecutive runs of 2 or 3 commands form toggles
+        List<int[]> toggles = new ArrayList<>();
+        int next = 0;
+        while (next + 1 < commands) {
+            int size = next + 2 < commands && random.nextBoolean() ? 3 : 2;
+            if (random.nextDouble() < toggleRatio) {
+                int[] toggle = new int[size];
+                for (int i = 0; i < size; i++) toggle[i] = next + i;
+                toggles.add(toggle);
+            }
+            next += size;
+        }
+        return new Spec(List.copyOf(parameterSpecs), List.copyOf(commandNames), List.copyOf(toggles));
+    }
+}